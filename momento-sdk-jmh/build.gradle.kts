@@ -0,0 +1,37 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.6.8"
+    id("com.diffplug.spotless") version "5.15.1"
+}
+
+repositories {
+    mavenCentral()
+}
+
+configure<JavaPluginExtension> {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    jmh(project(":momento-sdk"))
+    jmh(project(":momento-sdk-local"))
+    jmh(libs.momento.java.protos)
+    jmh(libs.protobuf.java)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    // Report allocation rates alongside timings so that allocation regressions show up
+    profilers.add("gc")
+    // Pass e.g. -PjmhIncludes=ChannelPool to run a subset of the benchmarks
+    findProperty("jmhIncludes")?.let { includes.add(it as String) }
+}
+
+spotless {
+    java {
+        target("src/jmh/java/**/*.java")
+        removeUnusedImports()
+        googleJavaFormat("1.11.0")
+    }
+}
@@ -0,0 +1,75 @@
+package momento.sdk;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import momento.sdk.config.Configurations;
+import momento.sdk.local.MomentoLocalServer;
+import momento.sdk.messages.CacheGetResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the memory allocated by one get against a {@link MomentoLocalServer}. Read the {@code
+ * gc.alloc.rate.norm} result from the gc profiler: it is the number of bytes allocated per get, by
+ * the client, gRPC and the in-process server together. The client's share should not grow with
+ * the number of caches or requests, since headers are built once per cache name and requests go
+ * directly to a pooled channel.
+ *
+ * <p>A single thread sends the requests so that the figure is not skewed by contention.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CallPathAllocationBenchmark {
+
+  private static final String CACHE_NAME = "call-path-benchmark-cache";
+  private static final byte[] KEY = "call-path-benchmark-key".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] MISSING_KEY =
+      "call-path-benchmark-missing-key".getBytes(StandardCharsets.UTF_8);
+
+  private MomentoLocalServer server;
+  private CacheClient client;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    server = MomentoLocalServer.builder().addCache(CACHE_NAME).start();
+    client =
+        CacheClient.builder(
+                server.getCredentialProvider(),
+                Configurations.LowLatency.Latest(),
+                Duration.ofMinutes(1))
+            .build();
+    client.set(CACHE_NAME, KEY, new byte[16]).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    server.close();
+  }
+
+  @Benchmark
+  public CacheGetResponse getHit() {
+    return client.get(CACHE_NAME, KEY).join();
+  }
+
+  @Benchmark
+  public CacheGetResponse getMiss() {
+    return client.get(CACHE_NAME, MISSING_KEY).join();
+  }
+}
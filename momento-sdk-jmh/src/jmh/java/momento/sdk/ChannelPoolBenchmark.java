@@ -0,0 +1,97 @@
+package momento.sdk;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import momento.sdk.auth.CredentialProvider;
+import momento.sdk.auth.EnvVarCredentialProvider;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.config.transport.ChannelSelectionStrategy;
+import momento.sdk.config.transport.GrpcConfiguration;
+import momento.sdk.messages.CacheGetResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures get throughput as the data plane channel pool grows from 1 to 16 channels.
+ *
+ * <p>Each invocation keeps {@link #CONCURRENT_REQUESTS} gets in flight so that a single channel is
+ * driven past its HTTP/2 concurrent stream limit. Requires the TEST_AUTH_TOKEN and TEST_CACHE_NAME
+ * environment variables, like the integration tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(4)
+public class ChannelPoolBenchmark {
+
+  private static final int CONCURRENT_REQUESTS = 256;
+  private static final String KEY = "channel-pool-benchmark-key";
+
+  @Param({"1", "2", "4", "8", "16"})
+  public int numChannels;
+
+  @Param({"ROUND_ROBIN", "LEAST_OUTSTANDING_REQUESTS"})
+  public ChannelSelectionStrategy channelSelectionStrategy;
+
+  private CacheClient client;
+  private String cacheName;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final CredentialProvider credentialProvider = new EnvVarCredentialProvider("TEST_AUTH_TOKEN");
+    cacheName = System.getenv("TEST_CACHE_NAME");
+
+    final Configuration baseConfiguration = Configurations.InRegion.Latest();
+    final GrpcConfiguration grpcConfiguration =
+        baseConfiguration
+            .getTransportStrategy()
+            .getGrpcConfiguration()
+            .withNumChannels(numChannels)
+            .withChannelSelectionStrategy(channelSelectionStrategy);
+    final Configuration configuration =
+        baseConfiguration.withTransportStrategy(
+            baseConfiguration.getTransportStrategy().withGrpcConfiguration(grpcConfiguration));
+
+    client = CacheClient.builder(credentialProvider, configuration, Duration.ofMinutes(5)).build();
+    client.createCache(cacheName);
+    client.set(cacheName, KEY, "value").join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CONCURRENT_REQUESTS)
+  public void concurrentGets() {
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[CONCURRENT_REQUESTS];
+    for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+      futures[i] = client.get(cacheName, KEY);
+    }
+    CompletableFuture.allOf(futures).join();
+    for (CompletableFuture<?> future : futures) {
+      if (future.join() instanceof CacheGetResponse.Error) {
+        throw (CacheGetResponse.Error) future.join();
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package momento.sdk;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.local.MomentoLocalServer;
+import momento.sdk.messages.CacheGetResponse;
+import momento.sdk.messages.CacheSetResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full get and set through {@link CacheClient} against a {@link MomentoLocalServer} on
+ * the loopback interface, so the results cover the client and gRPC but not the network or Momento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class EndToEndBenchmark {
+
+  private static final String CACHE_NAME = "end-to-end-benchmark-cache";
+  private static final byte[] KEY = "end-to-end-benchmark-key".getBytes(StandardCharsets.UTF_8);
+
+  @Param({"16", "1024", "16384"})
+  public int valueSize;
+
+  private MomentoLocalServer server;
+  private CacheClient client;
+  private byte[] value;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    server = MomentoLocalServer.builder().addCache(CACHE_NAME).start();
+    final Configuration configuration = Configurations.InRegion.Latest();
+    client =
+        CacheClient.builder(server.getCredentialProvider(), configuration, Duration.ofMinutes(1))
+            .build();
+    value = new byte[valueSize];
+    client.set(CACHE_NAME, KEY, value).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    server.close();
+  }
+
+  @Benchmark
+  public CacheGetResponse get() {
+    final CacheGetResponse response = client.get(CACHE_NAME, KEY).join();
+    if (response instanceof CacheGetResponse.Error) {
+      throw (CacheGetResponse.Error) response;
+    }
+    return response;
+  }
+
+  @Benchmark
+  public CacheSetResponse set() {
+    final CacheSetResponse response = client.set(CACHE_NAME, KEY, value).join();
+    if (response instanceof CacheSetResponse.Error) {
+      throw (CacheSetResponse.Error) response;
+    }
+    return response;
+  }
+}
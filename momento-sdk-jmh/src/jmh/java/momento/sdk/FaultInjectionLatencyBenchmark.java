@@ -0,0 +1,107 @@
+package momento.sdk;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import momento.sdk.config.Configurations;
+import momento.sdk.local.FaultInjectionPolicy;
+import momento.sdk.local.LatencyDistribution;
+import momento.sdk.local.MomentoLocalServer;
+import momento.sdk.messages.CacheGetResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency distribution a {@link CacheClient} sees, including p50, p99 and p99.9,
+ * against a {@link MomentoLocalServer} that injects production-like latency and errors. Use it to
+ * compare deadline and retry settings under the same conditions.
+ *
+ * <p>Failed gets are sampled too, so a short deadline shows up as a capped tail rather than as
+ * missing samples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class FaultInjectionLatencyBenchmark {
+
+  private static final String CACHE_NAME = "fault-injection-benchmark-cache";
+  private static final String KEY = "fault-injection-benchmark-key";
+
+  /** Server conditions to measure under. */
+  public enum Scenario {
+    HEALTHY(FaultInjectionPolicy.none()),
+    SLOW_TAIL(FaultInjectionPolicy.none().withLatency(logNormalMillis(2, 50))),
+    THROTTLED(
+        FaultInjectionPolicy.none()
+            .withLatency(logNormalMillis(2, 20))
+            .withResourceExhaustedRate(0.05)),
+    FLAKY(
+        FaultInjectionPolicy.none()
+            .withLatency(logNormalMillis(2, 20))
+            .withUnavailableRate(0.01)
+            .withDeadlineExceededRate(0.01));
+
+    private final FaultInjectionPolicy policy;
+
+    Scenario(FaultInjectionPolicy policy) {
+      this.policy = policy;
+    }
+  }
+
+  private static LatencyDistribution logNormalMillis(long median, long p99) {
+    return LatencyDistribution.logNormal(Duration.ofMillis(median), Duration.ofMillis(p99));
+  }
+
+  @Param({"HEALTHY", "SLOW_TAIL", "THROTTLED", "FLAKY"})
+  public Scenario scenario;
+
+  @Param({"100", "1000"})
+  public long deadlineMillis;
+
+  private MomentoLocalServer server;
+  private CacheClient client;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    server =
+        MomentoLocalServer.builder()
+            .addCache(CACHE_NAME)
+            .setFaultInjectionPolicy(scenario.policy)
+            .start();
+    client =
+        CacheClient.builder(
+                server.getCredentialProvider(),
+                Configurations.InRegion.Latest(),
+                Duration.ofMinutes(1))
+            .setDeadline(Duration.ofMillis(deadlineMillis))
+            .build();
+    client.set(CACHE_NAME, KEY, "value").join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    server.close();
+  }
+
+  @Benchmark
+  public CacheGetResponse get() {
+    return client.get(CACHE_NAME, KEY).join();
+  }
+}
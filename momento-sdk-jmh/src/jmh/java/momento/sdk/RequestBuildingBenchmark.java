@@ -0,0 +1,129 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import grpc.cache_client._DictionarySetRequest;
+import grpc.cache_client._SetRequest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import momento.sdk.auth.CredentialProvider;
+import momento.sdk.config.Configurations;
+import momento.sdk.requests.CollectionTtl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the work {@link ScsDataClient} does on the caller's thread before a request is handed to
+ * gRPC: converting keys and values to {@link ByteString}s and building the request message.
+ *
+ * <p>No request is sent, so the client's channels never connect.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBuildingBenchmark {
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+  static final CredentialProvider UNUSED_ENDPOINTS =
+      new CredentialProvider() {
+        @Override
+        public String getAuthToken() {
+          return "benchmark";
+        }
+
+        @Override
+        public String getControlEndpoint() {
+          return "127.0.0.1";
+        }
+
+        @Override
+        public String getCacheEndpoint() {
+          return "127.0.0.1";
+        }
+      };
+
+  @Param({"16", "1024", "16384"})
+  public int valueSize;
+
+  @Param({"1", "10", "100"})
+  public int dictionaryFields;
+
+  private ScsDataClient client;
+  private String stringKey;
+  private String stringValue;
+  private byte[] byteArrayValue;
+  private ByteString dictionaryName;
+  private Map<String, String> dictionaryElements;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // The endpoints are never connected to.
+    client = new ScsDataClient(UNUSED_ENDPOINTS, Configurations.InRegion.Latest(), TTL);
+    stringKey = "request-building-benchmark-key";
+    final StringBuilder value = new StringBuilder(valueSize);
+    for (int i = 0; i < valueSize; i++) {
+      value.append((char) ('a' + i % 26));
+    }
+    stringValue = value.toString();
+    byteArrayValue = new byte[valueSize];
+    dictionaryName = ByteString.copyFromUtf8("request-building-benchmark-dictionary");
+    dictionaryElements = new HashMap<>();
+    for (int i = 0; i < dictionaryFields; i++) {
+      dictionaryElements.put("field-" + i, "value-" + i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+  }
+
+  @Benchmark
+  public ByteString convertString() {
+    return client.convert(stringValue);
+  }
+
+  @Benchmark
+  public ByteString convertByteArray() {
+    return client.convert(byteArrayValue);
+  }
+
+  @Benchmark
+  public Map<ByteString, ByteString> convertDictionaryElements() {
+    return client.convertStringStringEntryList(dictionaryElements);
+  }
+
+  @Benchmark
+  public _SetRequest buildSetRequest() {
+    return client.buildSetRequest(client.convert(stringKey), client.convert(stringValue), TTL);
+  }
+
+  @Benchmark
+  public _SetRequest buildSetRequestByteArray() {
+    return client.buildSetRequest(
+        client.convert(stringKey), client.convertValue(byteArrayValue), TTL);
+  }
+
+  @Benchmark
+  public _DictionarySetRequest buildDictionarySetFieldsRequest() {
+    return client.buildDictionarySetFieldsRequest(
+        dictionaryName,
+        client.convertStringStringEntryList(dictionaryElements),
+        CollectionTtl.fromCacheTtl());
+  }
+}
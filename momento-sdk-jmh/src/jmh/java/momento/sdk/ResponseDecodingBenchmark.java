@@ -0,0 +1,79 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import grpc.cache_client._DictionaryFieldValuePair;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import momento.sdk.messages.CacheDictionaryFetchResponse;
+import momento.sdk.messages.CacheListFetchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures turning the protobuf payload of a collection fetch into the values callers read from the
+ * response, including constructing the Hit itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDecodingBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int elements;
+
+  @Param({"16", "1024"})
+  public int elementSize;
+
+  private List<_DictionaryFieldValuePair> dictionaryItems;
+  private List<ByteString> listValues;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final ByteString value = ByteString.copyFrom(new byte[elementSize]);
+    dictionaryItems = new ArrayList<>(elements);
+    listValues = new ArrayList<>(elements);
+    for (int i = 0; i < elements; i++) {
+      dictionaryItems.add(
+          _DictionaryFieldValuePair.newBuilder()
+              .setField(ByteString.copyFromUtf8("field-" + i))
+              .setValue(value)
+              .build());
+      listValues.add(value);
+    }
+  }
+
+  @Benchmark
+  public Map<String, String> dictionaryFetchStringString() {
+    return new CacheDictionaryFetchResponse.Hit(dictionaryItems).valueDictionaryStringString();
+  }
+
+  @Benchmark
+  public Map<byte[], byte[]> dictionaryFetchBytesBytes() {
+    return new CacheDictionaryFetchResponse.Hit(dictionaryItems).valueDictionaryBytesBytes();
+  }
+
+  @Benchmark
+  public List<String> listFetchString() {
+    return new CacheListFetchResponse.Hit(listValues).valueListString();
+  }
+
+  @Benchmark
+  public List<byte[]> listFetchByteArray() {
+    return new CacheListFetchResponse.Hit(listValues).valueListByteArray();
+  }
+}
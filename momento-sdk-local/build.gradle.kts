@@ -0,0 +1,26 @@
+plugins {
+    id("momento.publishable-java-lib")
+    id("momento.junit-tests")
+    id("com.diffplug.spotless") version "5.15.1"
+}
+
+dependencies {
+    api(project(":momento-sdk"))
+
+    implementation(libs.momento.java.protos)
+    implementation(libs.grpc.stub)
+    implementation(libs.grpc.nettyshaded)
+    implementation(libs.protobuf.java)
+
+    // Test dependencies
+    testImplementation(libs.junit)
+    testImplementation(libs.assertj)
+    testImplementation(libs.opentelemetry.sdk.testing)
+}
+
+spotless {
+    java {
+        removeUnusedImports()
+        googleJavaFormat("1.11.0")
+    }
+}
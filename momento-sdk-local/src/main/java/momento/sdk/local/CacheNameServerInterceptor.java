@@ -0,0 +1,33 @@
+package momento.sdk.local;
+
+import static io.grpc.Metadata.ASCII_STRING_MARSHALLER;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Makes the cache name the client sends in the "cache" header available to the data plane service
+ * through {@link #CACHE_NAME}.
+ */
+final class CacheNameServerInterceptor implements ServerInterceptor {
+
+  static final Context.Key<String> CACHE_NAME = Context.key("cache");
+
+  private static final Metadata.Key<String> CACHE_NAME_KEY =
+      Metadata.Key.of("cache", ASCII_STRING_MARSHALLER);
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+    final String cacheName = headers.get(CACHE_NAME_KEY);
+    if (cacheName == null) {
+      return next.startCall(call, headers);
+    }
+    return Contexts.interceptCall(
+        Context.current().withValue(CACHE_NAME, cacheName), call, headers, next);
+  }
+}
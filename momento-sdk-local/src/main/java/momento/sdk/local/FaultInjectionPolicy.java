@@ -0,0 +1,163 @@
+package momento.sdk.local;
+
+import io.grpc.Status;
+import java.util.Optional;
+import java.util.Random;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * The latency and errors {@link MomentoLocalServer} injects into requests. Each request is delayed
+ * by a sample of the latency distribution, then fails with at most one of the configured errors,
+ * which are drawn independently of one another in the order RESOURCE_EXHAUSTED, UNAVAILABLE,
+ * DEADLINE_EXCEEDED.
+ */
+public final class FaultInjectionPolicy {
+
+  private static final FaultInjectionPolicy NONE = new FaultInjectionPolicy(null, 0, 0, 0);
+
+  @Nullable private final LatencyDistribution latency;
+  private final double resourceExhaustedRate;
+  private final double unavailableRate;
+  private final double deadlineExceededRate;
+
+  private FaultInjectionPolicy(
+      @Nullable LatencyDistribution latency,
+      double resourceExhaustedRate,
+      double unavailableRate,
+      double deadlineExceededRate) {
+    ensureValidRate(resourceExhaustedRate);
+    ensureValidRate(unavailableRate);
+    ensureValidRate(deadlineExceededRate);
+    this.latency = latency;
+    this.resourceExhaustedRate = resourceExhaustedRate;
+    this.unavailableRate = unavailableRate;
+    this.deadlineExceededRate = deadlineExceededRate;
+  }
+
+  /**
+   * A policy that answers every request immediately and successfully.
+   *
+   * @return the policy
+   */
+  public static FaultInjectionPolicy none() {
+    return NONE;
+  }
+
+  /**
+   * Creates a copy of this policy that delays requests.
+   *
+   * @param latency the distribution of delays, or null for none.
+   * @return the new policy
+   */
+  public FaultInjectionPolicy withLatency(@Nullable LatencyDistribution latency) {
+    return new FaultInjectionPolicy(
+        latency, resourceExhaustedRate, unavailableRate, deadlineExceededRate);
+  }
+
+  /**
+   * Creates a copy of this policy that fails a fraction of requests with RESOURCE_EXHAUSTED, as the
+   * service does when a limit is exceeded.
+   *
+   * @param rate the fraction of requests to fail, between 0 and 1.
+   * @return the new policy
+   */
+  public FaultInjectionPolicy withResourceExhaustedRate(double rate) {
+    return new FaultInjectionPolicy(latency, rate, unavailableRate, deadlineExceededRate);
+  }
+
+  /**
+   * Creates a copy of this policy that fails a fraction of requests with UNAVAILABLE.
+   *
+   * @param rate the fraction of requests to fail, between 0 and 1.
+   * @return the new policy
+   */
+  public FaultInjectionPolicy withUnavailableRate(double rate) {
+    return new FaultInjectionPolicy(latency, resourceExhaustedRate, rate, deadlineExceededRate);
+  }
+
+  /**
+   * Creates a copy of this policy that fails a fraction of requests with DEADLINE_EXCEEDED, as a
+   * server does when it gives up on a request whose deadline has passed.
+   *
+   * @param rate the fraction of requests to fail, between 0 and 1.
+   * @return the new policy
+   */
+  public FaultInjectionPolicy withDeadlineExceededRate(double rate) {
+    return new FaultInjectionPolicy(latency, resourceExhaustedRate, unavailableRate, rate);
+  }
+
+  /**
+   * The distribution of injected delays, if requests are delayed.
+   *
+   * @return the latency distribution, or empty if requests are answered immediately
+   */
+  public Optional<LatencyDistribution> getLatency() {
+    return Optional.ofNullable(latency);
+  }
+
+  /**
+   * The fraction of requests failed with RESOURCE_EXHAUSTED.
+   *
+   * @return the rate
+   */
+  public double getResourceExhaustedRate() {
+    return resourceExhaustedRate;
+  }
+
+  /**
+   * The fraction of requests failed with UNAVAILABLE.
+   *
+   * @return the rate
+   */
+  public double getUnavailableRate() {
+    return unavailableRate;
+  }
+
+  /**
+   * The fraction of requests failed with DEADLINE_EXCEEDED.
+   *
+   * @return the rate
+   */
+  public double getDeadlineExceededRate() {
+    return deadlineExceededRate;
+  }
+
+  long sampleDelayNanos(Random random) {
+    return latency == null ? 0 : Math.max(0, latency.sampleNanos(random));
+  }
+
+  /** Returns the error to fail the request with, or null if it should succeed. */
+  @Nullable
+  Status sampleError(Random random) {
+    if (random.nextDouble() < resourceExhaustedRate) {
+      return Status.RESOURCE_EXHAUSTED.withDescription("Injected fault");
+    }
+    if (random.nextDouble() < unavailableRate) {
+      return Status.UNAVAILABLE.withDescription("Injected fault");
+    }
+    if (random.nextDouble() < deadlineExceededRate) {
+      return Status.DEADLINE_EXCEEDED.withDescription("Injected fault");
+    }
+    return null;
+  }
+
+  private static void ensureValidRate(double rate) {
+    if (!(rate >= 0 && rate <= 1)) {
+      throw new InvalidArgumentException("Fault rates must be between 0 and 1.");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return super.toString()
+        + ": latency: "
+        + latency
+        + " resourceExhaustedRate: "
+        + resourceExhaustedRate
+        + " unavailableRate: "
+        + unavailableRate
+        + " deadlineExceededRate: "
+        + deadlineExceededRate;
+  }
+}
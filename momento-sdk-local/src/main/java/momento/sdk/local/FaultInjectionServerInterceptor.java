@@ -0,0 +1,94 @@
+package momento.sdk.local;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a {@link FaultInjectionPolicy} to every call, chosen by the call's method name.
+ *
+ * <p>Delays never block a thread. A delayed call runs its handler right away, but its response is
+ * held back and sent by the scheduler once the sampled latency has passed. A call that fails is
+ * closed by the scheduler without running the handler.
+ */
+final class FaultInjectionServerInterceptor implements ServerInterceptor {
+
+  private final FaultInjectionPolicy defaultPolicy;
+  private final Map<String, FaultInjectionPolicy> methodPolicies;
+  private final ScheduledExecutorService scheduler;
+
+  FaultInjectionServerInterceptor(
+      FaultInjectionPolicy defaultPolicy,
+      Map<String, FaultInjectionPolicy> methodPolicies,
+      ScheduledExecutorService scheduler) {
+    this.defaultPolicy = defaultPolicy;
+    this.methodPolicies = methodPolicies;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+    final FaultInjectionPolicy policy =
+        methodPolicies.getOrDefault(call.getMethodDescriptor().getBareMethodName(), defaultPolicy);
+    final Random random = ThreadLocalRandom.current();
+    final long delayNanos = policy.sampleDelayNanos(random);
+    final Status error = policy.sampleError(random);
+
+    if (error != null) {
+      scheduler.schedule(() -> call.close(error, new Metadata()), delayNanos, TimeUnit.NANOSECONDS);
+      return new ServerCall.Listener<ReqT>() {};
+    }
+    if (delayNanos == 0) {
+      return next.startCall(call, headers);
+    }
+    return next.startCall(new DelayedServerCall<>(call, delayNanos), headers);
+  }
+
+  /** Holds back a unary call's response until its delay has passed. */
+  private final class DelayedServerCall<ReqT, RespT>
+      extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+    private final long releaseAtNanos;
+    private Metadata responseHeaders;
+    private RespT response;
+
+    private DelayedServerCall(ServerCall<ReqT, RespT> call, long delayNanos) {
+      super(call);
+      this.releaseAtNanos = System.nanoTime() + delayNanos;
+    }
+
+    @Override
+    public void sendHeaders(Metadata headers) {
+      responseHeaders = headers;
+    }
+
+    @Override
+    public void sendMessage(RespT message) {
+      response = message;
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+      scheduler.schedule(
+          () -> {
+            if (responseHeaders != null) {
+              super.sendHeaders(responseHeaders);
+            }
+            if (response != null) {
+              super.sendMessage(response);
+            }
+            super.close(status, trailers);
+          },
+          releaseAtNanos - System.nanoTime(),
+          TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package momento.sdk.local;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/** Decides how long {@link MomentoLocalServer} waits before answering a request. */
+public interface LatencyDistribution {
+
+  /**
+   * Samples the delay for one request.
+   *
+   * @param random the source of randomness to use.
+   * @return the delay in nanoseconds
+   */
+  long sampleNanos(Random random);
+
+  /**
+   * Delays every request by the same amount.
+   *
+   * @param latency the delay.
+   * @return the distribution
+   */
+  static LatencyDistribution fixed(@Nonnull Duration latency) {
+    final long nanos = latency.toNanos();
+    if (nanos < 0) {
+      throw new InvalidArgumentException("Latency must not be negative.");
+    }
+    return random -> nanos;
+  }
+
+  /**
+   * A log-normal distribution, the usual shape of service latency, fitted to a median and a 99th
+   * percentile.
+   *
+   * @param median the median delay.
+   * @param p99 the 99th percentile delay. Must be at least the median.
+   * @return the distribution
+   */
+  static LatencyDistribution logNormal(@Nonnull Duration median, @Nonnull Duration p99) {
+    if (median.isNegative() || median.isZero() || p99.compareTo(median) < 0) {
+      throw new InvalidArgumentException("The median must be positive and at most the p99.");
+    }
+    // The 99th percentile of a standard normal distribution.
+    final double z99 = 2.3263478740408408;
+    final double mu = Math.log(median.toNanos());
+    final double sigma = (Math.log(p99.toNanos()) - mu) / z99;
+    return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+  }
+
+  /**
+   * Replays recorded latencies, picking one at random for each request.
+   *
+   * @param samples latencies observed in production, for example.
+   * @return the distribution
+   */
+  static LatencyDistribution empirical(@Nonnull List<Duration> samples) {
+    if (samples.isEmpty()) {
+      throw new InvalidArgumentException("At least one latency sample is required.");
+    }
+    final long[] nanos = samples.stream().mapToLong(Duration::toNanos).toArray();
+    return random -> nanos[random.nextInt(nanos.length)];
+  }
+}
@@ -0,0 +1,406 @@
+package momento.sdk.local;
+
+import com.google.protobuf.ByteString;
+import io.grpc.Status;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * The items of one cache. Every item has a TTL and holds a scalar value or one of the collection
+ * types. Expired items are dropped when they are next accessed.
+ *
+ * <p>Collections follow the service's rules: one that becomes empty is deleted, and a write only
+ * resets a collection's TTL if it asks to refresh it, apart from the write that creates it.
+ * Operations on an item of the wrong type fail with FAILED_PRECONDITION.
+ *
+ * <p>All operations are synchronized on the cache, which keeps them atomic.
+ */
+final class LocalCache {
+
+  private static final Comparator<Map.Entry<ByteString, Double>> SORTED_SET_ORDER =
+      Comparator.<Map.Entry<ByteString, Double>>comparingDouble(Map.Entry::getValue)
+          .thenComparing(Map.Entry::getKey, LocalCache::compareBytes);
+
+  private final Map<ByteString, Item> items = new HashMap<>();
+
+  synchronized void flush() {
+    items.clear();
+  }
+
+  synchronized void delete(ByteString key) {
+    items.remove(key);
+  }
+
+  @Nullable
+  synchronized ByteString get(ByteString key) {
+    return find(key, ByteString.class);
+  }
+
+  synchronized void set(ByteString key, ByteString value, long ttlMillis) {
+    items.put(key, new Item(value, expiresAt(ttlMillis)));
+  }
+
+  /** Returns true if the value was stored, false if the key already existed. */
+  synchronized boolean setIfNotExists(ByteString key, ByteString value, long ttlMillis) {
+    if (findItem(key) != null) {
+      return false;
+    }
+    set(key, value, ttlMillis);
+    return true;
+  }
+
+  synchronized long increment(ByteString key, long amount, long ttlMillis) {
+    final long value = add(find(key, ByteString.class), amount);
+    set(key, ByteString.copyFromUtf8(Long.toString(value)), ttlMillis);
+    return value;
+  }
+
+  synchronized void dictionarySet(
+      ByteString name, Map<ByteString, ByteString> fields, long ttlMillis, boolean refreshTtl) {
+    findOrCreateDictionary(name, ttlMillis, refreshTtl).putAll(fields);
+  }
+
+  @Nullable
+  synchronized Map<ByteString, ByteString> dictionaryFetch(ByteString name) {
+    final Map<ByteString, ByteString> dictionary = findDictionary(name);
+    return dictionary == null ? null : new LinkedHashMap<>(dictionary);
+  }
+
+  synchronized long dictionaryIncrement(
+      ByteString name, ByteString field, long amount, long ttlMillis, boolean refreshTtl) {
+    final Map<ByteString, ByteString> dictionary =
+        findOrCreateDictionary(name, ttlMillis, refreshTtl);
+    final long value = add(dictionary.get(field), amount);
+    dictionary.put(field, ByteString.copyFromUtf8(Long.toString(value)));
+    return value;
+  }
+
+  synchronized void dictionaryDelete(ByteString name, Collection<ByteString> fields) {
+    final Map<ByteString, ByteString> dictionary = findDictionary(name);
+    if (dictionary != null) {
+      dictionary.keySet().removeAll(fields);
+      deleteIfEmpty(name, dictionary.isEmpty());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  synchronized void setUnion(
+      ByteString name, Collection<ByteString> elements, long ttlMillis, boolean refreshTtl) {
+    findOrCreate(name, Set.class, LinkedHashSet::new, ttlMillis, refreshTtl).addAll(elements);
+  }
+
+  synchronized void setRemove(ByteString name, Collection<ByteString> elements) {
+    final Set<ByteString> set = findSet(name);
+    if (set != null) {
+      set.removeAll(elements);
+      deleteIfEmpty(name, set.isEmpty());
+    }
+  }
+
+  @Nullable
+  synchronized Set<ByteString> setFetch(ByteString name) {
+    final Set<ByteString> set = findSet(name);
+    return set == null ? null : new LinkedHashSet<>(set);
+  }
+
+  /**
+   * Appends the values to the list, then drops values from the front until it is no longer than
+   * truncateFrontToSize, if that is positive.
+   *
+   * @return the new length of the list.
+   */
+  synchronized int listConcatenateBack(
+      ByteString name,
+      List<ByteString> values,
+      long ttlMillis,
+      boolean refreshTtl,
+      int truncateFrontToSize) {
+    final List<ByteString> list = findOrCreateList(name, ttlMillis, refreshTtl);
+    list.addAll(values);
+    if (truncateFrontToSize > 0 && list.size() > truncateFrontToSize) {
+      list.subList(0, list.size() - truncateFrontToSize).clear();
+    }
+    return list.size();
+  }
+
+  /**
+   * Prepends the values to the list, then drops values from the back until it is no longer than
+   * truncateBackToSize, if that is positive.
+   *
+   * @return the new length of the list.
+   */
+  synchronized int listConcatenateFront(
+      ByteString name,
+      List<ByteString> values,
+      long ttlMillis,
+      boolean refreshTtl,
+      int truncateBackToSize) {
+    final List<ByteString> list = findOrCreateList(name, ttlMillis, refreshTtl);
+    list.addAll(0, values);
+    if (truncateBackToSize > 0 && list.size() > truncateBackToSize) {
+      list.subList(truncateBackToSize, list.size()).clear();
+    }
+    return list.size();
+  }
+
+  @Nullable
+  synchronized ByteString listPopFront(ByteString name) {
+    return listPop(name, true);
+  }
+
+  @Nullable
+  synchronized ByteString listPopBack(ByteString name) {
+    return listPop(name, false);
+  }
+
+  /**
+   * Returns the values from start, inclusive, to end, exclusive. Negative indexes count back from
+   * the end of the list, and a null index means the start or end of the list.
+   */
+  @Nullable
+  synchronized List<ByteString> listFetch(
+      ByteString name, @Nullable Integer start, @Nullable Integer end) {
+    final List<ByteString> list = findList(name);
+    if (list == null) {
+      return null;
+    }
+    final int from = resolveIndex(start, 0, list.size());
+    final int to = resolveIndex(end, list.size(), list.size());
+    return from < to ? new ArrayList<>(list.subList(from, to)) : new ArrayList<>();
+  }
+
+  @Nullable
+  synchronized Integer listLength(ByteString name) {
+    final List<ByteString> list = findList(name);
+    return list == null ? null : list.size();
+  }
+
+  synchronized void listRemove(ByteString name, ByteString value) {
+    final List<ByteString> list = findList(name);
+    if (list != null) {
+      list.removeIf(value::equals);
+      deleteIfEmpty(name, list.isEmpty());
+    }
+  }
+
+  /** Keeps only the values in the range, which is interpreted as it is by {@link #listFetch}. */
+  synchronized void listRetain(ByteString name, @Nullable Integer start, @Nullable Integer end) {
+    final List<ByteString> list = findList(name);
+    if (list == null) {
+      return;
+    }
+    final int from = resolveIndex(start, 0, list.size());
+    final int to = Math.max(from, resolveIndex(end, list.size(), list.size()));
+    list.subList(to, list.size()).clear();
+    list.subList(0, from).clear();
+    deleteIfEmpty(name, list.isEmpty());
+  }
+
+  synchronized void sortedSetPut(
+      ByteString name, Map<ByteString, Double> elements, long ttlMillis, boolean refreshTtl) {
+    findOrCreate(name, SortedSet.class, SortedSet::new, ttlMillis, refreshTtl)
+        .scores
+        .putAll(elements);
+  }
+
+  /**
+   * Returns the elements from start rank, inclusive, to end rank, exclusive, in the given order.
+   * Ranks are interpreted as list indexes are by {@link #listFetch}.
+   */
+  @Nullable
+  synchronized List<Map.Entry<ByteString, Double>> sortedSetFetchByRank(
+      ByteString name, @Nullable Integer start, @Nullable Integer end, boolean descending) {
+    final List<Map.Entry<ByteString, Double>> elements = sortedElements(name, descending);
+    if (elements == null) {
+      return null;
+    }
+    final int from = resolveIndex(start, 0, elements.size());
+    final int to = resolveIndex(end, elements.size(), elements.size());
+    return from < to ? new ArrayList<>(elements.subList(from, to)) : new ArrayList<>();
+  }
+
+  /**
+   * Returns the elements with scores between min and max, inclusive, in the given order, after
+   * skipping offset of them. A null bound is unbounded, and a negative count returns them all.
+   */
+  @Nullable
+  synchronized List<Map.Entry<ByteString, Double>> sortedSetFetchByScore(
+      ByteString name,
+      @Nullable Double min,
+      @Nullable Double max,
+      boolean descending,
+      int offset,
+      int count) {
+    final List<Map.Entry<ByteString, Double>> elements = sortedElements(name, descending);
+    if (elements == null) {
+      return null;
+    }
+    return elements.stream()
+        .filter(e -> (min == null || e.getValue() >= min) && (max == null || e.getValue() <= max))
+        .skip(Math.max(0, offset))
+        .limit(count < 0 ? Long.MAX_VALUE : count)
+        .collect(Collectors.toList());
+  }
+
+  @Nullable
+  private List<Map.Entry<ByteString, Double>> sortedElements(ByteString name, boolean descending) {
+    final SortedSet sortedSet = find(name, SortedSet.class);
+    if (sortedSet == null) {
+      return null;
+    }
+    final List<Map.Entry<ByteString, Double>> elements = new ArrayList<>();
+    for (Map.Entry<ByteString, Double> e : sortedSet.scores.entrySet()) {
+      elements.add(new AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue()));
+    }
+    elements.sort(descending ? SORTED_SET_ORDER.reversed() : SORTED_SET_ORDER);
+    return elements;
+  }
+
+  @Nullable
+  private ByteString listPop(ByteString name, boolean front) {
+    final List<ByteString> list = findList(name);
+    if (list == null) {
+      return null;
+    }
+    final ByteString value = list.remove(front ? 0 : list.size() - 1);
+    deleteIfEmpty(name, list.isEmpty());
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Nullable
+  private Map<ByteString, ByteString> findDictionary(ByteString name) {
+    return find(name, Map.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<ByteString, ByteString> findOrCreateDictionary(
+      ByteString name, long ttlMillis, boolean refreshTtl) {
+    return findOrCreate(name, Map.class, LinkedHashMap::new, ttlMillis, refreshTtl);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Nullable
+  private Set<ByteString> findSet(ByteString name) {
+    return find(name, Set.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Nullable
+  private List<ByteString> findList(ByteString name) {
+    return find(name, List.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ByteString> findOrCreateList(ByteString name, long ttlMillis, boolean refreshTtl) {
+    return findOrCreate(name, List.class, ArrayList::new, ttlMillis, refreshTtl);
+  }
+
+  @Nullable
+  private <T> T find(ByteString key, Class<T> type) {
+    final Item item = findItem(key);
+    if (item == null) {
+      return null;
+    }
+    if (!type.isInstance(item.value)) {
+      throw Status.FAILED_PRECONDITION
+          .withDescription("The item is not of the type this operation requires")
+          .asRuntimeException();
+    }
+    return type.cast(item.value);
+  }
+
+  private <T> T findOrCreate(
+      ByteString key, Class<T> type, Supplier<T> factory, long ttlMillis, boolean refreshTtl) {
+    final T existing = find(key, type);
+    if (existing == null) {
+      final T created = factory.get();
+      items.put(key, new Item(created, expiresAt(ttlMillis)));
+      return created;
+    }
+    if (refreshTtl) {
+      items.get(key).expiresAtNanos = expiresAt(ttlMillis);
+    }
+    return existing;
+  }
+
+  @Nullable
+  private Item findItem(ByteString key) {
+    final Item item = items.get(key);
+    if (item != null && System.nanoTime() - item.expiresAtNanos >= 0) {
+      items.remove(key);
+      return null;
+    }
+    return item;
+  }
+
+  private void deleteIfEmpty(ByteString name, boolean isEmpty) {
+    if (isEmpty) {
+      items.remove(name);
+    }
+  }
+
+  private static long expiresAt(long ttlMillis) {
+    return System.nanoTime() + ttlMillis * 1_000_000;
+  }
+
+  private static long add(@Nullable ByteString current, long amount) {
+    if (current == null) {
+      return amount;
+    }
+    try {
+      return Math.addExact(Long.parseLong(current.toStringUtf8()), amount);
+    } catch (NumberFormatException | ArithmeticException e) {
+      throw Status.FAILED_PRECONDITION
+          .withDescription("The value is not a 64-bit integer, or the result would overflow")
+          .asRuntimeException();
+    }
+  }
+
+  private static int resolveIndex(@Nullable Integer index, int defaultIndex, int size) {
+    if (index == null) {
+      return defaultIndex;
+    }
+    final int resolved = index < 0 ? size + index : index;
+    return Math.max(0, Math.min(size, resolved));
+  }
+
+  private static int compareBytes(ByteString a, ByteString b) {
+    final Iterator<Byte> left = a.iterator();
+    final Iterator<Byte> right = b.iterator();
+    while (left.hasNext() && right.hasNext()) {
+      final int diff = Byte.toUnsignedInt(left.next()) - Byte.toUnsignedInt(right.next());
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return Integer.compare(a.size(), b.size());
+  }
+
+  private static final class Item {
+    private final Object value;
+    private long expiresAtNanos;
+
+    private Item(Object value, long expiresAtNanos) {
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+  }
+
+  /** A sorted set is held as its scores and only ordered when it is read. */
+  private static final class SortedSet {
+    private final Map<ByteString, Double> scores = new HashMap<>();
+  }
+}
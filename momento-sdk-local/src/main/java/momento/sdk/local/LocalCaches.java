@@ -0,0 +1,52 @@
+package momento.sdk.local;
+
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/** The caches held by a {@link MomentoLocalServer}, shared by its control and data services. */
+final class LocalCaches {
+
+  private final ConcurrentMap<String, LocalCache> caches = new ConcurrentHashMap<>();
+
+  void create(String cacheName) {
+    if (caches.putIfAbsent(cacheName, new LocalCache()) != null) {
+      throw Status.ALREADY_EXISTS
+          .withDescription("Cache " + cacheName + " already exists")
+          .asRuntimeException();
+    }
+  }
+
+  void delete(String cacheName) {
+    if (caches.remove(cacheName) == null) {
+      throw notFound(cacheName);
+    }
+  }
+
+  List<String> list() {
+    return new ArrayList<>(caches.keySet());
+  }
+
+  /** Returns the cache with the given name, failing with NOT_FOUND if it does not exist. */
+  LocalCache get(@Nullable String cacheName) {
+    if (cacheName == null) {
+      throw Status.INVALID_ARGUMENT
+          .withDescription("The request has no cache header")
+          .asRuntimeException();
+    }
+    final LocalCache cache = caches.get(cacheName);
+    if (cache == null) {
+      throw notFound(cacheName);
+    }
+    return cache;
+  }
+
+  private static RuntimeException notFound(String cacheName) {
+    return Status.NOT_FOUND
+        .withDescription("Cache " + cacheName + " not found")
+        .asRuntimeException();
+  }
+}
@@ -0,0 +1,75 @@
+package momento.sdk.local;
+
+import static momento.sdk.local.LocalScsService.respond;
+
+import grpc.control_client.ScsControlGrpc;
+import grpc.control_client._Cache;
+import grpc.control_client._CreateCacheRequest;
+import grpc.control_client._CreateCacheResponse;
+import grpc.control_client._DeleteCacheRequest;
+import grpc.control_client._DeleteCacheResponse;
+import grpc.control_client._FlushCacheRequest;
+import grpc.control_client._FlushCacheResponse;
+import grpc.control_client._ListCachesRequest;
+import grpc.control_client._ListCachesResponse;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * The control plane service backed by {@link LocalCaches}. Caches are listed in a single page, and
+ * signing keys are not supported.
+ */
+final class LocalScsControlService extends ScsControlGrpc.ScsControlImplBase {
+
+  private final LocalCaches caches;
+
+  LocalScsControlService(LocalCaches caches) {
+    this.caches = caches;
+  }
+
+  @Override
+  public void createCache(
+      _CreateCacheRequest request, StreamObserver<_CreateCacheResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          caches.create(request.getCacheName());
+          return _CreateCacheResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void deleteCache(
+      _DeleteCacheRequest request, StreamObserver<_DeleteCacheResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          caches.delete(request.getCacheName());
+          return _DeleteCacheResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void listCaches(
+      _ListCachesRequest request, StreamObserver<_ListCachesResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final _ListCachesResponse.Builder response = _ListCachesResponse.newBuilder();
+          for (String cacheName : caches.list()) {
+            response.addCache(_Cache.newBuilder().setCacheName(cacheName));
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void flushCache(
+      _FlushCacheRequest request, StreamObserver<_FlushCacheResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          caches.get(request.getCacheName()).flush();
+          return _FlushCacheResponse.getDefaultInstance();
+        });
+  }
+}
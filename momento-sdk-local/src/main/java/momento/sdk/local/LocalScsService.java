@@ -0,0 +1,572 @@
+package momento.sdk.local;
+
+import com.google.protobuf.ByteString;
+import grpc.cache_client.ECacheResult;
+import grpc.cache_client.ScsGrpc;
+import grpc.cache_client._DeleteRequest;
+import grpc.cache_client._DeleteResponse;
+import grpc.cache_client._DictionaryDeleteRequest;
+import grpc.cache_client._DictionaryDeleteResponse;
+import grpc.cache_client._DictionaryFetchRequest;
+import grpc.cache_client._DictionaryFetchResponse;
+import grpc.cache_client._DictionaryFieldValuePair;
+import grpc.cache_client._DictionaryGetRequest;
+import grpc.cache_client._DictionaryGetResponse;
+import grpc.cache_client._DictionaryIncrementRequest;
+import grpc.cache_client._DictionaryIncrementResponse;
+import grpc.cache_client._DictionarySetRequest;
+import grpc.cache_client._DictionarySetResponse;
+import grpc.cache_client._GetRequest;
+import grpc.cache_client._GetResponse;
+import grpc.cache_client._IncrementRequest;
+import grpc.cache_client._IncrementResponse;
+import grpc.cache_client._ListConcatenateBackRequest;
+import grpc.cache_client._ListConcatenateBackResponse;
+import grpc.cache_client._ListConcatenateFrontRequest;
+import grpc.cache_client._ListConcatenateFrontResponse;
+import grpc.cache_client._ListFetchRequest;
+import grpc.cache_client._ListFetchResponse;
+import grpc.cache_client._ListLengthRequest;
+import grpc.cache_client._ListLengthResponse;
+import grpc.cache_client._ListPopBackRequest;
+import grpc.cache_client._ListPopBackResponse;
+import grpc.cache_client._ListPopFrontRequest;
+import grpc.cache_client._ListPopFrontResponse;
+import grpc.cache_client._ListPushBackRequest;
+import grpc.cache_client._ListPushBackResponse;
+import grpc.cache_client._ListPushFrontRequest;
+import grpc.cache_client._ListPushFrontResponse;
+import grpc.cache_client._ListRemoveRequest;
+import grpc.cache_client._ListRemoveResponse;
+import grpc.cache_client._ListRetainRequest;
+import grpc.cache_client._ListRetainResponse;
+import grpc.cache_client._SetDifferenceRequest;
+import grpc.cache_client._SetDifferenceResponse;
+import grpc.cache_client._SetFetchRequest;
+import grpc.cache_client._SetFetchResponse;
+import grpc.cache_client._SetIfNotExistsRequest;
+import grpc.cache_client._SetIfNotExistsResponse;
+import grpc.cache_client._SetRequest;
+import grpc.cache_client._SetResponse;
+import grpc.cache_client._SetUnionRequest;
+import grpc.cache_client._SetUnionResponse;
+import grpc.cache_client._SortedSetElement;
+import grpc.cache_client._SortedSetFetchRequest;
+import grpc.cache_client._SortedSetFetchResponse;
+import grpc.cache_client._SortedSetPutRequest;
+import grpc.cache_client._SortedSetPutResponse;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The data plane service backed by {@link LocalCaches}. Requests that the SDK does not send, such
+ * as a set difference by minuend, fail with UNIMPLEMENTED.
+ */
+final class LocalScsService extends ScsGrpc.ScsImplBase {
+
+  private final LocalCaches caches;
+
+  LocalScsService(LocalCaches caches) {
+    this.caches = caches;
+  }
+
+  @Override
+  public void get(_GetRequest request, StreamObserver<_GetResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final ByteString value = cache().get(request.getCacheKey());
+          return value == null
+              ? _GetResponse.newBuilder().setResult(ECacheResult.Miss).build()
+              : _GetResponse.newBuilder().setResult(ECacheResult.Hit).setCacheBody(value).build();
+        });
+  }
+
+  @Override
+  public void set(_SetRequest request, StreamObserver<_SetResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          cache().set(request.getCacheKey(), request.getCacheBody(), request.getTtlMilliseconds());
+          return _SetResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void setIfNotExists(
+      _SetIfNotExistsRequest request, StreamObserver<_SetIfNotExistsResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final _SetIfNotExistsResponse.Builder response = _SetIfNotExistsResponse.newBuilder();
+          if (cache()
+              .setIfNotExists(
+                  request.getCacheKey(), request.getCacheBody(), request.getTtlMilliseconds())) {
+            response.getStoredBuilder();
+          } else {
+            response.getNotStoredBuilder();
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void delete(_DeleteRequest request, StreamObserver<_DeleteResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          cache().delete(request.getCacheKey());
+          return _DeleteResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void increment(
+      _IncrementRequest request, StreamObserver<_IncrementResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final long value =
+              cache()
+                  .increment(
+                      request.getCacheKey(), request.getAmount(), request.getTtlMilliseconds());
+          return _IncrementResponse.newBuilder().setValue(value).build();
+        });
+  }
+
+  @Override
+  public void dictionarySet(
+      _DictionarySetRequest request, StreamObserver<_DictionarySetResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final Map<ByteString, ByteString> fields = new LinkedHashMap<>();
+          for (_DictionaryFieldValuePair item : request.getItemsList()) {
+            fields.put(item.getField(), item.getValue());
+          }
+          cache()
+              .dictionarySet(
+                  request.getDictionaryName(),
+                  fields,
+                  request.getTtlMilliseconds(),
+                  request.getRefreshTtl());
+          return _DictionarySetResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void dictionaryGet(
+      _DictionaryGetRequest request, StreamObserver<_DictionaryGetResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final Map<ByteString, ByteString> dictionary =
+              cache().dictionaryFetch(request.getDictionaryName());
+          final _DictionaryGetResponse.Builder response = _DictionaryGetResponse.newBuilder();
+          if (dictionary == null) {
+            response.getMissingBuilder();
+            return response.build();
+          }
+          response.getFoundBuilder();
+          for (ByteString field : request.getFieldsList()) {
+            final ByteString value = dictionary.get(field);
+            if (value == null) {
+              response.getFoundBuilder().addItemsBuilder().setResult(ECacheResult.Miss);
+            } else {
+              response
+                  .getFoundBuilder()
+                  .addItemsBuilder()
+                  .setResult(ECacheResult.Hit)
+                  .setCacheBody(value);
+            }
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void dictionaryFetch(
+      _DictionaryFetchRequest request, StreamObserver<_DictionaryFetchResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final Map<ByteString, ByteString> dictionary =
+              cache().dictionaryFetch(request.getDictionaryName());
+          final _DictionaryFetchResponse.Builder response = _DictionaryFetchResponse.newBuilder();
+          if (dictionary == null) {
+            response.getMissingBuilder();
+            return response.build();
+          }
+          response.getFoundBuilder();
+          for (Map.Entry<ByteString, ByteString> entry : dictionary.entrySet()) {
+            response
+                .getFoundBuilder()
+                .addItems(
+                    _DictionaryFieldValuePair.newBuilder()
+                        .setField(entry.getKey())
+                        .setValue(entry.getValue()));
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void dictionaryIncrement(
+      _DictionaryIncrementRequest request,
+      StreamObserver<_DictionaryIncrementResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final long value =
+              cache()
+                  .dictionaryIncrement(
+                      request.getDictionaryName(),
+                      request.getField(),
+                      request.getAmount(),
+                      request.getTtlMilliseconds(),
+                      request.getRefreshTtl());
+          return _DictionaryIncrementResponse.newBuilder().setValue(value).build();
+        });
+  }
+
+  @Override
+  public void dictionaryDelete(
+      _DictionaryDeleteRequest request,
+      StreamObserver<_DictionaryDeleteResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          if (request.hasSome()) {
+            cache()
+                .dictionaryDelete(request.getDictionaryName(), request.getSome().getFieldsList());
+          } else {
+            cache().delete(request.getDictionaryName());
+          }
+          return _DictionaryDeleteResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void setUnion(
+      _SetUnionRequest request, StreamObserver<_SetUnionResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          cache()
+              .setUnion(
+                  request.getSetName(),
+                  request.getElementsList(),
+                  request.getTtlMilliseconds(),
+                  request.getRefreshTtl());
+          return _SetUnionResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void setDifference(
+      _SetDifferenceRequest request, StreamObserver<_SetDifferenceResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          if (!request.hasSubtrahend()) {
+            throw Status.UNIMPLEMENTED
+                .withDescription("Only set differences by subtrahend are supported")
+                .asRuntimeException();
+          }
+          if (request.getSubtrahend().hasSet()) {
+            cache()
+                .setRemove(
+                    request.getSetName(), request.getSubtrahend().getSet().getElementsList());
+          } else {
+            cache().delete(request.getSetName());
+          }
+          return _SetDifferenceResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void setFetch(
+      _SetFetchRequest request, StreamObserver<_SetFetchResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final Set<ByteString> set = cache().setFetch(request.getSetName());
+          final _SetFetchResponse.Builder response = _SetFetchResponse.newBuilder();
+          if (set == null) {
+            response.getMissingBuilder();
+          } else {
+            response.getFoundBuilder().addAllElements(set);
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void listConcatenateBack(
+      _ListConcatenateBackRequest request,
+      StreamObserver<_ListConcatenateBackResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final int length =
+              cache()
+                  .listConcatenateBack(
+                      request.getListName(),
+                      request.getValuesList(),
+                      request.getTtlMilliseconds(),
+                      request.getRefreshTtl(),
+                      request.getTruncateFrontToSize());
+          return _ListConcatenateBackResponse.newBuilder().setListLength(length).build();
+        });
+  }
+
+  @Override
+  public void listConcatenateFront(
+      _ListConcatenateFrontRequest request,
+      StreamObserver<_ListConcatenateFrontResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final int length =
+              cache()
+                  .listConcatenateFront(
+                      request.getListName(),
+                      request.getValuesList(),
+                      request.getTtlMilliseconds(),
+                      request.getRefreshTtl(),
+                      request.getTruncateBackToSize());
+          return _ListConcatenateFrontResponse.newBuilder().setListLength(length).build();
+        });
+  }
+
+  @Override
+  public void listPushBack(
+      _ListPushBackRequest request, StreamObserver<_ListPushBackResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final int length =
+              cache()
+                  .listConcatenateBack(
+                      request.getListName(),
+                      Collections.singletonList(request.getValue()),
+                      request.getTtlMilliseconds(),
+                      request.getRefreshTtl(),
+                      request.getTruncateFrontToSize());
+          return _ListPushBackResponse.newBuilder().setListLength(length).build();
+        });
+  }
+
+  @Override
+  public void listPushFront(
+      _ListPushFrontRequest request, StreamObserver<_ListPushFrontResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final int length =
+              cache()
+                  .listConcatenateFront(
+                      request.getListName(),
+                      Collections.singletonList(request.getValue()),
+                      request.getTtlMilliseconds(),
+                      request.getRefreshTtl(),
+                      request.getTruncateBackToSize());
+          return _ListPushFrontResponse.newBuilder().setListLength(length).build();
+        });
+  }
+
+  @Override
+  public void listPopBack(
+      _ListPopBackRequest request, StreamObserver<_ListPopBackResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final ByteString value = cache().listPopBack(request.getListName());
+          final _ListPopBackResponse.Builder response = _ListPopBackResponse.newBuilder();
+          if (value == null) {
+            response.getMissingBuilder();
+          } else {
+            response.getFoundBuilder().setBack(value);
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void listPopFront(
+      _ListPopFrontRequest request, StreamObserver<_ListPopFrontResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final ByteString value = cache().listPopFront(request.getListName());
+          final _ListPopFrontResponse.Builder response = _ListPopFrontResponse.newBuilder();
+          if (value == null) {
+            response.getMissingBuilder();
+          } else {
+            response.getFoundBuilder().setFront(value);
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void listFetch(
+      _ListFetchRequest request, StreamObserver<_ListFetchResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final List<ByteString> values =
+              cache()
+                  .listFetch(
+                      request.getListName(),
+                      request.hasInclusiveStart() ? request.getInclusiveStart() : null,
+                      request.hasExclusiveEnd() ? request.getExclusiveEnd() : null);
+          final _ListFetchResponse.Builder response = _ListFetchResponse.newBuilder();
+          if (values == null) {
+            response.getMissingBuilder();
+          } else {
+            response.getFoundBuilder().addAllValues(values);
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void listLength(
+      _ListLengthRequest request, StreamObserver<_ListLengthResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final Integer length = cache().listLength(request.getListName());
+          final _ListLengthResponse.Builder response = _ListLengthResponse.newBuilder();
+          if (length == null) {
+            response.getMissingBuilder();
+          } else {
+            response.getFoundBuilder().setLength(length);
+          }
+          return response.build();
+        });
+  }
+
+  @Override
+  public void listRemove(
+      _ListRemoveRequest request, StreamObserver<_ListRemoveResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          cache().listRemove(request.getListName(), request.getAllElementsWithValue());
+          return _ListRemoveResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void listRetain(
+      _ListRetainRequest request, StreamObserver<_ListRetainResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          cache()
+              .listRetain(
+                  request.getListName(),
+                  request.hasInclusiveStart() ? request.getInclusiveStart() : null,
+                  request.hasExclusiveEnd() ? request.getExclusiveEnd() : null);
+          return _ListRetainResponse.getDefaultInstance();
+        });
+  }
+
+  @Override
+  public void sortedSetPut(
+      _SortedSetPutRequest request, StreamObserver<_SortedSetPutResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final Map<ByteString, Double> elements = new LinkedHashMap<>();
+          for (_SortedSetElement element : request.getElementsList()) {
+            elements.put(element.getValue(), element.getScore());
+          }
+          cache()
+              .sortedSetPut(
+                  request.getSetName(),
+                  elements,
+                  request.getTtlMilliseconds(),
+                  request.getRefreshTtl());
+          return _SortedSetPutResponse.getDefaultInstance();
+        });
+  }
+
+  /** Always returns elements with their scores, which is what the SDK asks for. */
+  @Override
+  public void sortedSetFetch(
+      _SortedSetFetchRequest request, StreamObserver<_SortedSetFetchResponse> responseObserver) {
+    respond(
+        responseObserver,
+        () -> {
+          final boolean descending =
+              request.getOrder() == _SortedSetFetchRequest.Order.DESCENDING;
+          final List<Map.Entry<ByteString, Double>> elements;
+          if (request.hasByScore()) {
+            final _SortedSetFetchRequest._ByScore byScore = request.getByScore();
+            elements =
+                cache()
+                    .sortedSetFetchByScore(
+                        request.getSetName(),
+                        byScore.hasMinScore() ? byScore.getMinScore().getScore() : null,
+                        byScore.hasMaxScore() ? byScore.getMaxScore().getScore() : null,
+                        descending,
+                        byScore.getOffset(),
+                        byScore.getCount());
+          } else {
+            final _SortedSetFetchRequest._ByIndex byIndex = request.getByIndex();
+            elements =
+                cache()
+                    .sortedSetFetchByRank(
+                        request.getSetName(),
+                        byIndex.hasInclusiveStartIndex() ? byIndex.getInclusiveStartIndex() : null,
+                        byIndex.hasExclusiveEndIndex() ? byIndex.getExclusiveEndIndex() : null,
+                        descending);
+          }
+
+          final _SortedSetFetchResponse.Builder response = _SortedSetFetchResponse.newBuilder();
+          if (elements == null) {
+            response.getMissingBuilder();
+            return response.build();
+          }
+          // Set the found case even when no element is in range.
+          response.getFoundBuilder().getValuesWithScoresBuilder();
+          for (Map.Entry<ByteString, Double> element : elements) {
+            response
+                .getFoundBuilder()
+                .getValuesWithScoresBuilder()
+                .addElements(
+                    _SortedSetElement.newBuilder()
+                        .setValue(element.getKey())
+                        .setScore(element.getValue()));
+          }
+          return response.build();
+        });
+  }
+
+  private LocalCache cache() {
+    return caches.get(CacheNameServerInterceptor.CACHE_NAME.get());
+  }
+
+  /** Sends the handler's response, or the status it failed with. */
+  static <T> void respond(StreamObserver<T> responseObserver, Supplier<T> handler) {
+    final T response;
+    try {
+      response = handler.get();
+    } catch (StatusRuntimeException e) {
+      responseObserver.onError(e);
+      return;
+    }
+    responseObserver.onNext(response);
+    responseObserver.onCompleted();
+  }
+}
@@ -0,0 +1,131 @@
+package momento.sdk.local;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import momento.sdk.auth.CredentialProvider;
+import momento.sdk.auth.LocalCredentialProvider;
+
+/**
+ * An in-memory stand-in for the Momento service that runs in the current JVM and listens on a
+ * loopback port, for tests and benchmarks that should not depend on the network or an account.
+ *
+ * <p>It serves the control plane and every data plane operation the SDK sends, including TTLs, but
+ * ignores auth tokens and enforces no limits. Latency and errors can be injected into data plane
+ * requests with a {@link FaultInjectionPolicy}. Point a client at the server with {@link
+ * #getCredentialProvider()}:
+ *
+ * <pre>{@code
+ * try (MomentoLocalServer server = MomentoLocalServer.builder().addCache("cache").start();
+ *     CacheClient client =
+ *         CacheClient.builder(server.getCredentialProvider(), configuration, ttl).build()) {
+ *   client.set("cache", "key", "value").join();
+ * }
+ * }</pre>
+ */
+public final class MomentoLocalServer implements Closeable {
+
+  private static final String HOSTNAME = "127.0.0.1";
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+  private final Server server;
+  @Nullable private final ScheduledExecutorService faultInjectionScheduler;
+
+  MomentoLocalServer(
+      int port,
+      Iterable<String> cacheNames,
+      FaultInjectionPolicy faultInjectionPolicy,
+      Map<String, FaultInjectionPolicy> methodFaultInjectionPolicies)
+      throws IOException {
+    final LocalCaches caches = new LocalCaches();
+    for (String cacheName : cacheNames) {
+      caches.create(cacheName);
+    }
+
+    final List<ServerInterceptor> dataInterceptors = new ArrayList<>();
+    dataInterceptors.add(new CacheNameServerInterceptor());
+    if (faultInjectionPolicy != FaultInjectionPolicy.none()
+        || !methodFaultInjectionPolicies.isEmpty()) {
+      final ThreadFactory threadFactory =
+          runnable -> {
+            final Thread thread = new Thread(runnable, "momento-local-fault-injection");
+            thread.setDaemon(true);
+            return thread;
+          };
+      this.faultInjectionScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+      dataInterceptors.add(
+          new FaultInjectionServerInterceptor(
+              faultInjectionPolicy, methodFaultInjectionPolicies, faultInjectionScheduler));
+    } else {
+      this.faultInjectionScheduler = null;
+    }
+
+    try {
+      this.server =
+          NettyServerBuilder.forAddress(new InetSocketAddress(HOSTNAME, port))
+              .directExecutor()
+              .addService(
+                  ServerInterceptors.intercept(new LocalScsService(caches), dataInterceptors))
+              .addService(new LocalScsControlService(caches))
+              .build()
+              .start();
+    } catch (IOException e) {
+      if (faultInjectionScheduler != null) {
+        faultInjectionScheduler.shutdownNow();
+      }
+      throw e;
+    }
+  }
+
+  public static MomentoLocalServerBuilder builder() {
+    return new MomentoLocalServerBuilder();
+  }
+
+  /**
+   * The port the server listens on, which is picked by the operating system unless one was set.
+   *
+   * @return the port
+   */
+  public int getPort() {
+    return server.getPort();
+  }
+
+  /**
+   * Credentials that connect a client to this server.
+   *
+   * @return the credential provider
+   */
+  public CredentialProvider getCredentialProvider() {
+    return new LocalCredentialProvider(HOSTNAME, getPort());
+  }
+
+  /** Stops the server, waiting briefly for in-flight requests to finish. */
+  @Override
+  public void close() {
+    server.shutdown();
+    try {
+      if (!server.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        server.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      server.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    if (faultInjectionScheduler != null) {
+      faultInjectionScheduler.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package momento.sdk.local;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/** Builder for {@link MomentoLocalServer} */
+public final class MomentoLocalServerBuilder {
+
+  private int port = 0;
+  private final List<String> cacheNames = new ArrayList<>();
+  private FaultInjectionPolicy faultInjectionPolicy = FaultInjectionPolicy.none();
+  private final Map<String, FaultInjectionPolicy> methodFaultInjectionPolicies = new HashMap<>();
+
+  MomentoLocalServerBuilder() {}
+
+  /**
+   * Sets the loopback port to listen on. By default the operating system picks a free one.
+   *
+   * @param port the port, or 0 to let the operating system pick.
+   * @return this builder
+   */
+  public MomentoLocalServerBuilder setPort(int port) {
+    if (port < 0 || port > 65535) {
+      throw new InvalidArgumentException("Port must be between 0 and 65535.");
+    }
+    this.port = port;
+    return this;
+  }
+
+  /**
+   * Creates a cache when the server starts, so that clients do not have to.
+   *
+   * @param cacheName the name of the cache.
+   * @return this builder
+   */
+  public MomentoLocalServerBuilder addCache(@Nonnull String cacheName) {
+    cacheNames.add(cacheName);
+    return this;
+  }
+
+  /**
+   * Injects latency and errors into every data plane request that has no policy of its own.
+   *
+   * @param faultInjectionPolicy the policy to apply.
+   * @return this builder
+   */
+  public MomentoLocalServerBuilder setFaultInjectionPolicy(
+      @Nonnull FaultInjectionPolicy faultInjectionPolicy) {
+    this.faultInjectionPolicy = faultInjectionPolicy;
+    return this;
+  }
+
+  /**
+   * Injects latency and errors into the data plane requests for one method.
+   *
+   * @param methodName the method's name in the service definition, such as "Get", "Set" or
+   *     "DictionaryFetch".
+   * @param faultInjectionPolicy the policy to apply.
+   * @return this builder
+   */
+  public MomentoLocalServerBuilder setFaultInjectionPolicy(
+      @Nonnull String methodName, @Nonnull FaultInjectionPolicy faultInjectionPolicy) {
+    methodFaultInjectionPolicies.put(methodName, faultInjectionPolicy);
+    return this;
+  }
+
+  /**
+   * Starts the server.
+   *
+   * @return the running server
+   * @throws IOException if the port cannot be bound.
+   */
+  public MomentoLocalServer start() throws IOException {
+    return new MomentoLocalServer(
+        port, cacheNames, faultInjectionPolicy, new HashMap<>(methodFaultInjectionPolicies));
+  }
+}
@@ -0,0 +1,136 @@
+package momento.sdk.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import momento.sdk.CacheClient;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.messages.CacheDeleteManyResponse;
+import momento.sdk.messages.CacheDeleteResponse;
+import momento.sdk.messages.CacheGetManyResponse;
+import momento.sdk.messages.CacheGetResponse;
+import momento.sdk.messages.CacheSetManyResponse;
+import momento.sdk.messages.CacheSetResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkOperationsTest {
+
+  private static final String CACHE_NAME = "cache";
+
+  private MomentoLocalServer server;
+  private CacheClient client;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = MomentoLocalServer.builder().addCache(CACHE_NAME).start();
+    client = newClient(server, Configurations.Laptop.Latest().withRetryStrategy(null));
+  }
+
+  @AfterEach
+  void teardown() {
+    client.close();
+    server.close();
+  }
+
+  private static CacheClient newClient(MomentoLocalServer server, Configuration configuration) {
+    return CacheClient.builder(server.getCredentialProvider(), configuration, Duration.ofMinutes(1))
+        .build();
+  }
+
+  @Test
+  public void returnsResultsInKeyOrder() {
+    final Map<String, String> items = new LinkedHashMap<>();
+    for (int i = 0; i < 20; i++) {
+      items.put("key-" + i, "value-" + i);
+    }
+    final CacheSetManyResponse setResponse = client.setMany(CACHE_NAME, items).join();
+    assertThat(setResponse).isInstanceOf(CacheSetManyResponse.Success.class);
+    assertThat(((CacheSetManyResponse.Success) setResponse).allSucceeded()).isTrue();
+
+    final List<String> keys = new ArrayList<>();
+    for (int i = 19; i >= 0; i--) {
+      keys.add("key-" + i);
+      keys.add("missing-" + i);
+    }
+    final CacheGetManyResponse getResponse = client.getMany(CACHE_NAME, keys).join();
+    assertThat(getResponse).isInstanceOf(CacheGetManyResponse.Success.class);
+    final List<CacheGetResponse> results = ((CacheGetManyResponse.Success) getResponse).results();
+    assertThat(results).hasSize(keys.size());
+    for (int i = 0; i < 20; i++) {
+      final CacheGetResponse hit = results.get(2 * i);
+      assertThat(hit).isInstanceOf(CacheGetResponse.Hit.class);
+      assertThat(((CacheGetResponse.Hit) hit).valueString()).isEqualTo("value-" + (19 - i));
+      assertThat(results.get(2 * i + 1)).isInstanceOf(CacheGetResponse.Miss.class);
+    }
+
+    final CacheDeleteManyResponse deleteResponse =
+        client.deleteMany(CACHE_NAME, Arrays.asList("key-0", "missing-0", "key-1")).join();
+    assertThat(deleteResponse).isInstanceOf(CacheDeleteManyResponse.Success.class);
+    assertThat(((CacheDeleteManyResponse.Success) deleteResponse).results())
+        .hasSize(3)
+        .allMatch(result -> result instanceof CacheDeleteResponse.Success);
+    assertThat(client.get(CACHE_NAME, "key-0").join()).isInstanceOf(CacheGetResponse.Miss.class);
+    assertThat(client.get(CACHE_NAME, "key-2").join()).isInstanceOf(CacheGetResponse.Hit.class);
+  }
+
+  @Test
+  public void reportsAFailedKeyWithoutFailingTheOthers() {
+    // The server rejects messages over 4 MiB, so only the large item fails.
+    final char[] largeValue = new char[5 * 1024 * 1024];
+    Arrays.fill(largeValue, 'x');
+    final Map<String, String> items = new LinkedHashMap<>();
+    items.put("first", "value");
+    items.put("large", new String(largeValue));
+    items.put("last", "value");
+
+    final CacheSetManyResponse response = client.setMany(CACHE_NAME, items).join();
+
+    assertThat(response).isInstanceOf(CacheSetManyResponse.Success.class);
+    final CacheSetManyResponse.Success success = (CacheSetManyResponse.Success) response;
+    assertThat(success.allSucceeded()).isFalse();
+    assertThat(success.results().get(0)).isInstanceOf(CacheSetResponse.Success.class);
+    assertThat(success.results().get(1)).isInstanceOf(CacheSetResponse.Error.class);
+    assertThat(success.results().get(2)).isInstanceOf(CacheSetResponse.Success.class);
+    assertThat(success.resultsByKey().get("large")).isInstanceOf(CacheSetResponse.Error.class);
+    assertThat(client.get(CACHE_NAME, "last").join()).isInstanceOf(CacheGetResponse.Hit.class);
+  }
+
+  @Test
+  public void keepsAtMostTheConfiguredRequestsInFlight() throws IOException {
+    final Duration latency = Duration.ofMillis(50);
+    try (MomentoLocalServer slowServer =
+            MomentoLocalServer.builder()
+                .addCache(CACHE_NAME)
+                .setFaultInjectionPolicy(
+                    FaultInjectionPolicy.none().withLatency(LatencyDistribution.fixed(latency)))
+                .start();
+        CacheClient boundedClient =
+            newClient(
+                slowServer,
+                Configurations.Laptop.Latest()
+                    .withRetryStrategy(null)
+                    .withMaxConcurrentBulkRequests(2))) {
+      final Map<String, String> items = new LinkedHashMap<>();
+      for (int i = 0; i < 10; i++) {
+        items.put("key-" + i, "value");
+      }
+
+      final long start = System.nanoTime();
+      final CacheSetManyResponse response = boundedClient.setMany(CACHE_NAME, items).join();
+      final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+      assertThat(((CacheSetManyResponse.Success) response).allSucceeded()).isTrue();
+      // Two at a time, ten sets take at least five round trips.
+      assertThat(elapsed).isGreaterThanOrEqualTo(latency.multipliedBy(5));
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package momento.sdk.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import momento.sdk.CacheClient;
+import momento.sdk.config.Configurations;
+import momento.sdk.messages.CacheGetResponse;
+import momento.sdk.metrics.HistogramMetricsRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GetCoalescingTest {
+
+  private static final String CACHE_NAME = "cache";
+  private static final String KEY = "key";
+
+  private final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+  private MomentoLocalServer server;
+  private CacheClient client;
+
+  @BeforeEach
+  void setup() throws IOException {
+    // Slow gets stay in flight long enough for the later ones to find them.
+    final FaultInjectionPolicy slowGets =
+        FaultInjectionPolicy.none().withLatency(LatencyDistribution.fixed(Duration.ofMillis(200)));
+    server =
+        MomentoLocalServer.builder()
+            .addCache(CACHE_NAME)
+            .setFaultInjectionPolicy("Get", slowGets)
+            .start();
+    client =
+        CacheClient.builder(
+                server.getCredentialProvider(),
+                Configurations.Laptop.Latest()
+                    .withGetCoalescingEnabled(true)
+                    .withMetricsRecorder(recorder),
+                Duration.ofMinutes(1))
+            .build();
+    client.set(CACHE_NAME, KEY, "value").join();
+  }
+
+  @AfterEach
+  void teardown() {
+    client.close();
+    server.close();
+  }
+
+  private long getRequestCount() {
+    return recorder.snapshot().get("Get").getRequestCount();
+  }
+
+  @Test
+  public void concurrentGetsShareOneRequest() {
+    final List<CompletableFuture<CacheGetResponse>> gets = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      gets.add(client.get(CACHE_NAME, KEY));
+    }
+
+    for (CompletableFuture<CacheGetResponse> get : gets) {
+      final CacheGetResponse response = get.join();
+      assertThat(response).isInstanceOf(CacheGetResponse.Hit.class);
+      assertThat(((CacheGetResponse.Hit) response).valueString()).isEqualTo("value");
+    }
+    assertThat(getRequestCount()).isEqualTo(1);
+
+    // Once the shared request has completed, a new get sends its own.
+    client.get(CACHE_NAME, KEY).join();
+    assertThat(getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void getsAfterAWriteDoNotJoinAnEarlierGet() {
+    final CompletableFuture<CacheGetResponse> before = client.get(CACHE_NAME, KEY);
+    client.set(CACHE_NAME, KEY, "new-value").join();
+    final CompletableFuture<CacheGetResponse> after = client.get(CACHE_NAME, KEY);
+
+    before.join();
+    final CacheGetResponse response = after.join();
+    assertThat(((CacheGetResponse.Hit) response).valueString()).isEqualTo("new-value");
+    assertThat(getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void cancellingOneCallerDoesNotCancelTheOthers() {
+    final CompletableFuture<CacheGetResponse> cancelled = client.get(CACHE_NAME, KEY);
+    final CompletableFuture<CacheGetResponse> other = client.get(CACHE_NAME, KEY);
+
+    assertThat(cancelled.cancel(true)).isTrue();
+
+    assertThat(other.join()).isInstanceOf(CacheGetResponse.Hit.class);
+    assertThat(getRequestCount()).isEqualTo(1);
+  }
+}
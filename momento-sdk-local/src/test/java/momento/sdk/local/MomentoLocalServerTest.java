@@ -0,0 +1,206 @@
+package momento.sdk.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import momento.sdk.CacheClient;
+import momento.sdk.config.Configurations;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.messages.CacheGetResponse;
+import momento.sdk.messages.CacheIncrementResponse;
+import momento.sdk.messages.CacheListFetchResponse;
+import momento.sdk.messages.CacheSetResponse;
+import momento.sdk.messages.CacheSortedSetFetchResponse;
+import momento.sdk.messages.ListCachesResponse;
+import momento.sdk.messages.ScoredElement;
+import momento.sdk.messages.SortOrder;
+import momento.sdk.metrics.HistogramMetricsRecorder;
+import momento.sdk.metrics.OperationMetrics;
+import momento.sdk.metrics.RequestResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MomentoLocalServerTest {
+
+  private static final String CACHE_NAME = "cache";
+
+  private MomentoLocalServer server;
+  private CacheClient client;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = MomentoLocalServer.builder().addCache(CACHE_NAME).start();
+    client =
+        CacheClient.builder(
+                server.getCredentialProvider(),
+                Configurations.Laptop.Latest(),
+                Duration.ofMinutes(1))
+            .build();
+  }
+
+  @AfterEach
+  void teardown() {
+    client.close();
+    server.close();
+  }
+
+  @Test
+  public void setsGetsAndExpiresValues() throws InterruptedException {
+    client.set(CACHE_NAME, "key", "value").join();
+    client.set(CACHE_NAME, "short-lived", "value", Duration.ofMillis(50)).join();
+
+    final CacheGetResponse hit = client.get(CACHE_NAME, "key").join();
+    assertThat(hit).isInstanceOf(CacheGetResponse.Hit.class);
+    assertThat(((CacheGetResponse.Hit) hit).valueString()).isEqualTo("value");
+
+    Thread.sleep(100);
+    assertThat(client.get(CACHE_NAME, "short-lived").join())
+        .isInstanceOf(CacheGetResponse.Miss.class);
+  }
+
+  @Test
+  public void incrementsValues() {
+    client.increment(CACHE_NAME, "counter", 2).join();
+
+    final CacheIncrementResponse response = client.increment(CACHE_NAME, "counter", 3).join();
+    assertThat(response).isInstanceOf(CacheIncrementResponse.Success.class);
+    assertThat(((CacheIncrementResponse.Success) response).valueNumber()).isEqualTo(5);
+  }
+
+  @Test
+  public void fetchesListRanges() {
+    client
+        .listConcatenateBack(CACHE_NAME, "list", Arrays.asList("a", "b", "c", "d"), 0, null)
+        .join();
+
+    final CacheListFetchResponse response = client.listFetch(CACHE_NAME, "list", 1, -1).join();
+    assertThat(response).isInstanceOf(CacheListFetchResponse.Hit.class);
+    assertThat(((CacheListFetchResponse.Hit) response).valueListString()).containsExactly("b", "c");
+  }
+
+  @Test
+  public void ordersSortedSetsByScore() {
+    final Map<String, Double> elements = new HashMap<>();
+    elements.put("low", 1.0);
+    elements.put("high", 3.0);
+    elements.put("middle", 2.0);
+    client.sortedSetPutElements(CACHE_NAME, "sorted-set", elements).join();
+
+    final CacheSortedSetFetchResponse response =
+        client
+            .sortedSetFetchByRank(CACHE_NAME, "sorted-set", null, null, SortOrder.DESCENDING)
+            .join();
+    assertThat(response).isInstanceOf(CacheSortedSetFetchResponse.Hit.class);
+    final List<String> values =
+        ((CacheSortedSetFetchResponse.Hit) response)
+            .elementsList().stream().map(ScoredElement::getElement).collect(Collectors.toList());
+    assertThat(values).containsExactly("high", "middle", "low");
+  }
+
+  @Test
+  public void managesCaches() {
+    client.createCache("other-cache");
+
+    final ListCachesResponse response = client.listCaches();
+    assertThat(response).isInstanceOf(ListCachesResponse.Success.class);
+    assertThat(((ListCachesResponse.Success) response).getCaches()).hasSize(2);
+
+    final CacheGetResponse missingCache = client.get("missing-cache", "key").join();
+    assertThat(missingCache).isInstanceOf(CacheGetResponse.Error.class);
+    assertThat(((CacheGetResponse.Error) missingCache).getErrorCode())
+        .isEqualTo(MomentoErrorCode.NOT_FOUND_ERROR);
+  }
+
+  @Test
+  public void injectsLatencyAndErrorsPerMethod() throws IOException {
+    final FaultInjectionPolicy slow =
+        FaultInjectionPolicy.none().withLatency(LatencyDistribution.fixed(Duration.ofMillis(100)));
+    final FaultInjectionPolicy failing = FaultInjectionPolicy.none().withUnavailableRate(1.0);
+    try (MomentoLocalServer faultyServer =
+            MomentoLocalServer.builder()
+                .addCache(CACHE_NAME)
+                .setFaultInjectionPolicy(slow)
+                .setFaultInjectionPolicy("Get", failing)
+                .start();
+        CacheClient faultyClient =
+            CacheClient.builder(
+                    faultyServer.getCredentialProvider(),
+                    Configurations.Laptop.Latest(),
+                    Duration.ofMinutes(1))
+                .build()) {
+      final long start = System.nanoTime();
+      assertThat(faultyClient.set(CACHE_NAME, "key", "value").join())
+          .isInstanceOf(CacheSetResponse.Success.class);
+      assertThat(Duration.ofNanos(System.nanoTime() - start))
+          .isGreaterThanOrEqualTo(Duration.ofMillis(100));
+
+      final CacheGetResponse response = faultyClient.get(CACHE_NAME, "key").join();
+      assertThat(response).isInstanceOf(CacheGetResponse.Error.class);
+      assertThat(((CacheGetResponse.Error) response).getErrorCode())
+          .isEqualTo(MomentoErrorCode.SERVER_UNAVAILABLE);
+    }
+  }
+
+  @Test
+  public void reportsRequestsToTheMetricsRecorder() {
+    final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+    try (CacheClient measuredClient =
+        CacheClient.builder(
+                server.getCredentialProvider(),
+                Configurations.Laptop.Latest().withMetricsRecorder(recorder),
+                Duration.ofMinutes(1))
+            .build()) {
+      measuredClient.set(CACHE_NAME, "key", "value").join();
+      measuredClient.get(CACHE_NAME, "key").join();
+      measuredClient.get(CACHE_NAME, "missing").join();
+    }
+
+    final OperationMetrics gets = recorder.snapshot().get("Get");
+    assertThat(gets.getRequestCount()).isEqualTo(2);
+    assertThat(gets.getInFlightCount()).isZero();
+    assertThat(gets.getResultCount(RequestResult.HIT)).isEqualTo(1);
+    assertThat(gets.getResultCount(RequestResult.MISS)).isEqualTo(1);
+    assertThat(gets.getResponseBytes()).isPositive();
+    assertThat(recorder.snapshot().get("Set").getResultCount(RequestResult.SUCCESS)).isEqualTo(1);
+  }
+
+  @Test
+  public void emitsFlightRecorderEvents() throws IOException {
+    final Path recordingFile = Files.createTempFile("momento", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("momento.CacheOperation");
+      recording.start();
+      client.set(CACHE_NAME, "key", "value").join();
+      client.get(CACHE_NAME, "key").join();
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    final List<RecordedEvent> events =
+        RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals("momento.CacheOperation"))
+            .collect(Collectors.toList());
+    Files.delete(recordingFile);
+    assertThat(events).hasSize(2);
+    final RecordedEvent get =
+        events.stream()
+            .filter(event -> event.getString("operation").equals("Get"))
+            .findFirst()
+            .get();
+    assertThat(get.getString("cacheName")).isEqualTo(CACHE_NAME);
+    assertThat(get.getString("outcome")).isEqualTo("HIT");
+    assertThat(get.getLong("responseSize")).isPositive();
+  }
+}
@@ -0,0 +1,155 @@
+package momento.sdk.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import momento.sdk.CacheClient;
+import momento.sdk.OpenTelemetryTracingInterceptor;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.config.transport.TransportStrategy;
+import momento.sdk.messages.CacheGetResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class OpenTelemetryTracingInterceptorTest {
+
+  private static final String CACHE_NAME = "cache";
+  private static final Metadata.Key<String> TRACEPARENT =
+      Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+  private static final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
+  private static final AttributeKey<Long> RPC_GRPC_STATUS_CODE =
+      AttributeKey.longKey("rpc.grpc.status_code");
+  private static final AttributeKey<String> CACHE_NAME_ATTRIBUTE =
+      AttributeKey.stringKey("momento.cache");
+  private static final AttributeKey<Long> REQUEST_SIZE =
+      AttributeKey.longKey("momento.request.size");
+  private static final AttributeKey<Long> RESPONSE_SIZE =
+      AttributeKey.longKey("momento.response.size");
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("momento.result");
+
+  @RegisterExtension
+  static final OpenTelemetryExtension otelTesting = OpenTelemetryExtension.create();
+
+  // The headers each method was sent with, as the server would see them.
+  private final Map<String, Metadata> sentHeaders = new ConcurrentHashMap<>();
+  private final ClientInterceptor headerCapture =
+      new ClientInterceptor() {
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+          return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+              next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+              sentHeaders.put(method.getBareMethodName(), headers);
+              super.start(responseListener, headers);
+            }
+          };
+        }
+      };
+
+  private MomentoLocalServer server;
+  private CacheClient client;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server =
+        MomentoLocalServer.builder()
+            .addCache(CACHE_NAME)
+            .setFaultInjectionPolicy("Delete", FaultInjectionPolicy.none().withUnavailableRate(1.0))
+            .start();
+    // The last interceptor runs first, so the headers are captured after the tracing ones.
+    final Configuration configuration = Configurations.Laptop.Latest().withRetryStrategy(null);
+    final TransportStrategy transportStrategy = configuration.getTransportStrategy();
+    client =
+        CacheClient.builder(
+                server.getCredentialProvider(),
+                configuration.withTransportStrategy(
+                    transportStrategy.withGrpcConfiguration(
+                        transportStrategy
+                            .getGrpcConfiguration()
+                            .withClientInterceptors(
+                                Arrays.asList(
+                                    headerCapture,
+                                    new OpenTelemetryTracingInterceptor(
+                                        otelTesting.getOpenTelemetry()))))),
+                Duration.ofMinutes(1))
+            .build();
+  }
+
+  @AfterEach
+  void teardown() {
+    client.close();
+    server.close();
+  }
+
+  @Test
+  public void recordsASpanForEachRequest() {
+    client.set(CACHE_NAME, "key", "value").join();
+    assertThat(client.get(CACHE_NAME, "key").join()).isInstanceOf(CacheGetResponse.Hit.class);
+
+    final SpanData span = span("cache_client.Scs/Get");
+    assertThat(span.getKind()).isEqualTo(SpanKind.CLIENT);
+    assertThat(span.getAttributes().get(RPC_METHOD)).isEqualTo("Get");
+    // The cache name header is attached before the configured interceptors run.
+    assertThat(span.getAttributes().get(CACHE_NAME_ATTRIBUTE)).isEqualTo(CACHE_NAME);
+    assertThat(span.getAttributes().get(REQUEST_SIZE)).isPositive();
+    assertThat(span.getAttributes().get(RESPONSE_SIZE)).isPositive();
+    assertThat(span.getAttributes().get(RESULT)).isEqualTo("HIT");
+    assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+  }
+
+  @Test
+  public void recordsTheMissOfAGet() {
+    client.get(CACHE_NAME, "missing").join();
+
+    assertThat(span("cache_client.Scs/Get").getAttributes().get(RESULT)).isEqualTo("MISS");
+  }
+
+  @Test
+  public void marksFailedRequestsAsErrors() {
+    client.delete(CACHE_NAME, "key").join();
+
+    final SpanData span = span("cache_client.Scs/Delete");
+    assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    assertThat(span.getAttributes().get(RESULT)).isEqualTo("ERROR");
+    assertThat(span.getAttributes().get(RPC_GRPC_STATUS_CODE)).isEqualTo(14L);
+  }
+
+  @Test
+  public void injectsTheTraceContextIntoTheHeaders() {
+    client.get(CACHE_NAME, "key").join();
+
+    final SpanData span = span("cache_client.Scs/Get");
+    assertThat(sentHeaders.get("Get").get(TRACEPARENT))
+        .isEqualTo("00-" + span.getTraceId() + "-" + span.getSpanId() + "-01");
+  }
+
+  private static SpanData span(String name) {
+    final List<SpanData> spans = otelTesting.getSpans();
+    return spans.stream()
+        .filter(span -> span.getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+  }
+}
@@ -0,0 +1,122 @@
+package momento.sdk.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import momento.sdk.CacheClient;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.config.transport.TransportStrategy;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.messages.CacheGetResponse;
+import momento.sdk.messages.CacheIncrementResponse;
+import momento.sdk.messages.CacheListPushBackResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RetryingRequestTest {
+
+  private static final String CACHE_NAME = "cache";
+
+  // Every attempt is a separate call on the channel, so this sees retries as well.
+  private final Map<String, AtomicInteger> attemptsByMethod = new ConcurrentHashMap<>();
+  private final ClientInterceptor attemptCounter =
+      new ClientInterceptor() {
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+          attemptsByMethod
+              .computeIfAbsent(method.getBareMethodName(), name -> new AtomicInteger())
+              .incrementAndGet();
+          return next.newCall(method, callOptions);
+        }
+      };
+
+  private MomentoLocalServer server;
+  private CacheClient client;
+
+  @BeforeEach
+  void setup() throws IOException {
+    final FaultInjectionPolicy unavailable = FaultInjectionPolicy.none().withUnavailableRate(1.0);
+    server =
+        MomentoLocalServer.builder()
+            .addCache(CACHE_NAME)
+            .setFaultInjectionPolicy("Get", unavailable)
+            .setFaultInjectionPolicy("Increment", unavailable)
+            .setFaultInjectionPolicy("ListPushBack", unavailable)
+            .start();
+    // Three attempts at most, with a retry budget that allows the first retries.
+    final Configuration configuration = Configurations.Laptop.Latest();
+    final TransportStrategy transportStrategy = configuration.getTransportStrategy();
+    client =
+        CacheClient.builder(
+                server.getCredentialProvider(),
+                configuration.withTransportStrategy(
+                    transportStrategy.withGrpcConfiguration(
+                        transportStrategy
+                            .getGrpcConfiguration()
+                            .withClientInterceptors(Collections.singletonList(attemptCounter)))),
+                Duration.ofMinutes(1))
+            .build();
+  }
+
+  @AfterEach
+  void teardown() {
+    client.close();
+    server.close();
+  }
+
+  private int attempts(String method) {
+    final AtomicInteger count = attemptsByMethod.get(method);
+    return count == null ? 0 : count.get();
+  }
+
+  @Test
+  public void retriesAnUnavailableGet() {
+    final CacheGetResponse response = client.get(CACHE_NAME, "key").join();
+
+    assertThat(response).isInstanceOf(CacheGetResponse.Error.class);
+    assertThat(((CacheGetResponse.Error) response).getErrorCode())
+        .isEqualTo(MomentoErrorCode.SERVER_UNAVAILABLE);
+    assertThat(attempts("Get")).isEqualTo(3);
+  }
+
+  @Test
+  public void doesNotRetryAnUnavailableIncrement() {
+    final CacheIncrementResponse response = client.increment(CACHE_NAME, "counter", 1).join();
+
+    assertThat(response).isInstanceOf(CacheIncrementResponse.Error.class);
+    assertThat(attempts("Increment")).isEqualTo(1);
+  }
+
+  @Test
+  public void doesNotRetryAnUnavailableListPushBack() {
+    final CacheListPushBackResponse response =
+        client.listPushBack(CACHE_NAME, "list", "value", 10).join();
+
+    assertThat(response).isInstanceOf(CacheListPushBackResponse.Error.class);
+    assertThat(attempts("ListPushBack")).isEqualTo(1);
+  }
+
+  @Test
+  public void closingTheClientCompletesAPendingRetry() throws Exception {
+    final CompletableFuture<CacheGetResponse> response = client.get(CACHE_NAME, "key");
+
+    client.close();
+
+    assertThat(response.get(5, TimeUnit.SECONDS)).isInstanceOf(CacheGetResponse.Error.class);
+  }
+}
@@ -0,0 +1,78 @@
+package momento.sdk.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import momento.sdk.CacheClient;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.config.NearCacheConfiguration;
+import momento.sdk.messages.CacheGetResponse;
+import momento.sdk.messages.CacheSetResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ZeroCopyWritesTest {
+
+  private static final String CACHE_NAME = "cache";
+
+  private MomentoLocalServer server;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = MomentoLocalServer.builder().addCache(CACHE_NAME).start();
+  }
+
+  @AfterEach
+  void teardown() {
+    server.close();
+  }
+
+  private CacheClient newClient(boolean zeroCopyWrites) {
+    final Configuration configuration =
+        Configurations.Laptop.Latest()
+            .withZeroCopyWritesEnabled(zeroCopyWrites)
+            .withNearCacheConfiguration(
+                new NearCacheConfiguration(1024 * 1024, Duration.ofMinutes(1)));
+    return CacheClient.builder(server.getCredentialProvider(), configuration, Duration.ofMinutes(1))
+        .build();
+  }
+
+  @Test
+  public void cachesCopiedValuesButNotWrappedOnes() {
+    try (CacheClient client = newClient(true)) {
+      client.set(CACHE_NAME, "string", "value").join();
+      final byte[] bytesKey = "bytes".getBytes(StandardCharsets.UTF_8);
+      client.set(CACHE_NAME, bytesKey, "value".getBytes(StandardCharsets.UTF_8)).join();
+
+      assertThat(client.get(CACHE_NAME, "string").join()).isInstanceOf(CacheGetResponse.Hit.class);
+      assertThat(client.getNearCacheStats().get().getHitCount()).isEqualTo(1);
+
+      // The wrapped array still belongs to the caller, so the get goes to the server.
+      assertThat(client.get(CACHE_NAME, bytesKey).join()).isInstanceOf(CacheGetResponse.Hit.class);
+      assertThat(client.getNearCacheStats().get().getHitCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void advancesTheBufferWithOrWithoutZeroCopy() {
+    for (boolean zeroCopyWrites : new boolean[] {false, true}) {
+      try (CacheClient client = newClient(zeroCopyWrites)) {
+        final ByteBuffer value = ByteBuffer.allocateDirect(16);
+        value.put("prefix-value".getBytes(StandardCharsets.UTF_8)).flip();
+        value.position("prefix-".length());
+
+        final CacheSetResponse response = client.set(CACHE_NAME, "buffer", value).join();
+
+        assertThat(response).isInstanceOf(CacheSetResponse.Success.class);
+        assertThat(value.position()).isEqualTo(value.limit());
+        final CacheGetResponse hit = client.get(CACHE_NAME, "buffer").join();
+        assertThat(((CacheGetResponse.Hit) hit).valueString()).isEqualTo("value");
+      }
+    }
+  }
+}
@@ -15,6 +15,8 @@ dependencies {
     implementation(libs.protobuf.java)
     implementation(libs.guava)
     implementation(libs.gson)
+    // Only needed by applications that install OpenTelemetryTracingInterceptor
+    compileOnly(libs.opentelemetry.api)
 
     // For Auth token
     implementation(libs.jjwt.api)
@@ -5,12 +5,14 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.Configuration;
+import momento.sdk.messages.CacheDeleteManyResponse;
 import momento.sdk.messages.CacheDeleteResponse;
 import momento.sdk.messages.CacheDictionaryFetchResponse;
 import momento.sdk.messages.CacheDictionaryGetFieldResponse;
@@ -20,6 +22,7 @@ import momento.sdk.messages.CacheDictionaryRemoveFieldResponse;
 import momento.sdk.messages.CacheDictionaryRemoveFieldsResponse;
 import momento.sdk.messages.CacheDictionarySetFieldResponse;
 import momento.sdk.messages.CacheDictionarySetFieldsResponse;
+import momento.sdk.messages.CacheGetManyResponse;
 import momento.sdk.messages.CacheGetResponse;
 import momento.sdk.messages.CacheIncrementResponse;
 import momento.sdk.messages.CacheListConcatenateBackResponse;
@@ -36,6 +39,7 @@ import momento.sdk.messages.CacheSetAddElementResponse;
 import momento.sdk.messages.CacheSetAddElementsResponse;
 import momento.sdk.messages.CacheSetFetchResponse;
 import momento.sdk.messages.CacheSetIfNotExistsResponse;
+import momento.sdk.messages.CacheSetManyResponse;
 import momento.sdk.messages.CacheSetRemoveElementResponse;
 import momento.sdk.messages.CacheSetRemoveElementsResponse;
 import momento.sdk.messages.CacheSetResponse;
@@ -50,7 +54,11 @@ import momento.sdk.messages.ListCachesResponse;
 import momento.sdk.messages.ListSigningKeysResponse;
 import momento.sdk.messages.RevokeSigningKeyResponse;
 import momento.sdk.messages.SortOrder;
+import momento.sdk.metrics.CallbackExecutionStats;
+import momento.sdk.metrics.ConcurrencyLimitStats;
+import momento.sdk.metrics.NearCacheStats;
 import momento.sdk.requests.CollectionTtl;
+import momento.sdk.requests.RequestOptions;
 
 /** Client to perform operations against the Momento Cache Service */
 public final class CacheClient implements Closeable {
@@ -62,7 +70,7 @@ public final class CacheClient implements Closeable {
       @Nonnull CredentialProvider credentialProvider,
       @Nonnull Configuration configuration,
       @Nonnull Duration itemDefaultTtl) {
-    this.scsControlClient = new ScsControlClient(credentialProvider);
+    this.scsControlClient = new ScsControlClient(credentialProvider, configuration);
     this.scsDataClient = new ScsDataClient(credentialProvider, configuration, itemDefaultTtl);
   }
 
@@ -143,7 +151,7 @@ public final class CacheClient implements Closeable {
    *     associated value data.
    */
   public CompletableFuture<CacheGetResponse> get(String cacheName, byte[] key) {
-    return scsDataClient.get(cacheName, key);
+    return scsDataClient.get(cacheName, key, RequestOptions.defaults());
   }
 
   /**
@@ -155,7 +163,39 @@ public final class CacheClient implements Closeable {
    *     associated value data.
    */
   public CompletableFuture<CacheGetResponse> get(String cacheName, String key) {
-    return scsDataClient.get(cacheName, key);
+    return scsDataClient.get(cacheName, key, RequestOptions.defaults());
+  }
+
+  /**
+   * Get the cache value stored for the given key, overriding the client's configuration for this
+   * request.
+   *
+   * @param cacheName Name of the cache to get the item from
+   * @param key The key to get
+   * @param requestOptions Options for this request, such as a deadline that replaces the configured
+   *     one.
+   * @return Future with {@link CacheGetResponse} containing the status of the get operation and the
+   *     associated value data.
+   */
+  public CompletableFuture<CacheGetResponse> get(
+      String cacheName, byte[] key, @Nonnull RequestOptions requestOptions) {
+    return scsDataClient.get(cacheName, key, requestOptions);
+  }
+
+  /**
+   * Get the cache value stored for the given key, overriding the client's configuration for this
+   * request.
+   *
+   * @param cacheName Name of the cache to get the item from
+   * @param key The key to get
+   * @param requestOptions Options for this request, such as a deadline that replaces the configured
+   *     one.
+   * @return Future with {@link CacheGetResponse} containing the status of the get operation and the
+   *     associated value data.
+   */
+  public CompletableFuture<CacheGetResponse> get(
+      String cacheName, String key, @Nonnull RequestOptions requestOptions) {
+    return scsDataClient.get(cacheName, key, requestOptions);
   }
 
   /**
@@ -166,7 +206,7 @@ public final class CacheClient implements Closeable {
    * @return Future with {@link CacheDeleteResponse}
    */
   public CompletableFuture<CacheDeleteResponse> delete(String cacheName, String key) {
-    return scsDataClient.delete(cacheName, key);
+    return scsDataClient.delete(cacheName, key, RequestOptions.defaults());
   }
 
   /**
@@ -177,7 +217,37 @@ public final class CacheClient implements Closeable {
    * @return Future with {@link CacheDeleteResponse}
    */
   public CompletableFuture<CacheDeleteResponse> delete(String cacheName, byte[] key) {
-    return scsDataClient.delete(cacheName, key);
+    return scsDataClient.delete(cacheName, key, RequestOptions.defaults());
+  }
+
+  /**
+   * Delete the value stored in Momento cache, overriding the client's configuration for this
+   * request.
+   *
+   * @param cacheName Name of the cache to delete the item from
+   * @param key The key to delete
+   * @param requestOptions Options for this request, such as a deadline that replaces the configured
+   *     one.
+   * @return Future with {@link CacheDeleteResponse}
+   */
+  public CompletableFuture<CacheDeleteResponse> delete(
+      String cacheName, String key, @Nonnull RequestOptions requestOptions) {
+    return scsDataClient.delete(cacheName, key, requestOptions);
+  }
+
+  /**
+   * Delete the value stored in Momento cache, overriding the client's configuration for this
+   * request.
+   *
+   * @param cacheName Name of the cache to delete the item from
+   * @param key The key to delete
+   * @param requestOptions Options for this request, such as a deadline that replaces the configured
+   *     one.
+   * @return Future with {@link CacheDeleteResponse}
+   */
+  public CompletableFuture<CacheDeleteResponse> delete(
+      String cacheName, byte[] key, @Nonnull RequestOptions requestOptions) {
+    return scsDataClient.delete(cacheName, key, requestOptions);
   }
 
   /**
@@ -187,7 +257,8 @@ public final class CacheClient implements Closeable {
    *
    * @param cacheName Name of the cache to store the item in
    * @param key The key under which the value is to be added.
-   * @param value The value to be stored.
+   * @param value The value to be stored: the bytes between the buffer's position and limit. The
+   *     position is advanced to the limit.
    * @param ttl Time to Live for the item in Cache. This ttl takes precedence over the TTL used when
    *     building a cache client {@link CacheClient#builder(CredentialProvider, Configuration,
    *     Duration)}
@@ -195,7 +266,7 @@ public final class CacheClient implements Closeable {
    */
   public CompletableFuture<CacheSetResponse> set(
       String cacheName, String key, ByteBuffer value, @Nullable Duration ttl) {
-    return scsDataClient.set(cacheName, key, value, ttl);
+    return scsDataClient.set(cacheName, key, value, ttl, RequestOptions.defaults());
   }
 
   /**
@@ -207,11 +278,37 @@ public final class CacheClient implements Closeable {
    *
    * @param cacheName Name of the cache to store the item in
    * @param key The key under which the value is to be added.
-   * @param value The value to be stored.
+   * @param value The value to be stored: the bytes between the buffer's position and limit. The
+   *     position is advanced to the limit.
    * @return Future containing the result of the set operation.
    */
   public CompletableFuture<CacheSetResponse> set(String cacheName, String key, ByteBuffer value) {
-    return scsDataClient.set(cacheName, key, value, null);
+    return scsDataClient.set(cacheName, key, value, null, RequestOptions.defaults());
+  }
+
+  /**
+   * Sets the value in cache with a given Time To Live (TTL) seconds, overriding the client's
+   * configuration for this request.
+   *
+   * <p>If a value for this key is already present it will be replaced by the new value.
+   *
+   * @param cacheName Name of the cache to store the item in
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored: the bytes between the buffer's position and limit. The
+   *     position is advanced to the limit.
+   * @param ttl Time to Live for the item in Cache. If null, the TTL used when building the cache
+   *     client is used.
+   * @param requestOptions Options for this request, such as a deadline that replaces the configured
+   *     one.
+   * @return Future containing the result of the set operation.
+   */
+  public CompletableFuture<CacheSetResponse> set(
+      String cacheName,
+      String key,
+      ByteBuffer value,
+      @Nullable Duration ttl,
+      @Nonnull RequestOptions requestOptions) {
+    return scsDataClient.set(cacheName, key, value, ttl, requestOptions);
   }
 
   /**
@@ -229,7 +326,7 @@ public final class CacheClient implements Closeable {
    */
   public CompletableFuture<CacheSetResponse> set(
       String cacheName, byte[] key, byte[] value, @Nullable Duration ttl) {
-    return scsDataClient.set(cacheName, key, value, ttl);
+    return scsDataClient.set(cacheName, key, value, ttl, RequestOptions.defaults());
   }
 
   /**
@@ -245,7 +342,31 @@ public final class CacheClient implements Closeable {
    * @return Future containing the result of the set operation.
    */
   public CompletableFuture<CacheSetResponse> set(String cacheName, byte[] key, byte[] value) {
-    return scsDataClient.set(cacheName, key, value, null);
+    return scsDataClient.set(cacheName, key, value, null, RequestOptions.defaults());
+  }
+
+  /**
+   * Sets the value in cache with a given Time To Live (TTL) seconds, overriding the client's
+   * configuration for this request.
+   *
+   * <p>If a value for this key is already present it will be replaced by the new value.
+   *
+   * @param cacheName Name of the cache to store the item in
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. If null, the TTL used when building the cache
+   *     client is used.
+   * @param requestOptions Options for this request, such as a deadline that replaces the configured
+   *     one.
+   * @return Future containing the result of the set operation.
+   */
+  public CompletableFuture<CacheSetResponse> set(
+      String cacheName,
+      byte[] key,
+      byte[] value,
+      @Nullable Duration ttl,
+      @Nonnull RequestOptions requestOptions) {
+    return scsDataClient.set(cacheName, key, value, ttl, requestOptions);
   }
 
   /**
@@ -263,7 +384,7 @@ public final class CacheClient implements Closeable {
    */
   public CompletableFuture<CacheSetResponse> set(
       String cacheName, String key, String value, @Nullable Duration ttl) {
-    return scsDataClient.set(cacheName, key, value, ttl);
+    return scsDataClient.set(cacheName, key, value, ttl, RequestOptions.defaults());
   }
 
   /**
@@ -279,7 +400,164 @@ public final class CacheClient implements Closeable {
    * @return Future containing the result of the set operation.
    */
   public CompletableFuture<CacheSetResponse> set(String cacheName, String key, String value) {
-    return scsDataClient.set(cacheName, key, value, null);
+    return scsDataClient.set(cacheName, key, value, null, RequestOptions.defaults());
+  }
+
+  /**
+   * Sets the value in cache with a given Time To Live (TTL) seconds, overriding the client's
+   * configuration for this request.
+   *
+   * <p>If a value for this key is already present it will be replaced by the new value.
+   *
+   * @param cacheName Name of the cache to store the item in
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. If null, the TTL used when building the cache
+   *     client is used.
+   * @param requestOptions Options for this request, such as a deadline that replaces the configured
+   *     one.
+   * @return Future containing the result of the set operation.
+   */
+  public CompletableFuture<CacheSetResponse> set(
+      String cacheName,
+      String key,
+      String value,
+      @Nullable Duration ttl,
+      @Nonnull RequestOptions requestOptions) {
+    return scsDataClient.set(cacheName, key, value, ttl, requestOptions);
+  }
+
+  /**
+   * Gets the cache values stored for the given keys.
+   *
+   * <p>The gets are sent concurrently, with at most {@link
+   * Configuration#getMaxConcurrentBulkRequests()} in flight at once.
+   *
+   * @param cacheName Name of the cache to get the items from
+   * @param keys The keys to get
+   * @return Future with {@link CacheGetManyResponse} containing the {@link CacheGetResponse} for
+   *     each key.
+   */
+  public CompletableFuture<CacheGetManyResponse> getMany(String cacheName, List<String> keys) {
+    return scsDataClient.getMany(cacheName, keys);
+  }
+
+  /**
+   * Gets the cache values stored for the given keys.
+   *
+   * <p>The gets are sent concurrently, with at most {@link
+   * Configuration#getMaxConcurrentBulkRequests()} in flight at once.
+   *
+   * @param cacheName Name of the cache to get the items from
+   * @param keys The keys to get
+   * @return Future with {@link CacheGetManyResponse} containing the {@link CacheGetResponse} for
+   *     each key.
+   */
+  public CompletableFuture<CacheGetManyResponse> getManyByteArray(
+      String cacheName, List<byte[]> keys) {
+    return scsDataClient.getManyByteArray(cacheName, keys);
+  }
+
+  /**
+   * Sets the values in cache with a given Time To Live (TTL) seconds.
+   *
+   * <p>The sets are sent concurrently, with at most {@link
+   * Configuration#getMaxConcurrentBulkRequests()} in flight at once.
+   *
+   * @param cacheName Name of the cache to store the items in
+   * @param items The keys and the values to be stored under them.
+   * @param ttl Time to Live for the items in Cache. This ttl takes precedence over the TTL used
+   *     when building a cache client {@link CacheClient#builder(CredentialProvider, Configuration,
+   *     Duration)}
+   * @return Future with {@link CacheSetManyResponse} containing the {@link CacheSetResponse} for
+   *     each key.
+   */
+  public CompletableFuture<CacheSetManyResponse> setMany(
+      String cacheName, Map<String, String> items, @Nullable Duration ttl) {
+    return scsDataClient.setMany(cacheName, items, ttl);
+  }
+
+  /**
+   * Sets the values in the cache.
+   *
+   * <p>The Time to Live (TTL) seconds defaults to the parameter used when building this Cache
+   * client - {@link CacheClient#builder(CredentialProvider, Configuration, Duration)}
+   *
+   * @param cacheName Name of the cache to store the items in
+   * @param items The keys and the values to be stored under them.
+   * @return Future with {@link CacheSetManyResponse} containing the {@link CacheSetResponse} for
+   *     each key.
+   */
+  public CompletableFuture<CacheSetManyResponse> setMany(
+      String cacheName, Map<String, String> items) {
+    return scsDataClient.setMany(cacheName, items, null);
+  }
+
+  /**
+   * Sets the values in cache with a given Time To Live (TTL) seconds.
+   *
+   * <p>The sets are sent concurrently, with at most {@link
+   * Configuration#getMaxConcurrentBulkRequests()} in flight at once.
+   *
+   * @param cacheName Name of the cache to store the items in
+   * @param items The keys and the values to be stored under them.
+   * @param ttl Time to Live for the items in Cache. This ttl takes precedence over the TTL used
+   *     when building a cache client {@link CacheClient#builder(CredentialProvider, Configuration,
+   *     Duration)}
+   * @return Future with {@link CacheSetManyResponse} containing the {@link CacheSetResponse} for
+   *     each key.
+   */
+  public CompletableFuture<CacheSetManyResponse> setManyByteArray(
+      String cacheName, Map<byte[], byte[]> items, @Nullable Duration ttl) {
+    return scsDataClient.setManyByteArray(cacheName, items, ttl);
+  }
+
+  /**
+   * Sets the values in the cache.
+   *
+   * <p>The Time to Live (TTL) seconds defaults to the parameter used when building this Cache
+   * client - {@link CacheClient#builder(CredentialProvider, Configuration, Duration)}
+   *
+   * @param cacheName Name of the cache to store the items in
+   * @param items The keys and the values to be stored under them.
+   * @return Future with {@link CacheSetManyResponse} containing the {@link CacheSetResponse} for
+   *     each key.
+   */
+  public CompletableFuture<CacheSetManyResponse> setManyByteArray(
+      String cacheName, Map<byte[], byte[]> items) {
+    return scsDataClient.setManyByteArray(cacheName, items, null);
+  }
+
+  /**
+   * Deletes the values stored for the given keys.
+   *
+   * <p>The deletes are sent concurrently, with at most {@link
+   * Configuration#getMaxConcurrentBulkRequests()} in flight at once.
+   *
+   * @param cacheName Name of the cache to delete the items from
+   * @param keys The keys to delete
+   * @return Future with {@link CacheDeleteManyResponse} containing the {@link CacheDeleteResponse}
+   *     for each key.
+   */
+  public CompletableFuture<CacheDeleteManyResponse> deleteMany(
+      String cacheName, List<String> keys) {
+    return scsDataClient.deleteMany(cacheName, keys);
+  }
+
+  /**
+   * Deletes the values stored for the given keys.
+   *
+   * <p>The deletes are sent concurrently, with at most {@link
+   * Configuration#getMaxConcurrentBulkRequests()} in flight at once.
+   *
+   * @param cacheName Name of the cache to delete the items from
+   * @param keys The keys to delete
+   * @return Future with {@link CacheDeleteManyResponse} containing the {@link CacheDeleteResponse}
+   *     for each key.
+   */
+  public CompletableFuture<CacheDeleteManyResponse> deleteManyByteArray(
+      String cacheName, List<byte[]> keys) {
+    return scsDataClient.deleteManyByteArray(cacheName, keys);
   }
 
   /**
@@ -898,6 +1176,51 @@ public final class CacheClient implements Closeable {
         cacheName, sortedSetName, null, null, null, offset, count);
   }
 
+  /**
+   * Reads the elements of the given sorted set with scores in a range, a page at a time and in
+   * score order. Each page is fetched from where the previous one ended, so reading a large set
+   * this way does not get slower with depth the way paging with offsets does. The next page is
+   * fetched while the caller reads the current one.
+   *
+   * @param cacheName - The cache containing the sorted set.
+   * @param sortedSetName - The sorted set to fetch from.
+   * @param minScore - The minimum score (inclusive) of the elements to fetch. Defaults to negative
+   *     infinity.
+   * @param maxScore - The maximum score (inclusive) of the elements to fetch. Defaults to positive
+   *     infinity.
+   * @param order - The order to fetch the elements in. Defaults to ascending.
+   * @param pageSize - The maximum number of elements in each page. Must be positive.
+   * @return An iterator over the pages of elements. It has no pages if the set does not exist.
+   * @throws momento.sdk.exceptions.InvalidArgumentException if an argument is invalid.
+   */
+  public SortedSetPageIterator sortedSetFetchByScorePages(
+      String cacheName,
+      String sortedSetName,
+      @Nullable Double minScore,
+      @Nullable Double maxScore,
+      @Nullable SortOrder order,
+      int pageSize) {
+    return scsDataClient.sortedSetFetchByScorePages(
+        cacheName, sortedSetName, minScore, maxScore, order, pageSize);
+  }
+
+  /**
+   * Reads all the elements of the given sorted set a page at a time, in score order. See {@link
+   * #sortedSetFetchByScorePages(String, String, Double, Double, SortOrder, int)}.
+   *
+   * @param cacheName - The cache containing the sorted set.
+   * @param sortedSetName - The sorted set to fetch from.
+   * @param order - The order to fetch the elements in. Defaults to ascending.
+   * @param pageSize - The maximum number of elements in each page. Must be positive.
+   * @return An iterator over the pages of elements. It has no pages if the set does not exist.
+   * @throws momento.sdk.exceptions.InvalidArgumentException if an argument is invalid.
+   */
+  public SortedSetPageIterator sortedSetFetchByScorePages(
+      String cacheName, String sortedSetName, @Nullable SortOrder order, int pageSize) {
+    return scsDataClient.sortedSetFetchByScorePages(
+        cacheName, sortedSetName, null, null, order, pageSize);
+  }
+
   /**
    * Concatenates values to the back of the list.
    *
@@ -1066,6 +1389,47 @@ public final class CacheClient implements Closeable {
     return scsDataClient.listFetch(cacheName, listName, startIndex, endIndex);
   }
 
+  /**
+   * Reads the given list a page at a time, so that memory use does not grow with the length of the
+   * list. Up to {@code prefetchPages} pages after the current one are fetched in the background.
+   *
+   * @param cacheName - The cache containing the list.
+   * @param listName - The list to fetch.
+   * @param pageSize - The maximum number of elements in each page. Must be positive.
+   * @param prefetchPages - The number of pages to fetch ahead of the caller. May be 0.
+   * @return An iterator over the pages of the list. It has no pages if the list does not exist.
+   * @throws momento.sdk.exceptions.InvalidArgumentException if an argument is invalid.
+   */
+  public ListPageIterator listFetchPages(
+      String cacheName, String listName, int pageSize, int prefetchPages) {
+    return scsDataClient.listFetchPages(cacheName, listName, 0, null, pageSize, prefetchPages);
+  }
+
+  /**
+   * Reads a range of the given list a page at a time, so that memory use does not grow with the
+   * length of the range. Up to {@code prefetchPages} pages after the current one are fetched in the
+   * background.
+   *
+   * @param cacheName - The cache containing the list.
+   * @param listName - The list to fetch.
+   * @param startIndex - Start inclusive index. Must not be negative.
+   * @param endIndex - End exclusive index, or null to read to the end of the list.
+   * @param pageSize - The maximum number of elements in each page. Must be positive.
+   * @param prefetchPages - The number of pages to fetch ahead of the caller. May be 0.
+   * @return An iterator over the pages of the range. It has no pages if the list does not exist.
+   * @throws momento.sdk.exceptions.InvalidArgumentException if an argument is invalid.
+   */
+  public ListPageIterator listFetchPages(
+      String cacheName,
+      String listName,
+      int startIndex,
+      @Nullable Integer endIndex,
+      int pageSize,
+      int prefetchPages) {
+    return scsDataClient.listFetchPages(
+        cacheName, listName, startIndex, endIndex, pageSize, prefetchPages);
+  }
+
   /**
    * Fetches length of the given list.
    *
@@ -1709,6 +2073,37 @@ public final class CacheClient implements Closeable {
     return scsDataClient.dictionaryRemoveFieldsByteArray(cacheName, dictionaryName, fields);
   }
 
+  /**
+   * Gets a snapshot of the near cache's hit, miss, and eviction counters.
+   *
+   * @return the near cache stats, or empty if the client was not configured with a {@link
+   *     momento.sdk.config.NearCacheConfiguration}.
+   */
+  public Optional<NearCacheStats> getNearCacheStats() {
+    return scsDataClient.getNearCacheStats();
+  }
+
+  /**
+   * Gets a snapshot of how long the client's response callbacks, including continuations chained
+   * on the returned futures without an executor, have taken to run.
+   *
+   * @return the callback execution stats.
+   */
+  public CallbackExecutionStats getCallbackExecutionStats() {
+    return scsDataClient.getCallbackExecutionStats();
+  }
+
+  /**
+   * Gets a snapshot of the adaptive concurrency limit, the number of requests in flight, and the
+   * number of requests rejected because the limit was reached.
+   *
+   * @return the concurrency limit stats, or empty if the client was not configured with a {@link
+   *     momento.sdk.config.ConcurrencyLimitConfiguration}.
+   */
+  public Optional<ConcurrencyLimitStats> getConcurrencyLimitStats() {
+    return scsDataClient.getConcurrencyLimitStats();
+  }
+
   @Override
   public void close() {
     scsControlClient.close();
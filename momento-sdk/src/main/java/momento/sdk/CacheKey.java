@@ -0,0 +1,38 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import javax.annotation.Nonnull;
+
+/** A scalar key qualified by the cache it lives in, for use as a key in client-side maps. */
+final class CacheKey {
+  private final String cacheName;
+  private final ByteString key;
+  private final int hash;
+
+  CacheKey(@Nonnull String cacheName, @Nonnull ByteString key) {
+    this.cacheName = cacheName;
+    this.key = key;
+    this.hash = hash(cacheName, key);
+  }
+
+  static int hash(@Nonnull String cacheName, @Nonnull ByteString key) {
+    return 31 * cacheName.hashCode() + key.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CacheKey)) {
+      return false;
+    }
+    final CacheKey other = (CacheKey) o;
+    return hash == other.hash && cacheName.equals(other.cacheName) && key.equals(other.key);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
@@ -0,0 +1,93 @@
+package momento.sdk;
+
+import javax.annotation.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.metrics.RequestResult;
+
+/**
+ * A Java Flight Recorder event for one data plane request, including any retries and hedges. The
+ * event's duration covers the whole request; it is split into the time before the request was
+ * first sent on a channel and the time from then until the response arrived.
+ *
+ * <p>Only create instances through {@link FlightRecorderEvents#newCacheOperationEvent()}.
+ */
+@Name("momento.CacheOperation")
+@Label("Cache Operation")
+@Category({"Momento", "Cache Client"})
+@Description("A request sent by a Momento cache client")
+@StackTrace(false)
+final class CacheOperationEvent extends jdk.jfr.Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Cache")
+  String cacheName;
+
+  @Label("Request Size")
+  @DataAmount
+  long requestSize;
+
+  @Label("Response Size")
+  @DataAmount
+  long responseSize;
+
+  @Label("Queue Time")
+  @Description("Time from the SDK accepting the request until it was sent on a channel")
+  @Timespan
+  long queueTime;
+
+  @Label("Network Time")
+  @Description("Time from the request being sent until the response arrived")
+  @Timespan
+  long networkTime;
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("Error Code")
+  String errorCode;
+
+  private transient long startNanos;
+  private transient volatile long sentNanos;
+
+  /** Starts timing the request. */
+  void start(String operation, @Nullable String cacheName) {
+    this.operation = operation;
+    this.cacheName = cacheName;
+    this.startNanos = System.nanoTime();
+    begin();
+  }
+
+  /** Records that the request is being sent. Only the first attempt counts. */
+  void markSent() {
+    if (sentNanos == 0) {
+      sentNanos = System.nanoTime();
+    }
+  }
+
+  /** Finishes timing the request and writes the event to the recording. */
+  void complete(
+      int requestSize,
+      int responseSize,
+      RequestResult result,
+      @Nullable MomentoErrorCode errorCode) {
+    end();
+    final long nowNanos = System.nanoTime();
+    final long sent = sentNanos != 0 ? sentNanos : nowNanos;
+    this.requestSize = requestSize;
+    this.responseSize = responseSize;
+    this.queueTime = sent - startNanos;
+    this.networkTime = nowNanos - sent;
+    this.outcome = result.name();
+    this.errorCode = errorCode != null ? errorCode.name() : null;
+    commit();
+  }
+}
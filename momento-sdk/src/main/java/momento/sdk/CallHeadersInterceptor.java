@@ -0,0 +1,40 @@
+package momento.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Adds the headers carried in a call's {@link CallOptions} to the request. This lets every call
+ * share one channel and interceptor chain, instead of building a stub with its own header
+ * interceptor per request.
+ */
+final class CallHeadersInterceptor implements ClientInterceptor {
+
+  /**
+   * The headers to add to a call. The headers are copied into each request, so one instance can be
+   * shared by many calls as long as it is not modified.
+   */
+  static final CallOptions.Key<Metadata> HEADERS = CallOptions.Key.create("momento-call-headers");
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions, Channel channel) {
+    final Metadata headers = callOptions.getOption(HEADERS);
+    if (headers == null) {
+      return channel.newCall(methodDescriptor, callOptions);
+    }
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+        channel.newCall(methodDescriptor, callOptions)) {
+      @Override
+      public void start(Listener<RespT> listener, Metadata metadata) {
+        metadata.merge(headers);
+        super.start(listener, metadata);
+      }
+    };
+  }
+}
@@ -0,0 +1,46 @@
+package momento.sdk;
+
+import io.grpc.ConnectivityState;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a data plane channel changing state, such as a connection being
+ * lost or re-established.
+ *
+ * <p>Only emit it through {@link FlightRecorderEvents#watchChannelState}.
+ */
+@Name("momento.ChannelState")
+@Label("Channel State Change")
+@Category({"Momento", "Cache Client"})
+@Description("A Momento cache client's gRPC channel changed connectivity state")
+@StackTrace(false)
+final class ChannelStateEvent extends jdk.jfr.Event {
+
+  @Label("Channel Index")
+  int channelIndex;
+
+  @Label("Target")
+  String target;
+
+  @Label("Previous State")
+  String previousState;
+
+  @Label("State")
+  String state;
+
+  static void emit(
+      int channelIndex, String target, ConnectivityState previousState, ConnectivityState state) {
+    final ChannelStateEvent event = new ChannelStateEvent();
+    if (event.shouldCommit()) {
+      event.channelIndex = channelIndex;
+      event.target = target;
+      event.previousState = previousState.name();
+      event.state = state.name();
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package momento.sdk;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.CircuitBreakerConfiguration;
+import momento.sdk.exceptions.CircuitBreakerOpenException;
+
+/**
+ * Fails requests fast while most recent requests have timed out or found the server unavailable.
+ * See {@link CircuitBreakerConfiguration}.
+ */
+final class CircuitBreaker {
+
+  private enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private enum Admission {
+    REJECTED,
+    NORMAL,
+    TRIAL
+  }
+
+  // The window is split into buckets so that old outcomes age out a slice at a time.
+  private static final int BUCKET_COUNT = 10;
+
+  private final double failureRateThreshold;
+  private final int minimumRequests;
+  private final long openNanos;
+  private final int trialRequests;
+  private final long bucketNanos;
+  private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+  // Written while holding the lock, read without it.
+  private volatile State state = State.CLOSED;
+  // Guarded by this.
+  private long openedAtNanos;
+  private int trialsStarted;
+  private int trialsSucceeded;
+
+  CircuitBreaker(CircuitBreakerConfiguration configuration) {
+    this.failureRateThreshold = configuration.getFailureRateThreshold();
+    this.minimumRequests = configuration.getMinimumRequests();
+    this.openNanos = configuration.getOpenDuration().toNanos();
+    this.trialRequests = configuration.getTrialRequests();
+    this.bucketNanos = Math.max(1, configuration.getWindow().toNanos() / BUCKET_COUNT);
+  }
+
+  /**
+   * Sends a request unless the breaker is open.
+   *
+   * @return the request, or a future failed with {@link CircuitBreakerOpenException} if the
+   *     breaker is open.
+   */
+  <RespT> ListenableFuture<RespT> send(Supplier<ListenableFuture<RespT>> sendRequest) {
+    final Admission admission = admit();
+    if (admission == Admission.REJECTED) {
+      return Futures.immediateFailedFuture(new CircuitBreakerOpenException());
+    }
+    final ListenableFuture<RespT> request;
+    try {
+      request = sendRequest.get();
+    } catch (RuntimeException e) {
+      // Releases the trial slot, which would otherwise keep the circuit half open forever.
+      onComplete(admission, e);
+      return Futures.immediateFailedFuture(e);
+    }
+    Futures.addCallback(
+        request,
+        new FutureCallback<RespT>() {
+          @Override
+          public void onSuccess(RespT rsp) {
+            onComplete(admission, null);
+          }
+
+          @Override
+          public void onFailure(@Nonnull Throwable e) {
+            onComplete(admission, e);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return request;
+  }
+
+  private Admission admit() {
+    if (state == State.CLOSED) {
+      return Admission.NORMAL;
+    }
+    synchronized (this) {
+      if (state == State.CLOSED) {
+        return Admission.NORMAL;
+      }
+      if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+        state = State.HALF_OPEN;
+        trialsStarted = 0;
+        trialsSucceeded = 0;
+      }
+      if (state == State.HALF_OPEN && trialsStarted < trialRequests) {
+        trialsStarted++;
+        return Admission.TRIAL;
+      }
+      return Admission.REJECTED;
+    }
+  }
+
+  private void onComplete(Admission admission, @Nullable Throwable failure) {
+    if (admission == Admission.TRIAL) {
+      onTrialComplete(failure);
+      return;
+    }
+    if (failure instanceof CancellationException) {
+      return;
+    }
+    final long nowNanos = System.nanoTime();
+    final Bucket bucket = bucketAt(nowNanos);
+    bucket.requests.increment();
+    if (isOutageFailure(failure)) {
+      bucket.failures.increment();
+      if (state == State.CLOSED && isFailureRateExceeded(nowNanos)) {
+        synchronized (this) {
+          if (state == State.CLOSED) {
+            open(nowNanos);
+          }
+        }
+      }
+    }
+  }
+
+  private synchronized void onTrialComplete(@Nullable Throwable failure) {
+    if (state != State.HALF_OPEN) {
+      return;
+    }
+    if (failure instanceof CancellationException) {
+      // The trial says nothing about the server, so let another request take its place.
+      trialsStarted--;
+    } else if (isOutageFailure(failure)) {
+      open(System.nanoTime());
+    } else if (++trialsSucceeded >= trialRequests) {
+      state = State.CLOSED;
+    }
+  }
+
+  // Must hold the lock.
+  private void open(long nowNanos) {
+    state = State.OPEN;
+    openedAtNanos = nowNanos;
+    // Forget the outcomes that opened the breaker, so that it closes with a clean window.
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, null);
+    }
+  }
+
+  private boolean isFailureRateExceeded(long nowNanos) {
+    final long oldestEpoch = Math.floorDiv(nowNanos, bucketNanos) - BUCKET_COUNT + 1;
+    long requests = 0;
+    long failures = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      final Bucket bucket = buckets.get(i);
+      if (bucket != null && bucket.epoch >= oldestEpoch) {
+        requests += bucket.requests.sum();
+        failures += bucket.failures.sum();
+      }
+    }
+    return requests >= minimumRequests && failures >= failureRateThreshold * requests;
+  }
+
+  private Bucket bucketAt(long nowNanos) {
+    final long epoch = Math.floorDiv(nowNanos, bucketNanos);
+    final int index = (int) Math.floorMod(epoch, (long) BUCKET_COUNT);
+    while (true) {
+      final Bucket bucket = buckets.get(index);
+      // A racing thread may already have started a newer bucket in this slot; count into it.
+      if (bucket != null && bucket.epoch >= epoch) {
+        return bucket;
+      }
+      final Bucket fresh = new Bucket(epoch);
+      if (buckets.compareAndSet(index, bucket, fresh)) {
+        return fresh;
+      }
+    }
+  }
+
+  private static boolean isOutageFailure(@Nullable Throwable failure) {
+    if (failure == null) {
+      return false;
+    }
+    final Status.Code code = Status.fromThrowable(failure).getCode();
+    return code == Status.Code.DEADLINE_EXCEEDED || code == Status.Code.UNAVAILABLE;
+  }
+
+  private static final class Bucket {
+    private final long epoch;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private Bucket(long epoch) {
+      this.epoch = epoch;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package momento.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import momento.sdk.config.CollectionChunkingConfiguration;
+
+/** Splits the elements of a collection write into chunks within the configured bounds. */
+final class CollectionChunker {
+
+  private final int maxElements;
+  private final long maxBytes;
+
+  CollectionChunker(CollectionChunkingConfiguration configuration) {
+    this.maxElements = configuration.getMaxElementsPerChunk();
+    this.maxBytes = configuration.getMaxBytesPerChunk();
+  }
+
+  /**
+   * Splits the elements into consecutive chunks, each within the element and byte bounds. An
+   * element larger than the byte bound gets a chunk to itself.
+   *
+   * @param elements the elements to split.
+   * @param sizeOf the size in bytes of an element.
+   * @return the chunks, in order, or a single chunk holding {@code elements} if it is within
+   *     bounds.
+   */
+  <E> List<List<E>> split(List<E> elements, ToLongFunction<E> sizeOf) {
+    final List<List<E>> chunks = new ArrayList<>();
+    List<E> chunk = new ArrayList<>();
+    long chunkBytes = 0;
+    for (E element : elements) {
+      final long elementBytes = sizeOf.applyAsLong(element);
+      if (!chunk.isEmpty()
+          && (chunk.size() == maxElements || chunkBytes + elementBytes > maxBytes)) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>();
+        chunkBytes = 0;
+      }
+      chunk.add(element);
+      chunkBytes += elementBytes;
+    }
+    if (chunks.isEmpty()) {
+      // Everything fits, so the write is sent as it is.
+      final List<List<E>> single = new ArrayList<>(1);
+      single.add(elements);
+      return single;
+    }
+    chunks.add(chunk);
+    return chunks;
+  }
+}
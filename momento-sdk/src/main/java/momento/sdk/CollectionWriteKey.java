@@ -0,0 +1,72 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import momento.sdk.requests.CollectionTtl;
+
+/**
+ * A collection qualified by its cache, together with the options a write to it is made with. Writes
+ * with equal keys can be combined into one request.
+ */
+final class CollectionWriteKey {
+  private final String cacheName;
+  private final ByteString collectionName;
+  private final CollectionTtl ttl;
+  private final Optional<Long> ttlMillis;
+  private final int truncateToSize;
+  private final int hash;
+
+  CollectionWriteKey(
+      @Nonnull String cacheName,
+      @Nonnull ByteString collectionName,
+      @Nonnull CollectionTtl ttl,
+      int truncateToSize) {
+    this.cacheName = cacheName;
+    this.collectionName = collectionName;
+    this.ttl = ttl;
+    this.ttlMillis = ttl.toMilliseconds();
+    this.truncateToSize = truncateToSize;
+    this.hash =
+        Objects.hash(cacheName, collectionName, ttlMillis, ttl.refreshTtl(), truncateToSize);
+  }
+
+  String getCacheName() {
+    return cacheName;
+  }
+
+  ByteString getCollectionName() {
+    return collectionName;
+  }
+
+  CollectionTtl getTtl() {
+    return ttl;
+  }
+
+  int getTruncateToSize() {
+    return truncateToSize;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CollectionWriteKey)) {
+      return false;
+    }
+    final CollectionWriteKey other = (CollectionWriteKey) o;
+    return hash == other.hash
+        && truncateToSize == other.truncateToSize
+        && ttl.refreshTtl() == other.ttl.refreshTtl()
+        && ttlMillis.equals(other.ttlMillis)
+        && cacheName.equals(other.cacheName)
+        && collectionName.equals(other.collectionName);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
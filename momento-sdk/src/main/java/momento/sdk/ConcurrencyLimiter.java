@@ -0,0 +1,130 @@
+package momento.sdk;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.ConcurrencyLimitConfiguration;
+import momento.sdk.exceptions.ClientResourceExhaustedException;
+import momento.sdk.metrics.ConcurrencyLimitStats;
+
+/**
+ * An additive-increase, multiplicative-decrease limit on the number of requests a client has in
+ * flight. See {@link ConcurrencyLimitConfiguration}.
+ */
+final class ConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder rejected = new LongAdder();
+
+  // Written while holding the lock, read without it.
+  private volatile double limit;
+  private long lastDecreaseNanos = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+
+  ConcurrencyLimiter(ConcurrencyLimitConfiguration configuration) {
+    this.minLimit = configuration.getMinLimit();
+    this.maxLimit = configuration.getMaxLimit();
+    this.backoffRatio = configuration.getBackoffRatio();
+    this.latencyThresholdNanos =
+        configuration.getLatencyThreshold().map(Duration::toNanos).orElse(Long.MAX_VALUE);
+    this.limit = configuration.getInitialLimit();
+  }
+
+  /**
+   * Sends a request if the limit allows it.
+   *
+   * @return the request, or a future failed with {@link ClientResourceExhaustedException} if the
+   *     limit had been reached.
+   */
+  <RespT> ListenableFuture<RespT> send(Supplier<ListenableFuture<RespT>> sendRequest) {
+    if (!tryAcquire()) {
+      rejected.increment();
+      return Futures.immediateFailedFuture(new ClientResourceExhaustedException());
+    }
+    final long startNanos = System.nanoTime();
+    final ListenableFuture<RespT> request;
+    try {
+      request = sendRequest.get();
+    } catch (RuntimeException e) {
+      inFlight.decrementAndGet();
+      throw e;
+    }
+    Futures.addCallback(
+        request,
+        new FutureCallback<RespT>() {
+          @Override
+          public void onSuccess(RespT rsp) {
+            onComplete(startNanos, null);
+          }
+
+          @Override
+          public void onFailure(@Nonnull Throwable e) {
+            onComplete(startNanos, e);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return request;
+  }
+
+  private boolean tryAcquire() {
+    while (true) {
+      final int current = inFlight.get();
+      if (current >= (int) limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void onComplete(long startNanos, @Nullable Throwable failure) {
+    final int inFlightBefore = inFlight.getAndDecrement();
+    if (failure instanceof CancellationException) {
+      // Cancelled requests, such as the losing copy of a hedged read, say nothing about the server.
+      return;
+    }
+    final long nowNanos = System.nanoTime();
+    final long rttNanos = nowNanos - startNanos;
+    final boolean overloaded = rttNanos > latencyThresholdNanos || isOverloadFailure(failure);
+    if (!overloaded && inFlightBefore * 2 < limit) {
+      // The client is not using enough of the limit to show that a larger one would be safe.
+      return;
+    }
+    synchronized (this) {
+      if (!overloaded) {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      } else if (nowNanos - lastDecreaseNanos >= rttNanos) {
+        // Requests sent before the last decrease were admitted under the old limit, so their
+        // failures do not shrink it again.
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreaseNanos = nowNanos;
+      }
+    }
+  }
+
+  private static boolean isOverloadFailure(@Nullable Throwable failure) {
+    if (failure == null) {
+      return false;
+    }
+    final Status.Code code = Status.fromThrowable(failure).getCode();
+    return code == Status.Code.RESOURCE_EXHAUSTED || code == Status.Code.DEADLINE_EXCEEDED;
+  }
+
+  ConcurrencyLimitStats stats() {
+    return new ConcurrencyLimitStats((int) limit, inFlight.get(), rejected.sum());
+  }
+}
@@ -0,0 +1,67 @@
+package momento.sdk;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import javax.annotation.Nullable;
+
+/**
+ * Emits the SDK's Java Flight Recorder events. JFR is not part of every Java 8 runtime, so the
+ * event classes are only loaded when the running JVM has it; otherwise every method here does
+ * nothing.
+ */
+final class FlightRecorderEvents {
+
+  private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+  private FlightRecorderEvents() {}
+
+  private static boolean isFlightRecorderAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Creates an event for a cache request if a recording has the {@code momento.CacheOperation}
+   * event enabled.
+   *
+   * @return the event, or null if it would not be recorded.
+   */
+  @Nullable
+  static CacheOperationEvent newCacheOperationEvent() {
+    if (!AVAILABLE) {
+      return null;
+    }
+    final CacheOperationEvent event = new CacheOperationEvent();
+    return event.isEnabled() ? event : null;
+  }
+
+  /**
+   * Emits a {@code momento.ChannelState} event every time the channel changes state, until it is
+   * shut down.
+   *
+   * @param channelIndex the channel's position in the client's pool.
+   * @param channel the channel to watch.
+   */
+  static void watchChannelState(int channelIndex, ManagedChannel channel) {
+    if (AVAILABLE) {
+      watchChannelState(channelIndex, channel, channel.getState(false));
+    }
+  }
+
+  private static void watchChannelState(
+      int channelIndex, ManagedChannel channel, ConnectivityState previousState) {
+    channel.notifyWhenStateChanged(
+        previousState,
+        () -> {
+          final ConnectivityState state = channel.getState(false);
+          ChannelStateEvent.emit(channelIndex, channel.authority(), previousState, state);
+          if (state != ConnectivityState.SHUTDOWN) {
+            watchChannelState(channelIndex, channel, state);
+          }
+        });
+  }
+}
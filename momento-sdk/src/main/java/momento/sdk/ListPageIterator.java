@@ -0,0 +1,129 @@
+package momento.sdk;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+import momento.sdk.messages.CacheListFetchResponse;
+
+/**
+ * Fetches a list one page at a time, so that reading a very long list never needs more than a few
+ * pages in memory. Each page is a list fetch of at most {@code pageSize} elements, and up to {@code
+ * prefetchPages} further pages are requested while the caller reads the current one.
+ *
+ * <p>Pages are fetched independently, so a list that is modified while it is being read may have
+ * elements skipped or repeated across page boundaries.
+ *
+ * <p>{@link #hasNext()} blocks until the next page arrives. If a page fails, it throws the {@link
+ * CacheListFetchResponse.Error}. Close the iterator to cancel the pages it has prefetched if the
+ * list is not read to the end.
+ *
+ * <p>Get an instance from {@link CacheClient#listFetchPages}.
+ */
+public final class ListPageIterator implements Iterator<CacheListFetchResponse.Hit>, AutoCloseable {
+
+  private final BiFunction<Integer, Integer, CompletableFuture<CacheListFetchResponse>> fetchPage;
+  @Nullable private final Integer endIndex;
+  private final int pageSize;
+  private final int prefetchPages;
+  private final Deque<PendingPage> pendingPages = new ArrayDeque<>();
+  private int nextPageStart;
+  private boolean lastPageRequested;
+  @Nullable private CacheListFetchResponse.Hit nextPage;
+
+  ListPageIterator(
+      BiFunction<Integer, Integer, CompletableFuture<CacheListFetchResponse>> fetchPage,
+      int startIndex,
+      @Nullable Integer endIndex,
+      int pageSize,
+      int prefetchPages) {
+    this.fetchPage = fetchPage;
+    this.endIndex = endIndex;
+    this.pageSize = pageSize;
+    this.prefetchPages = prefetchPages;
+    this.nextPageStart = startIndex;
+    requestPages();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextPage != null) {
+      return true;
+    }
+    requestPages();
+    final PendingPage pending = pendingPages.poll();
+    if (pending == null) {
+      return false;
+    }
+    final CacheListFetchResponse response = pending.response.join();
+    if (response instanceof CacheListFetchResponse.Error) {
+      close();
+      throw (CacheListFetchResponse.Error) response;
+    }
+    if (!(response instanceof CacheListFetchResponse.Hit)) {
+      // The list does not exist.
+      close();
+      return false;
+    }
+    final CacheListFetchResponse.Hit page = (CacheListFetchResponse.Hit) response;
+    if (page.size() < pending.size) {
+      // The list ended within this page, so any later pages are empty.
+      close();
+    }
+    if (page.size() == 0) {
+      return false;
+    }
+    nextPage = page;
+    return true;
+  }
+
+  @Override
+  public CacheListFetchResponse.Hit next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final CacheListFetchResponse.Hit page = nextPage;
+    nextPage = null;
+    return page;
+  }
+
+  /**
+   * Requests the page the caller reads next and up to {@code prefetchPages} pages after it, so that
+   * once the next page is taken no more than {@code prefetchPages} are in flight.
+   */
+  private void requestPages() {
+    while (!lastPageRequested && pendingPages.size() <= prefetchPages) {
+      final int start = nextPageStart;
+      int end = start + pageSize;
+      if (endIndex != null && end >= endIndex) {
+        end = endIndex;
+        lastPageRequested = true;
+      }
+      pendingPages.add(new PendingPage(fetchPage.apply(start, end), end - start));
+      nextPageStart = end;
+    }
+  }
+
+  /** Cancels any prefetched pages. The iterator has no further pages once it is closed. */
+  @Override
+  public void close() {
+    lastPageRequested = true;
+    for (PendingPage pending : pendingPages) {
+      pending.response.cancel(true);
+    }
+    pendingPages.clear();
+  }
+
+  private static final class PendingPage {
+    private final CompletableFuture<CacheListFetchResponse> response;
+    private final int size;
+
+    private PendingPage(CompletableFuture<CacheListFetchResponse> response, int size) {
+      this.response = response;
+      this.size = size;
+    }
+  }
+}
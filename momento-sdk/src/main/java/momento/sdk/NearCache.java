@@ -0,0 +1,339 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.NearCacheConfiguration;
+import momento.sdk.metrics.NearCacheStats;
+
+/**
+ * In-process cache of scalar values, bounded by bytes, that sits in front of cache gets.
+ *
+ * <p>The eviction policy follows W-TinyLFU: new items enter a small LRU admission window, and an
+ * item leaving the window is only admitted to the main LRU region if it has been read more often
+ * than the item it would displace. Read frequencies are tracked in a count-min sketch that is
+ * periodically halved so that items which were once popular eventually age out.
+ *
+ * <p>Keys are split across segments that each run this policy over a share of the capacity
+ * under their own lock, so that reads of different keys rarely contend.
+ *
+ * <p>Writes through the client invalidate the local copy. Every key hashes to a stamp that is
+ * bumped on invalidation, and a value is only stored if the stamp read before its request was sent
+ * is unchanged, so a slow get can never overwrite the result of a newer write.
+ */
+final class NearCache {
+
+  // Rough per-item cost of the map entries, key wrapper, and bookkeeping fields.
+  private static final long ENTRY_OVERHEAD_BYTES = 96;
+  private static final int WINDOW_PERCENT = 1;
+  private static final int NUM_STAMP_STRIPES = 256;
+  // Keys are spread over independently locked segments so that concurrent reads of different keys
+  // rarely contend. Small caches get fewer segments so that each can still hold large items.
+  private static final int MAX_SEGMENTS = 16;
+  private static final long MIN_SEGMENT_BYTES = 64 * 1024;
+
+  private final Duration maxTtl;
+  private final Segment[] segments;
+  private final AtomicLongArray stamps = new AtomicLongArray(NUM_STAMP_STRIPES);
+
+  NearCache(@Nonnull NearCacheConfiguration configuration) {
+    final long maxSizeBytes = configuration.getMaxSizeBytes();
+    this.maxTtl = configuration.getMaxTtl();
+    final int segmentCount =
+        Integer.highestOneBit(
+            (int) Math.max(1, Math.min(MAX_SEGMENTS, maxSizeBytes / MIN_SEGMENT_BYTES)));
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment(maxSizeBytes / segmentCount);
+    }
+  }
+
+  /**
+   * Returns the locally cached value for the key, or null if it must be fetched from the server.
+   */
+  @Nullable
+  ByteString get(@Nonnull String cacheName, @Nonnull ByteString key) {
+    final CacheKey k = new CacheKey(cacheName, key);
+    return segmentFor(k).get(k);
+  }
+
+  /**
+   * Reads the invalidation stamp for the key. Pass it to {@link #putIfUnchanged} once the value has
+   * been fetched.
+   */
+  long readStamp(@Nonnull String cacheName, @Nonnull ByteString key) {
+    return stamps.get(stripe(CacheKey.hash(cacheName, key)));
+  }
+
+  /**
+   * Drops the local copy of the key and makes any in-flight fetch of it unable to store its result.
+   *
+   * @return the new stamp, for a write that wants to store its own value once it succeeds.
+   */
+  long invalidate(@Nonnull String cacheName, @Nonnull ByteString key) {
+    final CacheKey k = new CacheKey(cacheName, key);
+    final Segment segment = segmentFor(k);
+    synchronized (segment) {
+      final long stamp = stamps.incrementAndGet(stripe(k.hashCode()));
+      segment.removeEntry(k);
+      return stamp;
+    }
+  }
+
+  /**
+   * Stores the value unless the key was invalidated after the stamp was read.
+   *
+   * @param ttl the TTL the value was written with. The local copy expires at the earlier of this
+   *     and the configured maximum TTL.
+   */
+  void putIfUnchanged(
+      @Nonnull String cacheName,
+      @Nonnull ByteString key,
+      @Nonnull ByteString value,
+      @Nonnull Duration ttl,
+      long stamp) {
+    final CacheKey k = new CacheKey(cacheName, key);
+    final long weight = ENTRY_OVERHEAD_BYTES + 2L * cacheName.length() + key.size() + value.size();
+    final Duration localTtl = ttl.compareTo(maxTtl) < 0 ? ttl : maxTtl;
+    final Segment segment = segmentFor(k);
+    // The stamp is checked under the segment lock that invalidate holds while bumping it, so an
+    // invalidation either rejects this value or removes it once it is stored.
+    synchronized (segment) {
+      if (stamps.get(stripe(k.hashCode())) != stamp) {
+        return;
+      }
+      segment.removeEntry(k);
+      if (localTtl.isZero() || localTtl.isNegative()) {
+        return;
+      }
+      segment.put(k, new Entry(value, weight, System.nanoTime() + localTtl.toNanos()));
+    }
+  }
+
+  NearCacheStats stats() {
+    long hitCount = 0;
+    long missCount = 0;
+    long evictionCount = 0;
+    long entryCount = 0;
+    long sizeBytes = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        hitCount += segment.hitCount;
+        missCount += segment.missCount;
+        evictionCount += segment.evictionCount;
+        entryCount += segment.window.size() + segment.main.size();
+        sizeBytes += segment.windowBytes + segment.mainBytes;
+      }
+    }
+    return new NearCacheStats(hitCount, missCount, evictionCount, entryCount, sizeBytes);
+  }
+
+  private Segment segmentFor(CacheKey k) {
+    // Mixes the hash first, since short keys leave the high bits of a ByteString hash mostly unset.
+    return segments[((k.hashCode() * 0x9e3779b9) >>> 16) & (segments.length - 1)];
+  }
+
+  /** A W-TinyLFU cache over a share of the keys, guarded by its own monitor. */
+  private static final class Segment {
+    private final long maxSizeBytes;
+    private final long windowMaxBytes;
+    private final long mainMaxBytes;
+
+    // Both maps are kept in access order, so iteration starts at the least recently used item.
+    private final LinkedHashMap<CacheKey, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<CacheKey, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+
+    private long windowBytes;
+    private long mainBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private Segment(long maxSizeBytes) {
+      this.maxSizeBytes = maxSizeBytes;
+      this.windowMaxBytes = Math.max(1, maxSizeBytes * WINDOW_PERCENT / 100);
+      this.mainMaxBytes = maxSizeBytes - windowMaxBytes;
+      this.sketch = new FrequencySketch(maxSizeBytes);
+    }
+
+    @Nullable
+    private synchronized ByteString get(CacheKey k) {
+      sketch.increment(k.hashCode());
+
+      Entry entry = window.get(k);
+      if (entry == null) {
+        entry = main.get(k);
+      }
+      if (entry == null) {
+        missCount++;
+        return null;
+      }
+      if (entry.isExpired(System.nanoTime())) {
+        removeEntry(k);
+        missCount++;
+        return null;
+      }
+      hitCount++;
+      return entry.value;
+    }
+
+    /** Adds an entry for a key that is not present. The caller holds this segment's lock. */
+    private void put(CacheKey k, Entry entry) {
+      if (entry.weight > maxSizeBytes) {
+        return;
+      }
+      window.put(k, entry);
+      windowBytes += entry.weight;
+      while (windowBytes > windowMaxBytes) {
+        final Iterator<Map.Entry<CacheKey, Entry>> iterator = window.entrySet().iterator();
+        final Map.Entry<CacheKey, Entry> candidate = iterator.next();
+        iterator.remove();
+        windowBytes -= candidate.getValue().weight;
+        admitToMain(candidate.getKey(), candidate.getValue());
+      }
+    }
+
+    private void admitToMain(CacheKey candidateKey, Entry candidate) {
+      final long now = System.nanoTime();
+      if (candidate.isExpired(now)) {
+        return;
+      }
+      if (candidate.weight > mainMaxBytes) {
+        evictionCount++;
+        return;
+      }
+
+      // Pick the least recently used items that would make room before evicting any of them, so
+      // that a rejected candidate leaves the main region as it was.
+      final int candidateFrequency = sketch.frequency(candidateKey.hashCode());
+      final List<CacheKey> victims = new ArrayList<>();
+      final List<CacheKey> expired = new ArrayList<>();
+      long freedBytes = 0;
+      final Iterator<Map.Entry<CacheKey, Entry>> iterator = main.entrySet().iterator();
+      while (mainBytes - freedBytes + candidate.weight > mainMaxBytes) {
+        final Map.Entry<CacheKey, Entry> victim = iterator.next();
+        if (victim.getValue().isExpired(now)) {
+          expired.add(victim.getKey());
+        } else if (candidateFrequency <= sketch.frequency(victim.getKey().hashCode())) {
+          // The candidate is no more popular than what it would replace, so it is rejected.
+          evictionCount++;
+          removeFromMain(expired);
+          return;
+        } else {
+          victims.add(victim.getKey());
+        }
+        freedBytes += victim.getValue().weight;
+      }
+      removeFromMain(expired);
+      removeFromMain(victims);
+      evictionCount += victims.size();
+      main.put(candidateKey, candidate);
+      mainBytes += candidate.weight;
+    }
+
+    private void removeFromMain(List<CacheKey> keys) {
+      for (CacheKey key : keys) {
+        mainBytes -= main.remove(key).weight;
+      }
+    }
+
+    private void removeEntry(CacheKey k) {
+      Entry removed = window.remove(k);
+      if (removed != null) {
+        windowBytes -= removed.weight;
+        return;
+      }
+      removed = main.remove(k);
+      if (removed != null) {
+        mainBytes -= removed.weight;
+      }
+    }
+  }
+
+  private static int stripe(int hash) {
+    return (hash ^ (hash >>> 16)) & (NUM_STAMP_STRIPES - 1);
+  }
+
+  private static final class Entry {
+    private final ByteString value;
+    private final long weight;
+    private final long expiresAtNanos;
+
+    private Entry(ByteString value, long weight, long expiresAtNanos) {
+      this.value = value;
+      this.weight = weight;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    private boolean isExpired(long nowNanos) {
+      return nowNanos - expiresAtNanos >= 0;
+    }
+  }
+
+  /** A count-min sketch of 4-bit read frequencies that is halved every 10 * width reads. */
+  private static final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_FREQUENCY = 15;
+    private static final int MIN_WIDTH = 64;
+    private static final int MAX_WIDTH = 1 << 16;
+    // Used to size the sketch, which has no way to learn the actual item count up front.
+    private static final long ASSUMED_ENTRY_BYTES = 256;
+    private static final int[] SEEDS = {0x97cb3127, 0xb24f5b8b, 0x5fd4b9f5, 0x8f6f5b1b};
+
+    private final byte[] table;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+
+    private FrequencySketch(long maxSizeBytes) {
+      final long expectedEntries =
+          Math.max(MIN_WIDTH, Math.min(MAX_WIDTH, maxSizeBytes / ASSUMED_ENTRY_BYTES));
+      this.width = Integer.highestOneBit((int) expectedEntries - 1) << 1;
+      this.table = new byte[DEPTH * width];
+      this.sampleSize = 10 * width;
+    }
+
+    private void increment(int hash) {
+      boolean added = false;
+      for (int row = 0; row < DEPTH; row++) {
+        final int index = indexOf(hash, row);
+        if (table[index] < MAX_FREQUENCY) {
+          table[index]++;
+          added = true;
+        }
+      }
+      if (added && ++additions >= sampleSize) {
+        reset();
+      }
+    }
+
+    private int frequency(int hash) {
+      int frequency = MAX_FREQUENCY;
+      for (int row = 0; row < DEPTH; row++) {
+        frequency = Math.min(frequency, table[indexOf(hash, row)]);
+      }
+      return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+      int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+      h ^= h >>> 15;
+      return row * width + (h & (width - 1));
+    }
+
+    private void reset() {
+      for (int i = 0; i < table.length; i++) {
+        table[i] = (byte) (table[i] >>> 1);
+      }
+      additions /= 2;
+    }
+  }
+}
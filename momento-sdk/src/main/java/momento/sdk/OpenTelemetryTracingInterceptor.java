@@ -0,0 +1,161 @@
+package momento.sdk;
+
+import static io.grpc.Metadata.ASCII_STRING_MARSHALLER;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.metrics.RequestResult;
+
+/**
+ * Records an OpenTelemetry client span for every gRPC request a client sends, so that cache calls
+ * show up in distributed traces. Install it with {@link
+ * momento.sdk.config.transport.GrpcConfiguration#withClientInterceptors}; without it, requests are
+ * not traced and the SDK does no tracing work.
+ *
+ * <p>Spans are named after the gRPC method, such as {@code cache_client.Scs/Get}, and carry the
+ * OpenTelemetry RPC attributes along with the cache name, the serialized request and response
+ * sizes, and whether a read hit. The current trace context is injected into the request headers
+ * with the configured propagators. Retries and hedges each get their own span.
+ *
+ * <p>The OpenTelemetry API is an optional dependency of the SDK: it must be on the classpath to use
+ * this class.
+ */
+public final class OpenTelemetryTracingInterceptor implements ClientInterceptor {
+
+  private static final String INSTRUMENTATION_NAME = "momento-sdk-java";
+
+  private static final Metadata.Key<String> CACHE_NAME_KEY =
+      Metadata.Key.of("cache", ASCII_STRING_MARSHALLER);
+
+  private static final AttributeKey<String> RPC_SYSTEM = AttributeKey.stringKey("rpc.system");
+  private static final AttributeKey<String> RPC_SERVICE = AttributeKey.stringKey("rpc.service");
+  private static final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
+  private static final AttributeKey<Long> RPC_GRPC_STATUS_CODE =
+      AttributeKey.longKey("rpc.grpc.status_code");
+  private static final AttributeKey<String> CACHE_NAME = AttributeKey.stringKey("momento.cache");
+  private static final AttributeKey<Long> REQUEST_SIZE =
+      AttributeKey.longKey("momento.request.size");
+  private static final AttributeKey<Long> RESPONSE_SIZE =
+      AttributeKey.longKey("momento.response.size");
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("momento.result");
+
+  private static final TextMapSetter<Metadata> HEADER_SETTER =
+      (headers, key, value) -> {
+        if (headers != null) {
+          headers.put(Metadata.Key.of(key, ASCII_STRING_MARSHALLER), value);
+        }
+      };
+
+  private final Tracer tracer;
+  private final TextMapPropagator propagator;
+
+  /**
+   * Creates an interceptor that records spans with the given OpenTelemetry instance.
+   *
+   * @param openTelemetry the tracer provider and propagators to use.
+   */
+  public OpenTelemetryTracingInterceptor(@Nonnull OpenTelemetry openTelemetry) {
+    this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    return new TracingClientCall<>(next.newCall(method, callOptions), method);
+  }
+
+  private final class TracingClientCall<ReqT, RespT>
+      extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+    private final MethodDescriptor<ReqT, RespT> method;
+    @Nullable private Span span;
+
+    private TracingClientCall(
+        ClientCall<ReqT, RespT> delegate, MethodDescriptor<ReqT, RespT> method) {
+      super(delegate);
+      this.method = method;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      final SpanBuilder spanBuilder =
+          tracer
+              .spanBuilder(method.getFullMethodName())
+              .setSpanKind(SpanKind.CLIENT)
+              .setAttribute(RPC_SYSTEM, "grpc")
+              .setAttribute(RPC_SERVICE, method.getServiceName())
+              .setAttribute(RPC_METHOD, method.getBareMethodName());
+      // The data plane sends the cache name as a header, which is attached before this runs.
+      final String cacheName = headers.get(CACHE_NAME_KEY);
+      if (cacheName != null) {
+        spanBuilder.setAttribute(CACHE_NAME, cacheName);
+      }
+      final Span span = spanBuilder.startSpan();
+      this.span = span;
+      propagator.inject(Context.current().with(span), headers, HEADER_SETTER);
+      super.start(new TracingListener<>(responseListener, span), headers);
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+      if (span != null && message instanceof MessageLite) {
+        span.setAttribute(REQUEST_SIZE, (long) ((MessageLite) message).getSerializedSize());
+      }
+      super.sendMessage(message);
+    }
+  }
+
+  private static final class TracingListener<RespT>
+      extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT> {
+
+    private final Span span;
+
+    private TracingListener(ClientCall.Listener<RespT> delegate, Span span) {
+      super(delegate);
+      this.span = span;
+    }
+
+    @Override
+    public void onMessage(RespT message) {
+      if (message instanceof MessageLite) {
+        span.setAttribute(RESPONSE_SIZE, (long) ((MessageLite) message).getSerializedSize());
+      }
+      span.setAttribute(RESULT, ResponseClassifier.classify(message).name());
+      super.onMessage(message);
+    }
+
+    @Override
+    public void onClose(Status status, Metadata trailers) {
+      span.setAttribute(RPC_GRPC_STATUS_CODE, (long) status.getCode().value());
+      if (!status.isOk()) {
+        span.setAttribute(RESULT, RequestResult.ERROR.name());
+        span.setStatus(
+            StatusCode.ERROR,
+            status.getDescription() != null ? status.getDescription() : status.getCode().name());
+      }
+      span.end();
+      super.onClose(status, trailers);
+    }
+  }
+}
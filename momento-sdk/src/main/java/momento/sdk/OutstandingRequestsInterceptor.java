@@ -0,0 +1,43 @@
+package momento.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Counts the calls on a channel that have been started but have not yet been closed. */
+final class OutstandingRequestsInterceptor implements ClientInterceptor {
+
+  private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+  int getOutstandingRequests() {
+    return outstandingRequests.get();
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions, Channel channel) {
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+        channel.newCall(methodDescriptor, callOptions)) {
+      @Override
+      public void start(Listener<RespT> listener, Metadata metadata) {
+        outstandingRequests.incrementAndGet();
+        super.start(
+            new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+              @Override
+              public void onClose(Status status, Metadata trailers) {
+                outstandingRequests.decrementAndGet();
+                super.onClose(status, trailers);
+              }
+            },
+            metadata);
+      }
+    };
+  }
+}
@@ -0,0 +1,244 @@
+package momento.sdk;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import grpc.cache_client.ScsGrpc;
+import io.grpc.MethodDescriptor;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.HedgingPolicy;
+
+/**
+ * A client's state for a {@link HedgingPolicy}: the recent latencies of each hedged method, and
+ * the scheduler that sends hedges once their delay has passed.
+ */
+final class RequestHedger {
+
+  private final long minDelayNanos;
+  private final OptionalDouble percentile;
+  private final ScheduledExecutorService scheduler;
+  private final Map<String, LatencyTracker> trackers = new HashMap<>();
+
+  RequestHedger(HedgingPolicy hedgingPolicy, ScheduledExecutorService scheduler) {
+    this.minDelayNanos = hedgingPolicy.getDelay().toNanos();
+    this.percentile = hedgingPolicy.getPercentile();
+    this.scheduler = scheduler;
+    for (MethodDescriptor<?, ?> method :
+        Arrays.asList(
+            ScsGrpc.getGetMethod(),
+            ScsGrpc.getDictionaryGetMethod(),
+            ScsGrpc.getListFetchMethod(),
+            ScsGrpc.getSortedSetFetchMethod())) {
+      trackers.put(method.getFullMethodName(), new LatencyTracker());
+    }
+  }
+
+  /**
+   * Sends a request, and sends it again with {@code sendHedge} if it is a hedged read that has
+   * not completed once the hedging delay has passed.
+   */
+  <RespT> ListenableFuture<RespT> send(
+      MethodDescriptor<?, RespT> method,
+      Supplier<ListenableFuture<RespT>> sendPrimary,
+      Supplier<ListenableFuture<RespT>> sendHedge) {
+    final LatencyTracker tracker = tracker(method);
+    if (tracker == null) {
+      return sendPrimary.get();
+    }
+    final long delayNanos;
+    if (percentile.isPresent()) {
+      final long percentileNanos = tracker.percentileNanos(percentile.getAsDouble());
+      if (percentileNanos < 0) {
+        // Not enough latencies have been seen to know when a read is slow.
+        return tracker.record(sendPrimary.get());
+      }
+      delayNanos = Math.max(minDelayNanos, percentileNanos);
+    } else {
+      delayNanos = minDelayNanos;
+    }
+    return new HedgedRequest<>(sendHedge, tracker).start(sendPrimary, delayNanos, scheduler);
+  }
+
+  /** @return the latencies recorded for a method, or null if the method is never hedged. */
+  @Nullable
+  LatencyTracker tracker(MethodDescriptor<?, ?> method) {
+    return trackers.get(method.getFullMethodName());
+  }
+
+  /**
+   * A read that completes with the first of up to two copies to succeed.
+   *
+   * <p>Only the primary's latency is recorded, whichever copy wins, since recording the winner's
+   * would hide exactly the slow responses the percentile is meant to reflect. A primary that loses
+   * to the hedge is therefore left to complete rather than cancelled.
+   */
+  private static final class HedgedRequest<RespT> extends AbstractFuture<RespT> {
+
+    private final Supplier<ListenableFuture<RespT>> sendHedge;
+    private final LatencyTracker tracker;
+    // The number of copies that have been sent and have not failed.
+    private final AtomicInteger pending = new AtomicInteger();
+    @Nullable private volatile Future<?> primary;
+    @Nullable private volatile Future<?> hedge;
+    @Nullable private volatile Future<?> hedgeTimer;
+
+    HedgedRequest(Supplier<ListenableFuture<RespT>> sendHedge, LatencyTracker tracker) {
+      this.sendHedge = sendHedge;
+      this.tracker = tracker;
+    }
+
+    HedgedRequest<RespT> start(
+        Supplier<ListenableFuture<RespT>> sendPrimary,
+        long delayNanos,
+        ScheduledExecutorService scheduler) {
+      primary = send(sendPrimary, true);
+      if (!isDone()) {
+        try {
+          hedgeTimer = scheduler.schedule(this::sendHedge, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException closed) {
+          // The client is closing, so the primary request is the only one.
+        }
+      }
+      cancelIfDone();
+      return this;
+    }
+
+    private void sendHedge() {
+      if (!isDone()) {
+        hedge = send(sendHedge, false);
+        cancelIfDone();
+      }
+    }
+
+    private ListenableFuture<RespT> send(
+        Supplier<ListenableFuture<RespT>> sendCopy, boolean isPrimary) {
+      pending.incrementAndGet();
+      final long sentNanos = System.nanoTime();
+      final ListenableFuture<RespT> copy;
+      try {
+        copy = sendCopy.get();
+      } catch (RuntimeException e) {
+        pending.decrementAndGet();
+        setException(e);
+        return Futures.immediateFailedFuture(e);
+      }
+      Futures.addCallback(
+          copy,
+          new FutureCallback<RespT>() {
+            @Override
+            public void onSuccess(RespT rsp) {
+              if (isPrimary) {
+                tracker.record(System.nanoTime() - sentNanos);
+              }
+              set(rsp);
+            }
+
+            @Override
+            public void onFailure(@Nonnull Throwable e) {
+              // A failed copy is only reported once no other copy can still succeed.
+              if (pending.decrementAndGet() == 0) {
+                setException(e);
+              }
+            }
+          },
+          MoreExecutors.directExecutor());
+      return copy;
+    }
+
+    // Covers copies and timers that were started while another thread completed this request.
+    private void cancelIfDone() {
+      if (isDone()) {
+        afterDone();
+      }
+    }
+
+    @Override
+    protected void afterDone() {
+      if (isCancelled()) {
+        cancel(primary);
+      }
+      cancel(hedge);
+      cancel(hedgeTimer);
+    }
+
+    private static void cancel(@Nullable Future<?> future) {
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * The latencies of a method's most recent successful responses. The percentile is recomputed
+   * every few responses rather than on every read.
+   */
+  static final class LatencyTracker {
+
+    private static final int SAMPLE_COUNT = 1024;
+    private static final int MIN_SAMPLES = 100;
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_COUNT);
+    private final AtomicLong recorded = new AtomicLong();
+    @Nullable private volatile long[] sorted;
+
+    <RespT> ListenableFuture<RespT> record(ListenableFuture<RespT> request) {
+      final long startNanos = System.nanoTime();
+      Futures.addCallback(
+          request,
+          new FutureCallback<RespT>() {
+            @Override
+            public void onSuccess(RespT rsp) {
+              record(System.nanoTime() - startNanos);
+            }
+
+            @Override
+            public void onFailure(@Nonnull Throwable e) {}
+          },
+          MoreExecutors.directExecutor());
+      return request;
+    }
+
+    void record(long latencyNanos) {
+      final long count = recorded.getAndIncrement();
+      samples.set((int) (count % SAMPLE_COUNT), latencyNanos);
+      if ((count + 1) % RECOMPUTE_INTERVAL == 0) {
+        sorted = null;
+      }
+    }
+
+    /** @return the given percentile of recent latencies, or -1 if too few have been recorded. */
+    long percentileNanos(double percentile) {
+      final long count = Math.min(recorded.get(), SAMPLE_COUNT);
+      if (count < MIN_SAMPLES) {
+        return -1;
+      }
+      long[] snapshot = sorted;
+      if (snapshot == null) {
+        snapshot = new long[(int) count];
+        for (int i = 0; i < snapshot.length; i++) {
+          snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        sorted = snapshot;
+      }
+      final int index = (int) Math.ceil(percentile / 100 * snapshot.length) - 1;
+      return snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package momento.sdk;
+
+import grpc.cache_client.ECacheResult;
+import grpc.cache_client._DictionaryFetchResponse;
+import grpc.cache_client._DictionaryGetResponse;
+import grpc.cache_client._GetResponse;
+import grpc.cache_client._ListFetchResponse;
+import grpc.cache_client._ListLengthResponse;
+import grpc.cache_client._ListPopBackResponse;
+import grpc.cache_client._ListPopFrontResponse;
+import grpc.cache_client._SetFetchResponse;
+import grpc.cache_client._SortedSetFetchResponse;
+import momento.sdk.metrics.RequestResult;
+
+/** Tells hits from misses in gRPC responses, for {@link momento.sdk.metrics.MetricsRecorder}. */
+final class ResponseClassifier {
+
+  private ResponseClassifier() {}
+
+  static RequestResult classify(Object rsp) {
+    if (rsp instanceof _GetResponse) {
+      final ECacheResult result = ((_GetResponse) rsp).getResult();
+      if (result == ECacheResult.Hit) {
+        return RequestResult.HIT;
+      }
+      // Any other result is reported to the caller as an error.
+      return result == ECacheResult.Miss ? RequestResult.MISS : RequestResult.ERROR;
+    } else if (rsp instanceof _DictionaryGetResponse) {
+      return hitIf(((_DictionaryGetResponse) rsp).hasFound());
+    } else if (rsp instanceof _DictionaryFetchResponse) {
+      return hitIf(((_DictionaryFetchResponse) rsp).hasFound());
+    } else if (rsp instanceof _ListFetchResponse) {
+      return hitIf(((_ListFetchResponse) rsp).hasFound());
+    } else if (rsp instanceof _ListLengthResponse) {
+      return hitIf(((_ListLengthResponse) rsp).hasFound());
+    } else if (rsp instanceof _ListPopBackResponse) {
+      return hitIf(((_ListPopBackResponse) rsp).hasFound());
+    } else if (rsp instanceof _ListPopFrontResponse) {
+      return hitIf(((_ListPopFrontResponse) rsp).hasFound());
+    } else if (rsp instanceof _SetFetchResponse) {
+      return hitIf(((_SetFetchResponse) rsp).hasFound());
+    } else if (rsp instanceof _SortedSetFetchResponse) {
+      return hitIf(((_SortedSetFetchResponse) rsp).hasFound());
+    }
+    return RequestResult.SUCCESS;
+  }
+
+  private static RequestResult hitIf(boolean found) {
+    return found ? RequestResult.HIT : RequestResult.MISS;
+  }
+}
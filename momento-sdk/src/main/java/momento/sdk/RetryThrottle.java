@@ -0,0 +1,39 @@
+package momento.sdk;
+
+import java.util.concurrent.atomic.AtomicLong;
+import momento.sdk.config.retry.RetryBudget;
+
+/** A client's token bucket for a {@link RetryBudget}, kept in thousandths of a token. */
+final class RetryThrottle {
+
+  private static final long MILLIS_PER_TOKEN = 1000;
+
+  private final long maxMilliTokens;
+  private final long milliTokensPerSuccess;
+  private final AtomicLong milliTokens;
+
+  RetryThrottle(RetryBudget retryBudget) {
+    this.maxMilliTokens = retryBudget.getMaxTokens() * MILLIS_PER_TOKEN;
+    this.milliTokensPerSuccess =
+        Math.max(1, Math.round(retryBudget.getTokenRatio() * MILLIS_PER_TOKEN));
+    this.milliTokens = new AtomicLong(maxMilliTokens);
+  }
+
+  void onSuccess() {
+    // Most of the time the bucket is full, so skip the write.
+    if (milliTokens.get() < maxMilliTokens) {
+      milliTokens.updateAndGet(tokens -> Math.min(maxMilliTokens, tokens + milliTokensPerSuccess));
+    }
+  }
+
+  /**
+   * Takes a token for a failed attempt.
+   *
+   * @return true if the bucket is still more than half full, so the attempt may be retried.
+   */
+  boolean tryRetry() {
+    final long remaining =
+        milliTokens.updateAndGet(tokens -> Math.max(0, tokens - MILLIS_PER_TOKEN));
+    return remaining > maxMilliTokens / 2;
+  }
+}
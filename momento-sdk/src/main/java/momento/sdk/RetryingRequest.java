@@ -0,0 +1,125 @@
+package momento.sdk;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Deadline;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.retry.RetryStrategy;
+
+/**
+ * A request that is sent again when it fails in a way the {@link RetryStrategy} allows. Every
+ * attempt shares one deadline, and cancelling this future cancels the attempt in flight or the
+ * pending retry.
+ */
+final class RetryingRequest<RespT> extends AbstractFuture<RespT> {
+
+  private final MethodDescriptor<?, RespT> method;
+  private final IntFunction<ListenableFuture<RespT>> sendAttempt;
+  private final Deadline deadline;
+  private final RetryStrategy retryStrategy;
+  @Nullable private final RetryThrottle retryThrottle;
+  private final ScheduledExecutorService retryScheduler;
+
+  // Attempts run one after another, so only one thread touches attemptNumber at a time.
+  private int attemptNumber;
+  @Nullable private volatile Future<?> inFlight;
+
+  /** @param sendAttempt sends the attempt with the given number, starting at 1. */
+  RetryingRequest(
+      MethodDescriptor<?, RespT> method,
+      IntFunction<ListenableFuture<RespT>> sendAttempt,
+      Deadline deadline,
+      RetryStrategy retryStrategy,
+      @Nullable RetryThrottle retryThrottle,
+      ScheduledExecutorService retryScheduler) {
+    this.method = method;
+    this.sendAttempt = sendAttempt;
+    this.deadline = deadline;
+    this.retryStrategy = retryStrategy;
+    this.retryThrottle = retryThrottle;
+    this.retryScheduler = retryScheduler;
+  }
+
+  RetryingRequest<RespT> start() {
+    sendNextAttempt();
+    return this;
+  }
+
+  private void sendNextAttempt() {
+    if (isDone()) {
+      return;
+    }
+    final ListenableFuture<RespT> attempt;
+    try {
+      attempt = sendAttempt.apply(++attemptNumber);
+    } catch (RuntimeException e) {
+      setException(e);
+      return;
+    }
+    inFlight = attempt;
+    if (isCancelled()) {
+      attempt.cancel(false);
+      return;
+    }
+    Futures.addCallback(
+        attempt,
+        new FutureCallback<RespT>() {
+          @Override
+          public void onSuccess(RespT rsp) {
+            if (retryThrottle != null) {
+              retryThrottle.onSuccess();
+            }
+            set(rsp);
+          }
+
+          @Override
+          public void onFailure(@Nonnull Throwable e) {
+            if (!isDone()) {
+              retryOrFail(e);
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private void retryOrFail(Throwable e) {
+    final Optional<Duration> delay =
+        retryStrategy.determineWhenToRetry(Status.fromThrowable(e), method, attemptNumber);
+    if (!delay.isPresent()) {
+      setException(e);
+      return;
+    }
+    final long delayNanos = delay.get().toNanos();
+    if (deadline.timeRemaining(TimeUnit.NANOSECONDS) <= delayNanos
+        || (retryThrottle != null && !retryThrottle.tryRetry())) {
+      setException(e);
+      return;
+    }
+    try {
+      inFlight = retryScheduler.schedule(this::sendNextAttempt, delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException closed) {
+      setException(e);
+    }
+  }
+
+  @Override
+  protected void afterDone() {
+    final Future<?> attempt = inFlight;
+    if (isCancelled() && attempt != null) {
+      attempt.cancel(wasInterrupted());
+    }
+  }
+}
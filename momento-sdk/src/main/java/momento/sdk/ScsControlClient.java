@@ -24,6 +24,7 @@ import java.util.Date;
 import java.util.List;
 import javax.annotation.Nonnull;
 import momento.sdk.auth.CredentialProvider;
+import momento.sdk.config.Configuration;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
 import momento.sdk.messages.CacheInfo;
 import momento.sdk.messages.CreateCacheResponse;
@@ -41,9 +42,11 @@ final class ScsControlClient implements Closeable {
   private final CredentialProvider credentialProvider;
   private final ScsControlGrpcStubsManager controlGrpcStubsManager;
 
-  ScsControlClient(@Nonnull CredentialProvider credentialProvider) {
+  ScsControlClient(
+      @Nonnull CredentialProvider credentialProvider, @Nonnull Configuration configuration) {
     this.credentialProvider = credentialProvider;
-    this.controlGrpcStubsManager = new ScsControlGrpcStubsManager(credentialProvider);
+    this.controlGrpcStubsManager =
+        new ScsControlGrpcStubsManager(credentialProvider, configuration);
   }
 
   CreateCacheResponse createCache(String cacheName) {
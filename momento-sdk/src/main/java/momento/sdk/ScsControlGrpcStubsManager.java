@@ -10,7 +10,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.transport.GrpcConfiguration;
 
 /**
  * Manager responsible for GRPC channels and stubs for the Control Plane.
@@ -26,18 +29,39 @@ final class ScsControlGrpcStubsManager implements Closeable {
   private final ManagedChannel channel;
   private final ScsControlGrpc.ScsControlBlockingStub controlBlockingStub;
 
-  ScsControlGrpcStubsManager(@Nonnull CredentialProvider credentialProvider) {
-    this.channel = setupConnection(credentialProvider);
+  ScsControlGrpcStubsManager(
+      @Nonnull CredentialProvider credentialProvider, @Nonnull Configuration configuration) {
+    // The control plane sees little traffic, so it only leaves gRPC's default transport to share
+    // resources the caller provided.
+    final GrpcConfiguration grpcConfiguration =
+        configuration.getTransportStrategy().getGrpcConfiguration();
+    final SharedTransportResources transportResources =
+        grpcConfiguration.getSharedTransportResources().orElse(null);
+    this.channel =
+        setupConnection(
+            credentialProvider, transportResources, grpcConfiguration.getClientInterceptors());
     this.controlBlockingStub = ScsControlGrpc.newBlockingStub(channel);
   }
 
-  private static ManagedChannel setupConnection(CredentialProvider credentialProvider) {
+  private static ManagedChannel setupConnection(
+      CredentialProvider credentialProvider,
+      @Nullable SharedTransportResources transportResources,
+      List<ClientInterceptor> configuredInterceptors) {
     final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getControlEndpoint(), 443);
-    channelBuilder.useTransportSecurity();
+        NettyChannelBuilder.forAddress(
+            credentialProvider.getControlEndpoint(), credentialProvider.getPort());
+    if (credentialProvider.isEndpointSecure()) {
+      channelBuilder.useTransportSecurity();
+    } else {
+      channelBuilder.usePlaintext();
+    }
     channelBuilder.disableRetry();
+    if (transportResources != null) {
+      transportResources.configure(channelBuilder);
+    }
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
     clientInterceptors.add(new UserHeaderInterceptor(credentialProvider.getAuthToken()));
+    clientInterceptors.addAll(configuredInterceptors);
     channelBuilder.intercept(clientInterceptors);
     return channelBuilder.build();
   }
@@ -53,7 +77,7 @@ final class ScsControlGrpcStubsManager implements Closeable {
    * <p><a href="https://github.com/grpc/grpc-java/issues/1495">more information</a>
    */
   ScsControlGrpc.ScsControlBlockingStub getBlockingStub() {
-    return controlBlockingStub.withDeadlineAfter(DEADLINE.getSeconds(), TimeUnit.SECONDS);
+    return controlBlockingStub.withDeadlineAfter(DEADLINE.toNanos(), TimeUnit.NANOSECONDS);
   }
 
   @Override
@@ -5,6 +5,7 @@ import static momento.sdk.ValidationUtils.checkCacheNameValid;
 import static momento.sdk.ValidationUtils.checkDictionaryNameValid;
 import static momento.sdk.ValidationUtils.checkIndexRangeValid;
 import static momento.sdk.ValidationUtils.checkListNameValid;
+import static momento.sdk.ValidationUtils.checkListPagingValid;
 import static momento.sdk.ValidationUtils.checkScoreRangeValid;
 import static momento.sdk.ValidationUtils.checkSetNameValid;
 import static momento.sdk.ValidationUtils.checkSortedSetCountValid;
@@ -17,7 +18,10 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.UnsafeByteOperations;
 import grpc.cache_client.ECacheResult;
 import grpc.cache_client.ScsGrpc;
 import grpc.cache_client._DeleteRequest;
@@ -73,23 +77,49 @@ import grpc.cache_client._SortedSetFetchResponse;
 import grpc.cache_client._SortedSetPutRequest;
 import grpc.cache_client._SortedSetPutResponse;
 import grpc.cache_client._Unbounded;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.Deadline;
 import io.grpc.Metadata;
-import io.grpc.stub.MetadataUtils;
+import io.grpc.MethodDescriptor;
+import io.grpc.stub.ClientCalls;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.Configuration;
+import momento.sdk.config.HedgingPolicy;
+import momento.sdk.config.WriteCombiningConfiguration;
+import momento.sdk.config.retry.RetryStrategy;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
+import momento.sdk.exceptions.ChunkedWriteException;
 import momento.sdk.exceptions.InternalServerException;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.messages.CacheDeleteManyResponse;
 import momento.sdk.messages.CacheDeleteResponse;
 import momento.sdk.messages.CacheDictionaryFetchResponse;
 import momento.sdk.messages.CacheDictionaryGetFieldResponse;
@@ -99,6 +129,7 @@ import momento.sdk.messages.CacheDictionaryRemoveFieldResponse;
 import momento.sdk.messages.CacheDictionaryRemoveFieldsResponse;
 import momento.sdk.messages.CacheDictionarySetFieldResponse;
 import momento.sdk.messages.CacheDictionarySetFieldsResponse;
+import momento.sdk.messages.CacheGetManyResponse;
 import momento.sdk.messages.CacheGetResponse;
 import momento.sdk.messages.CacheIncrementResponse;
 import momento.sdk.messages.CacheListConcatenateBackResponse;
@@ -115,6 +146,7 @@ import momento.sdk.messages.CacheSetAddElementResponse;
 import momento.sdk.messages.CacheSetAddElementsResponse;
 import momento.sdk.messages.CacheSetFetchResponse;
 import momento.sdk.messages.CacheSetIfNotExistsResponse;
+import momento.sdk.messages.CacheSetManyResponse;
 import momento.sdk.messages.CacheSetRemoveElementResponse;
 import momento.sdk.messages.CacheSetRemoveElementsResponse;
 import momento.sdk.messages.CacheSetResponse;
@@ -122,16 +154,46 @@ import momento.sdk.messages.CacheSortedSetFetchResponse;
 import momento.sdk.messages.CacheSortedSetPutElementResponse;
 import momento.sdk.messages.CacheSortedSetPutElementsResponse;
 import momento.sdk.messages.SortOrder;
+import momento.sdk.metrics.CallbackExecutionStats;
+import momento.sdk.metrics.ConcurrencyLimitStats;
+import momento.sdk.metrics.MetricsRecorder;
+import momento.sdk.metrics.NearCacheStats;
+import momento.sdk.metrics.RequestResult;
 import momento.sdk.requests.CollectionTtl;
+import momento.sdk.requests.RequestOptions;
 
 /** Client for interacting with Scs Data plane. */
 final class ScsDataClient implements Closeable {
 
   private static final Metadata.Key<String> CACHE_NAME_KEY =
       Metadata.Key.of("cache", ASCII_STRING_MARSHALLER);
+  private static final int MAX_CACHED_METADATA = 1024;
 
   private final Duration itemDefaultTtl;
   private final ScsDataGrpcStubsManager scsDataGrpcStubsManager;
+  @Nullable private final NearCache nearCache;
+  private final int maxConcurrentBulkRequests;
+  private final boolean zeroCopyWritesEnabled;
+  private final TimedExecutor completionExecutor;
+  @Nullable private final ConcurrentMap<CacheKey, CompletableFuture<CacheGetResponse>> inFlightGets;
+  @Nullable private final RetryStrategy retryStrategy;
+  @Nullable private final RetryThrottle retryThrottle;
+  @Nullable private final RequestHedger requestHedger;
+  @Nullable private final ConcurrencyLimiter concurrencyLimiter;
+  @Nullable private final CircuitBreaker circuitBreaker;
+  @Nullable private final MetricsRecorder metricsRecorder;
+  @Nullable private final CollectionChunker collectionChunker;
+
+  @Nullable
+  private final WriteCombiner<CollectionWriteKey, ByteString, CacheListPushBackResponse>
+      listPushCombiner;
+
+  @Nullable
+  private final WriteCombiner<CollectionWriteKey, ByteString, CacheSetAddElementResponse>
+      setAddCombiner;
+
+  @Nullable private final ScheduledExecutorService scheduler;
+  private final ConcurrentMap<String, Metadata> cacheMetadata = new ConcurrentHashMap<>();
 
   ScsDataClient(
       @Nonnull CredentialProvider credentialProvider,
@@ -139,42 +201,98 @@ final class ScsDataClient implements Closeable {
       @Nonnull Duration defaultTtl) {
     this.itemDefaultTtl = defaultTtl;
     this.scsDataGrpcStubsManager = new ScsDataGrpcStubsManager(credentialProvider, configuration);
+    this.nearCache = configuration.getNearCacheConfiguration().map(NearCache::new).orElse(null);
+    this.maxConcurrentBulkRequests = configuration.getMaxConcurrentBulkRequests();
+    this.inFlightGets = configuration.isGetCoalescingEnabled() ? new ConcurrentHashMap<>() : null;
+    this.zeroCopyWritesEnabled = configuration.isZeroCopyWritesEnabled();
+    this.completionExecutor =
+        new TimedExecutor(
+            configuration.getCompletionExecutor().orElse(MoreExecutors.directExecutor()));
+    this.retryStrategy = configuration.getRetryStrategy().orElse(null);
+    this.retryThrottle =
+        retryStrategy != null
+            ? retryStrategy.getRetryBudget().map(RetryThrottle::new).orElse(null)
+            : null;
+    final Optional<HedgingPolicy> hedgingPolicy = configuration.getHedgingPolicy();
+    final Optional<WriteCombiningConfiguration> writeCombining =
+        configuration.getWriteCombining();
+    // Retry backoff, hedging delays and write combining flushes share one timer thread.
+    this.scheduler =
+        retryStrategy != null || hedgingPolicy.isPresent() || writeCombining.isPresent()
+            ? Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                    .setNameFormat("momento-scheduler-%d")
+                    .setDaemon(true)
+                    .build())
+            : null;
+    this.requestHedger =
+        hedgingPolicy.map(policy -> new RequestHedger(policy, scheduler)).orElse(null);
+    this.concurrencyLimiter =
+        configuration.getConcurrencyLimit().map(ConcurrencyLimiter::new).orElse(null);
+    this.circuitBreaker = configuration.getCircuitBreaker().map(CircuitBreaker::new).orElse(null);
+    this.metricsRecorder = configuration.getMetricsRecorder().orElse(null);
+    this.collectionChunker =
+        configuration.getCollectionChunking().map(CollectionChunker::new).orElse(null);
+    this.listPushCombiner =
+        writeCombining
+            .map(config -> new WriteCombiner<>(config, scheduler, this::sendCombinedListPushes))
+            .orElse(null);
+    this.setAddCombiner =
+        writeCombining
+            .map(config -> new WriteCombiner<>(config, scheduler, this::sendCombinedSetAdds))
+            .orElse(null);
+  }
+
+  Optional<NearCacheStats> getNearCacheStats() {
+    return Optional.ofNullable(nearCache).map(NearCache::stats);
+  }
+
+  CallbackExecutionStats getCallbackExecutionStats() {
+    return completionExecutor.stats();
+  }
+
+  Optional<ConcurrencyLimitStats> getConcurrencyLimitStats() {
+    return Optional.ofNullable(concurrencyLimiter).map(ConcurrencyLimiter::stats);
   }
 
-  CompletableFuture<CacheGetResponse> get(String cacheName, byte[] key) {
+  CompletableFuture<CacheGetResponse> get(
+      String cacheName, byte[] key, @Nonnull RequestOptions requestOptions) {
     try {
       ensureValidKey(key);
-      return sendGet(cacheName, convert(key));
+      return sendGet(cacheName, convert(key), requestOptions);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheGetResponse.Error(CacheServiceExceptionMapper.convert(e)));
     }
   }
 
-  CompletableFuture<CacheGetResponse> get(String cacheName, String key) {
+  CompletableFuture<CacheGetResponse> get(
+      String cacheName, String key, @Nonnull RequestOptions requestOptions) {
     try {
       ensureValidKey(key);
-      return sendGet(cacheName, convert(key));
+      return sendGet(cacheName, convert(key), requestOptions);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheGetResponse.Error(CacheServiceExceptionMapper.convert(e)));
     }
   }
 
-  CompletableFuture<CacheDeleteResponse> delete(String cacheName, byte[] key) {
+  CompletableFuture<CacheDeleteResponse> delete(
+      String cacheName, byte[] key, @Nonnull RequestOptions requestOptions) {
     try {
       ensureValidKey(key);
-      return sendDelete(cacheName, convert(key));
+      return sendDelete(cacheName, convert(key), requestOptions);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheDeleteResponse.Error(CacheServiceExceptionMapper.convert(e)));
     }
   }
 
-  CompletableFuture<CacheDeleteResponse> delete(String cacheName, String key) {
+  CompletableFuture<CacheDeleteResponse> delete(
+      String cacheName, String key, @Nonnull RequestOptions requestOptions) {
     try {
       ensureValidKey(key);
-      return sendDelete(cacheName, convert(key));
+      return sendDelete(cacheName, convert(key), requestOptions);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheDeleteResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -182,13 +300,18 @@ final class ScsDataClient implements Closeable {
   }
 
   CompletableFuture<CacheSetResponse> set(
-      String cacheName, String key, ByteBuffer value, @Nullable Duration ttl) {
+      String cacheName,
+      String key,
+      ByteBuffer value,
+      @Nullable Duration ttl,
+      @Nonnull RequestOptions requestOptions) {
     try {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
       ensureValidCacheSet(key, value, ttl);
-      return sendSet(cacheName, convert(key), convert(value), ttl);
+      return sendSet(
+          cacheName, convert(key), convertValue(value), zeroCopyWritesEnabled, ttl, requestOptions);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -196,13 +319,18 @@ final class ScsDataClient implements Closeable {
   }
 
   CompletableFuture<CacheSetResponse> set(
-      String cacheName, byte[] key, byte[] value, @Nullable Duration ttl) {
+      String cacheName,
+      byte[] key,
+      byte[] value,
+      @Nullable Duration ttl,
+      @Nonnull RequestOptions requestOptions) {
     try {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
       ensureValidCacheSet(key, value, ttl);
-      return sendSet(cacheName, convert(key), convert(value), ttl);
+      return sendSet(
+          cacheName, convert(key), convertValue(value), zeroCopyWritesEnabled, ttl, requestOptions);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -210,19 +338,112 @@ final class ScsDataClient implements Closeable {
   }
 
   CompletableFuture<CacheSetResponse> set(
-      String cacheName, String key, String value, @Nullable Duration ttl) {
+      String cacheName,
+      String key,
+      String value,
+      @Nullable Duration ttl,
+      @Nonnull RequestOptions requestOptions) {
     try {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
       ensureValidCacheSet(key, value, ttl);
-      return sendSet(cacheName, convert(key), convert(value), ttl);
+      return sendSet(cacheName, convert(key), convert(value), false, ttl, requestOptions);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetResponse.Error(CacheServiceExceptionMapper.convert(e)));
     }
   }
 
+  CompletableFuture<CacheGetManyResponse> getMany(String cacheName, List<String> keys) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidKeys(keys);
+      return sendGetMany(cacheName, convertStringList(keys));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new CacheGetManyResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<CacheGetManyResponse> getManyByteArray(String cacheName, List<byte[]> keys) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidKeys(keys);
+      return sendGetMany(cacheName, convertByteArrayList(keys));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new CacheGetManyResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<CacheSetManyResponse> setMany(
+      String cacheName, Map<String, String> items, @Nullable Duration ttl) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidValue(items);
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      final List<ByteString> keys = new ArrayList<>(items.size());
+      final List<ByteString> values = new ArrayList<>(items.size());
+      for (Map.Entry<String, String> item : items.entrySet()) {
+        ensureValidCacheSet(item.getKey(), item.getValue(), ttl);
+        keys.add(convert(item.getKey()));
+        values.add(convert(item.getValue()));
+      }
+      return sendSetMany(cacheName, keys, values, false, ttl);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new CacheSetManyResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<CacheSetManyResponse> setManyByteArray(
+      String cacheName, Map<byte[], byte[]> items, @Nullable Duration ttl) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidValue(items);
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      final List<ByteString> keys = new ArrayList<>(items.size());
+      final List<ByteString> values = new ArrayList<>(items.size());
+      for (Map.Entry<byte[], byte[]> item : items.entrySet()) {
+        ensureValidCacheSet(item.getKey(), item.getValue(), ttl);
+        keys.add(convert(item.getKey()));
+        values.add(convertValue(item.getValue()));
+      }
+      return sendSetMany(cacheName, keys, values, zeroCopyWritesEnabled, ttl);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new CacheSetManyResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<CacheDeleteManyResponse> deleteMany(String cacheName, List<String> keys) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidKeys(keys);
+      return sendDeleteMany(cacheName, convertStringList(keys));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new CacheDeleteManyResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<CacheDeleteManyResponse> deleteManyByteArray(
+      String cacheName, List<byte[]> keys) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidKeys(keys);
+      return sendDeleteMany(cacheName, convertByteArrayList(keys));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new CacheDeleteManyResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
   CompletableFuture<CacheIncrementResponse> increment(
       String cacheName, String field, long amount, @Nullable Duration ttl) {
     try {
@@ -272,7 +493,7 @@ final class ScsDataClient implements Closeable {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendSetIfNotExists(cacheName, convert(key), convert(value), ttl);
+      return sendSetIfNotExists(cacheName, convert(key), convertValue(value), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetIfNotExistsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -300,7 +521,7 @@ final class ScsDataClient implements Closeable {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendSetIfNotExists(cacheName, convert(key), convert(value), ttl);
+      return sendSetIfNotExists(cacheName, convert(key), convertValue(value), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetIfNotExistsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -316,7 +537,7 @@ final class ScsDataClient implements Closeable {
       if (ttl == null) {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
-      return sendSetAddElement(cacheName, convert(setName), convert(element), ttl);
+      return sendSetAddElementCombined(cacheName, convert(setName), convert(element), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetAddElementResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -332,7 +553,7 @@ final class ScsDataClient implements Closeable {
       if (ttl == null) {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
-      return sendSetAddElement(cacheName, convert(setName), convert(element), ttl);
+      return sendSetAddElementCombined(cacheName, convert(setName), convert(element), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetAddElementResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -348,7 +569,8 @@ final class ScsDataClient implements Closeable {
       if (ttl == null) {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
-      return sendSetAddElements(cacheName, convert(setName), convertStringSet(elements), ttl);
+      return sendSetAddElementsInChunks(
+          cacheName, convert(setName), convertStringSet(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetAddElementsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -364,7 +586,8 @@ final class ScsDataClient implements Closeable {
       if (ttl == null) {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
-      return sendSetAddElements(cacheName, convert(setName), convertByteArraySet(elements), ttl);
+      return sendSetAddElementsInChunks(
+          cacheName, convert(setName), convertByteArraySet(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheSetAddElementsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -494,7 +717,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendSortedSetPutElements(
+      return sendSortedSetPutElementsInChunks(
           cacheName, convert(sortedSetName), convertStringScoreMap(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -516,7 +739,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendSortedSetPutElements(
+      return sendSortedSetPutElementsInChunks(
           cacheName, convert(sortedSetName), convertBytesScoreMap(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -565,6 +788,28 @@ final class ScsDataClient implements Closeable {
     }
   }
 
+  SortedSetPageIterator sortedSetFetchByScorePages(
+      String cacheName,
+      String sortedSetName,
+      @Nullable Double minScore,
+      @Nullable Double maxScore,
+      @Nullable SortOrder order,
+      int pageSize) {
+    checkCacheNameValid(cacheName);
+    checkSetNameValid(sortedSetName);
+    checkScoreRangeValid(minScore, maxScore);
+    checkSortedSetCountValid(pageSize);
+    final ByteString sortedSetNameBytes = convert(sortedSetName);
+    return new SortedSetPageIterator(
+        (min, max, offset, count) ->
+            sendSortedSetFetchByScore(
+                cacheName, sortedSetNameBytes, min, max, order, offset, count),
+        minScore,
+        maxScore,
+        order == SortOrder.DESCENDING,
+        pageSize);
+  }
+
   CompletableFuture<CacheListConcatenateBackResponse> listConcatenateBack(
       String cacheName,
       String listName,
@@ -580,7 +825,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendListConcatenateBack(
+      return sendListConcatenateBackInChunks(
           cacheName, convert(listName), convertStringList(values), ttl, truncateFrontToSize);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -603,7 +848,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendListConcatenateBack(
+      return sendListConcatenateBackInChunks(
           cacheName, convert(listName), convertByteArrayList(values), ttl, truncateFrontToSize);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -670,6 +915,25 @@ final class ScsDataClient implements Closeable {
     }
   }
 
+  ListPageIterator listFetchPages(
+      String cacheName,
+      String listName,
+      int startIndex,
+      @Nullable Integer endIndex,
+      int pageSize,
+      int prefetchPages) {
+    checkCacheNameValid(cacheName);
+    checkListNameValid(listName);
+    checkListPagingValid(startIndex, endIndex, pageSize, prefetchPages);
+    final ByteString listNameBytes = convert(listName);
+    return new ListPageIterator(
+        (start, end) -> sendListFetch(cacheName, listNameBytes, start, end),
+        startIndex,
+        endIndex,
+        pageSize,
+        prefetchPages);
+  }
+
   CompletableFuture<CacheListLengthResponse> listLength(String cacheName, String listName) {
     try {
       checkCacheNameValid(cacheName);
@@ -718,7 +982,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendListPushBack(
+      return sendListPushBackCombined(
           cacheName, convert(listName), convert(value), ttl, truncateFrontToSize);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -741,8 +1005,8 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendListPushBack(
-          cacheName, convert(listName), convert(value), ttl, truncateFrontToSize);
+      return sendListPushBackCombined(
+          cacheName, convert(listName), convertValue(value), ttl, truncateFrontToSize);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheListPushBackResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -883,7 +1147,7 @@ final class ScsDataClient implements Closeable {
       }
 
       return sendDictionarySetField(
-          cacheName, convert(dictionaryName), convert(field), convert(value), ttl);
+          cacheName, convert(dictionaryName), convert(field), convertValue(value), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheDictionarySetFieldResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -923,7 +1187,7 @@ final class ScsDataClient implements Closeable {
       }
 
       return sendDictionarySetField(
-          cacheName, convert(dictionaryName), convert(field), convert(value), ttl);
+          cacheName, convert(dictionaryName), convert(field), convertValue(value), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new CacheDictionarySetFieldResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -941,7 +1205,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendDictionarySetFields(
+      return sendDictionarySetFieldsInChunks(
           cacheName, convert(dictionaryName), convertStringStringEntryList(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -960,7 +1224,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendDictionarySetFields(
+      return sendDictionarySetFieldsInChunks(
           cacheName, convert(dictionaryName), convertStringBytesEntryList(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -979,7 +1243,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendDictionarySetFields(
+      return sendDictionarySetFieldsInChunks(
           cacheName, convert(dictionaryName), convertBytesStringEntryList(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -998,7 +1262,7 @@ final class ScsDataClient implements Closeable {
         ttl = CollectionTtl.of(itemDefaultTtl);
       }
 
-      return sendDictionarySetFields(
+      return sendDictionarySetFieldsInChunks(
           cacheName, convert(dictionaryName), convertBytesBytesEntryList(elements), ttl);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
@@ -1175,14 +1439,15 @@ final class ScsDataClient implements Closeable {
     }
   }
 
-  private ByteString convert(String stringToEncode) {
+  // The conversion and request building helpers are package-private for momento-sdk-jmh.
+  ByteString convert(String stringToEncode) {
     if (stringToEncode == null) {
       return ByteString.EMPTY;
     }
     return ByteString.copyFromUtf8(stringToEncode);
   }
 
-  private ByteString convert(byte[] bytes) {
+  ByteString convert(byte[] bytes) {
     if (bytes == null) {
       return ByteString.EMPTY;
     }
@@ -1193,6 +1458,31 @@ final class ScsDataClient implements Closeable {
     return ByteString.copyFrom(byteBuffer);
   }
 
+  /**
+   * Converts a caller's value for a write. With zero-copy writes enabled the caller's array is
+   * wrapped rather than copied, so it must not be modified until the write completes.
+   */
+  ByteString convertValue(byte[] bytes) {
+    if (zeroCopyWritesEnabled && bytes != null) {
+      return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+    return convert(bytes);
+  }
+
+  /**
+   * Converts a caller's value for a write. With zero-copy writes enabled the remaining bytes of the
+   * buffer, heap or direct, are wrapped rather than copied, and the buffer's contents must not be
+   * modified until the write completes. Either way the buffer's position is advanced to its limit.
+   */
+  ByteString convertValue(ByteBuffer byteBuffer) {
+    if (zeroCopyWritesEnabled) {
+      final ByteString value = UnsafeByteOperations.unsafeWrap(byteBuffer.slice());
+      byteBuffer.position(byteBuffer.limit());
+      return value;
+    }
+    return convert(byteBuffer);
+  }
+
   private Set<ByteString> convertStringSet(Set<String> strings) {
     return strings.stream().map(this::convert).collect(Collectors.toSet());
   }
@@ -1201,6 +1491,13 @@ final class ScsDataClient implements Closeable {
     return strings.stream().map(this::convert).collect(Collectors.toSet());
   }
 
+  private static void ensureValidKeys(List<?> keys) {
+    ensureValidKey(keys);
+    for (Object key : keys) {
+      ensureValidKey(key);
+    }
+  }
+
   private List<ByteString> convertStringList(List<String> strings) {
     return strings.stream().map(this::convert).collect(Collectors.toList());
   }
@@ -1209,7 +1506,7 @@ final class ScsDataClient implements Closeable {
     return byteArrays.stream().map(this::convert).collect(Collectors.toList());
   }
 
-  private Map<ByteString, ByteString> convertStringStringEntryList(Map<String, String> elements) {
+  Map<ByteString, ByteString> convertStringStringEntryList(Map<String, String> elements) {
     return elements.entrySet().stream()
         .collect(
             Collectors.toMap(entry -> convert(entry.getKey()), entry -> convert(entry.getValue())));
@@ -1243,13 +1540,64 @@ final class ScsDataClient implements Closeable {
         .collect(Collectors.toMap(entry -> convert(entry.getKey()), Map.Entry::getValue));
   }
 
-  private CompletableFuture<CacheGetResponse> sendGet(String cacheName, ByteString key) {
+  private CompletableFuture<CacheGetResponse> sendGet(
+      String cacheName, ByteString key, RequestOptions requestOptions) {
     checkCacheNameValid(cacheName);
 
+    final long nearCacheStamp;
+    if (nearCache != null) {
+      final ByteString nearCacheValue = nearCache.get(cacheName, key);
+      if (nearCacheValue != null) {
+        return CompletableFuture.completedFuture(new CacheGetResponse.Hit(nearCacheValue));
+      }
+      nearCacheStamp = nearCache.readStamp(cacheName, key);
+    } else {
+      nearCacheStamp = 0;
+    }
+
+    // A per-request deadline belongs to its caller, so those gets never share a request.
+    if (inFlightGets == null || requestOptions.getDeadline().isPresent()) {
+      return sendGetRequest(cacheName, key, requestOptions, nearCacheStamp);
+    }
+
+    final CacheKey cacheKey = new CacheKey(cacheName, key);
+    CompletableFuture<CacheGetResponse> sharedFuture = inFlightGets.get(cacheKey);
+    if (sharedFuture == null) {
+      final CompletableFuture<CacheGetResponse> newFuture = new CompletableFuture<>();
+      sharedFuture = inFlightGets.putIfAbsent(cacheKey, newFuture);
+      if (sharedFuture == null) {
+        sharedFuture = newFuture;
+        CompletableFuture<CacheGetResponse> rspFuture;
+        try {
+          rspFuture = sendGetRequest(cacheName, key, requestOptions, nearCacheStamp);
+        } catch (Exception e) {
+          rspFuture =
+              CompletableFuture.completedFuture(
+                  new CacheGetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+        }
+        rspFuture.whenComplete(
+            (rsp, e) -> {
+              // Remove first, so gets that arrive after the response send a fresh request.
+              inFlightGets.remove(cacheKey, newFuture);
+              if (e != null) {
+                newFuture.completeExceptionally(e);
+              } else {
+                newFuture.complete(rsp);
+              }
+            });
+      }
+    }
+
+    // Each caller gets its own future, so cancelling one does not cancel the shared request.
+    return sharedFuture.thenApply(Function.identity());
+  }
+
+  private CompletableFuture<CacheGetResponse> sendGetRequest(
+      String cacheName, ByteString key, RequestOptions requestOptions, long nearCacheStamp) {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_GetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata).get(buildGetRequest(key));
+        executeRequest(ScsGrpc.getGetMethod(), metadata, requestOptions, buildGetRequest(key));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheGetResponse> returnFuture =
@@ -1273,6 +1621,10 @@ final class ScsDataClient implements Closeable {
 
             final CacheGetResponse response;
             if (result == ECacheResult.Hit) {
+              if (nearCache != null) {
+                nearCache.putIfUnchanged(
+                    cacheName, key, rsp.getCacheBody(), itemDefaultTtl, nearCacheStamp);
+              }
               response = new CacheGetResponse.Hit(rsp.getCacheBody());
             } else if (result == ECacheResult.Miss) {
               response = new CacheGetResponse.Miss();
@@ -1290,18 +1642,20 @@ final class ScsDataClient implements Closeable {
                 new CacheGetResponse.Error(CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
 
-  private CompletableFuture<CacheDeleteResponse> sendDelete(String cacheName, ByteString key) {
+  private CompletableFuture<CacheDeleteResponse> sendDelete(
+      String cacheName, ByteString key, RequestOptions requestOptions) {
     checkCacheNameValid(cacheName);
+    invalidateLocalState(cacheName, key);
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DeleteResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata).delete(buildDeleteRequest(key));
+        executeRequest(
+            ScsGrpc.getDeleteMethod(), metadata, requestOptions, buildDeleteRequest(key));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDeleteResponse> returnFuture =
@@ -1321,30 +1675,41 @@ final class ScsDataClient implements Closeable {
         new FutureCallback<_DeleteResponse>() {
           @Override
           public void onSuccess(_DeleteResponse rsp) {
+            invalidateLocalState(cacheName, key);
             returnFuture.complete(new CacheDeleteResponse.Success());
           }
 
           @Override
           public void onFailure(@Nonnull Throwable e) {
+            invalidateLocalState(cacheName, key);
             returnFuture.complete(
                 new CacheDeleteResponse.Error(CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
 
+  /**
+   * @param valueWrapped whether the value wraps the caller's memory, which may change after the
+   *     write, so it must not be kept in the near cache.
+   */
   private CompletableFuture<CacheSetResponse> sendSet(
-      String cacheName, ByteString key, ByteString value, Duration ttl) {
+      String cacheName,
+      ByteString key,
+      ByteString value,
+      boolean valueWrapped,
+      Duration ttl,
+      RequestOptions requestOptions) {
     checkCacheNameValid(cacheName);
+    final long nearCacheStamp = invalidateLocalState(cacheName, key);
 
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .set(buildSetRequest(key, value, ttl));
+        executeRequest(
+            ScsGrpc.getSetMethod(), metadata, requestOptions, buildSetRequest(key, value, ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSetResponse> returnFuture =
@@ -1364,29 +1729,372 @@ final class ScsDataClient implements Closeable {
         new FutureCallback<_SetResponse>() {
           @Override
           public void onSuccess(_SetResponse rsp) {
+            if (valueWrapped) {
+              // Drop what a get stored while the set was in flight, since it is now stale.
+              invalidateLocalState(cacheName, key);
+            } else if (nearCache != null) {
+              nearCache.putIfUnchanged(cacheName, key, value, ttl, nearCacheStamp);
+            }
             returnFuture.complete(new CacheSetResponse.Success(value));
           }
 
           @Override
           public void onFailure(@Nonnull Throwable e) {
+            // The server may have applied the set anyway, so drop what a get stored meanwhile.
+            invalidateLocalState(cacheName, key);
             returnFuture.complete(
                 new CacheSetResponse.Error(CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
 
+  private CompletableFuture<CacheGetManyResponse> sendGetMany(
+      String cacheName, List<ByteString> keys) {
+    return this.<CacheGetResponse>sendBounded(
+            keys.size(),
+            i -> sendGet(cacheName, keys.get(i), RequestOptions.defaults()),
+            e -> new CacheGetResponse.Error(CacheServiceExceptionMapper.convert(e)))
+        .thenApply(results -> new CacheGetManyResponse.Success(keys, results));
+  }
+
+  private CompletableFuture<CacheSetManyResponse> sendSetMany(
+      String cacheName,
+      List<ByteString> keys,
+      List<ByteString> values,
+      boolean valuesWrapped,
+      Duration ttl) {
+    return this.<CacheSetResponse>sendBounded(
+            keys.size(),
+            i ->
+                sendSet(
+                    cacheName,
+                    keys.get(i),
+                    values.get(i),
+                    valuesWrapped,
+                    ttl,
+                    RequestOptions.defaults()),
+            e -> new CacheSetResponse.Error(CacheServiceExceptionMapper.convert(e)))
+        .thenApply(results -> new CacheSetManyResponse.Success(keys, results));
+  }
+
+  private CompletableFuture<CacheDeleteManyResponse> sendDeleteMany(
+      String cacheName, List<ByteString> keys) {
+    return this.<CacheDeleteResponse>sendBounded(
+            keys.size(),
+            i -> sendDelete(cacheName, keys.get(i), RequestOptions.defaults()),
+            e -> new CacheDeleteResponse.Error(CacheServiceExceptionMapper.convert(e)))
+        .thenApply(results -> new CacheDeleteManyResponse.Success(keys, results));
+  }
+
+  /**
+   * Sends {@code count} requests with at most {@link #maxConcurrentBulkRequests} in flight. Each
+   * completed request starts the next unsent one, so nothing blocks waiting for a free slot.
+   *
+   * @param count the number of requests.
+   * @param send sends the request with the given index.
+   * @param onFailure converts a request that completed exceptionally, or could not be sent, into a
+   *     response.
+   * @return a future of the responses, in index order.
+   */
+  private <R> CompletableFuture<List<R>> sendBounded(
+      int count, IntFunction<CompletableFuture<R>> send, Function<Throwable, R> onFailure) {
+    final BoundedSender<R> sender = new BoundedSender<>(count, send, onFailure);
+    for (int i = 0; i < Math.min(count, maxConcurrentBulkRequests); i++) {
+      sender.sendNext();
+    }
+    if (count == 0) {
+      sender.returnFuture.complete(Collections.emptyList());
+    }
+    return sender.returnFuture;
+  }
+
+  /**
+   * Sends a chunked write's chunks with at most {@link #maxConcurrentBulkRequests} in flight, and
+   * merges their responses into one.
+   *
+   * @param chunkCount the number of chunks.
+   * @param sendChunk sends the chunk with the given index.
+   * @param onFailure converts a chunk that completed exceptionally into an error response.
+   * @param success creates the response for a write whose chunks all succeeded.
+   * @param error creates the error response for a write with failed chunks.
+   * @return a future of the merged response.
+   */
+  private <R> CompletableFuture<R> sendChunks(
+      int chunkCount,
+      IntFunction<CompletableFuture<R>> sendChunk,
+      Function<Throwable, R> onFailure,
+      Supplier<R> success,
+      Function<SdkException, R> error) {
+    return sendBounded(chunkCount, sendChunk, onFailure)
+        .thenApply(
+            responses -> {
+              final List<SdkException> failures = new ArrayList<>();
+              for (R response : responses) {
+                if (response instanceof SdkException) {
+                  failures.add((SdkException) response);
+                }
+              }
+              if (failures.isEmpty()) {
+                return success.get();
+              }
+              return error.apply(
+                  new ChunkedWriteException(chunkCount, chunkCount - failures.size(), failures));
+            });
+  }
+
+  private static <K, V> Map<K, V> toMap(List<Map.Entry<K, V>> entries) {
+    final Map<K, V> map = new LinkedHashMap<>();
+    for (Map.Entry<K, V> entry : entries) {
+      map.put(entry.getKey(), entry.getValue());
+    }
+    return map;
+  }
+
+  private CompletableFuture<CacheDictionarySetFieldsResponse> sendDictionarySetFieldsInChunks(
+      String cacheName,
+      ByteString dictionaryName,
+      Map<ByteString, ByteString> elements,
+      CollectionTtl ttl) {
+    if (collectionChunker == null) {
+      return sendDictionarySetFields(cacheName, dictionaryName, elements, ttl);
+    }
+    final List<List<Map.Entry<ByteString, ByteString>>> chunks =
+        collectionChunker.split(
+            new ArrayList<>(elements.entrySet()),
+            entry -> entry.getKey().size() + entry.getValue().size());
+    if (chunks.size() == 1) {
+      return sendDictionarySetFields(cacheName, dictionaryName, elements, ttl);
+    }
+    return sendChunks(
+        chunks.size(),
+        i -> sendDictionarySetFields(cacheName, dictionaryName, toMap(chunks.get(i)), ttl),
+        e -> new CacheDictionarySetFieldsResponse.Error(CacheServiceExceptionMapper.convert(e)),
+        CacheDictionarySetFieldsResponse.Success::new,
+        CacheDictionarySetFieldsResponse.Error::new);
+  }
+
+  private CompletableFuture<CacheSetAddElementsResponse> sendSetAddElementsInChunks(
+      String cacheName, ByteString setName, Set<ByteString> elements, CollectionTtl ttl) {
+    if (collectionChunker == null) {
+      return sendSetAddElements(cacheName, setName, elements, ttl);
+    }
+    final List<List<ByteString>> chunks =
+        collectionChunker.split(new ArrayList<>(elements), ByteString::size);
+    if (chunks.size() == 1) {
+      return sendSetAddElements(cacheName, setName, elements, ttl);
+    }
+    return sendChunks(
+        chunks.size(),
+        i -> sendSetAddElements(cacheName, setName, new LinkedHashSet<>(chunks.get(i)), ttl),
+        e -> new CacheSetAddElementsResponse.Error(CacheServiceExceptionMapper.convert(e)),
+        CacheSetAddElementsResponse.Success::new,
+        CacheSetAddElementsResponse.Error::new);
+  }
+
+  private CompletableFuture<CacheSortedSetPutElementsResponse> sendSortedSetPutElementsInChunks(
+      String cacheName,
+      ByteString sortedSetName,
+      Map<ByteString, Double> elements,
+      CollectionTtl ttl) {
+    if (collectionChunker == null) {
+      return sendSortedSetPutElements(cacheName, sortedSetName, elements, ttl);
+    }
+    // Each element is its value and an 8 byte score.
+    final List<List<Map.Entry<ByteString, Double>>> chunks =
+        collectionChunker.split(
+            new ArrayList<>(elements.entrySet()), entry -> entry.getKey().size() + Double.BYTES);
+    if (chunks.size() == 1) {
+      return sendSortedSetPutElements(cacheName, sortedSetName, elements, ttl);
+    }
+    return sendChunks(
+        chunks.size(),
+        i -> sendSortedSetPutElements(cacheName, sortedSetName, toMap(chunks.get(i)), ttl),
+        e -> new CacheSortedSetPutElementsResponse.Error(CacheServiceExceptionMapper.convert(e)),
+        CacheSortedSetPutElementsResponse.Success::new,
+        CacheSortedSetPutElementsResponse.Error::new);
+  }
+
+  /**
+   * Sends a list concatenation, split into chunks if it is larger than the configured bounds. The
+   * chunks are sent one at a time so that the elements keep their order, and a failed chunk stops
+   * the rest from being sent. Each chunk applies the truncation, which leaves the list as
+   * truncating once after the whole write would.
+   */
+  private CompletableFuture<CacheListConcatenateBackResponse> sendListConcatenateBackInChunks(
+      String cacheName,
+      ByteString listName,
+      List<ByteString> values,
+      CollectionTtl ttl,
+      int truncateFrontToSize) {
+    if (collectionChunker == null) {
+      return sendListConcatenateBack(cacheName, listName, values, ttl, truncateFrontToSize);
+    }
+    final List<List<ByteString>> chunks = collectionChunker.split(values, ByteString::size);
+    if (chunks.size() == 1) {
+      return sendListConcatenateBack(cacheName, listName, values, ttl, truncateFrontToSize);
+    }
+    return sendListConcatenateBackChunk(cacheName, listName, chunks, 0, ttl, truncateFrontToSize);
+  }
+
+  private CompletableFuture<CacheListConcatenateBackResponse> sendListConcatenateBackChunk(
+      String cacheName,
+      ByteString listName,
+      List<List<ByteString>> chunks,
+      int chunkIndex,
+      CollectionTtl ttl,
+      int truncateFrontToSize) {
+    return sendListConcatenateBack(
+            cacheName, listName, chunks.get(chunkIndex), ttl, truncateFrontToSize)
+        .thenCompose(
+            response -> {
+              if (response instanceof CacheListConcatenateBackResponse.Error) {
+                return CompletableFuture.completedFuture(
+                    new CacheListConcatenateBackResponse.Error(
+                        new ChunkedWriteException(
+                            chunks.size(),
+                            chunkIndex,
+                            Collections.singletonList((SdkException) response))));
+              }
+              if (chunkIndex == chunks.size() - 1) {
+                return CompletableFuture.completedFuture(response);
+              }
+              return sendListConcatenateBackChunk(
+                  cacheName, listName, chunks, chunkIndex + 1, ttl, truncateFrontToSize);
+            });
+  }
+
+  private CompletableFuture<CacheListPushBackResponse> sendListPushBackCombined(
+      String cacheName,
+      ByteString listName,
+      ByteString value,
+      CollectionTtl ttl,
+      int truncateFrontToSize) {
+    if (listPushCombiner == null) {
+      return sendListPushBack(cacheName, listName, value, ttl, truncateFrontToSize);
+    }
+    return listPushCombiner.add(
+        new CollectionWriteKey(cacheName, listName, ttl, truncateFrontToSize), value);
+  }
+
+  /**
+   * Appends a buffer of list pushes with one concatenation. Truncating after the whole buffer
+   * leaves the list as truncating after each push would.
+   */
+  private CompletableFuture<CacheListPushBackResponse> sendCombinedListPushes(
+      CollectionWriteKey key, List<ByteString> values) {
+    return sendListConcatenateBackInChunks(
+            key.getCacheName(),
+            key.getCollectionName(),
+            values,
+            key.getTtl(),
+            key.getTruncateToSize())
+        .thenApply(
+            response -> {
+              if (response instanceof CacheListConcatenateBackResponse.Success) {
+                return new CacheListPushBackResponse.Success(
+                    ((CacheListConcatenateBackResponse.Success) response).getListLength());
+              }
+              return new CacheListPushBackResponse.Error((SdkException) response);
+            });
+  }
+
+  private CompletableFuture<CacheSetAddElementResponse> sendSetAddElementCombined(
+      String cacheName, ByteString setName, ByteString element, CollectionTtl ttl) {
+    if (setAddCombiner == null) {
+      return sendSetAddElement(cacheName, setName, element, ttl);
+    }
+    return setAddCombiner.add(new CollectionWriteKey(cacheName, setName, ttl, 0), element);
+  }
+
+  private CompletableFuture<CacheSetAddElementResponse> sendCombinedSetAdds(
+      CollectionWriteKey key, List<ByteString> elements) {
+    return sendSetAddElementsInChunks(
+            key.getCacheName(),
+            key.getCollectionName(),
+            new LinkedHashSet<>(elements),
+            key.getTtl())
+        .thenApply(
+            response -> {
+              if (response instanceof CacheSetAddElementsResponse.Success) {
+                return new CacheSetAddElementResponse.Success();
+              }
+              return new CacheSetAddElementResponse.Error((SdkException) response);
+            });
+  }
+
+  private static final class BoundedSender<R> {
+    private final int count;
+    private final IntFunction<CompletableFuture<R>> send;
+    private final Function<Throwable, R> onFailure;
+    private final AtomicReferenceArray<R> results;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<R>> returnFuture = new CompletableFuture<>();
+
+    private BoundedSender(
+        int count, IntFunction<CompletableFuture<R>> send, Function<Throwable, R> onFailure) {
+      this.count = count;
+      this.send = send;
+      this.onFailure = onFailure;
+      this.results = new AtomicReferenceArray<>(count);
+      this.remaining = new AtomicInteger(count);
+    }
+
+    /**
+     * Sends requests until one is still in flight or none are left. Requests that complete
+     * immediately, such as near cache hits, are handled in the loop rather than by recursion, so
+     * the stack does not grow with the number of requests.
+     */
+    private void sendNext() {
+      while (!returnFuture.isDone()) {
+        final int index = nextIndex.getAndIncrement();
+        if (index >= count) {
+          return;
+        }
+
+        CompletableFuture<R> future;
+        try {
+          future = send.apply(index);
+        } catch (Exception e) {
+          future = CompletableFuture.completedFuture(onFailure.apply(e));
+        }
+
+        if (!future.isDone()) {
+          future.whenComplete(
+              (result, e) -> {
+                complete(index, result, e);
+                sendNext();
+              });
+          return;
+        }
+        future.whenComplete((result, e) -> complete(index, result, e));
+      }
+    }
+
+    private void complete(int index, R result, Throwable e) {
+      results.set(index, e == null ? result : onFailure.apply(e));
+      if (remaining.decrementAndGet() == 0) {
+        final List<R> resultList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          resultList.add(results.get(i));
+        }
+        returnFuture.complete(resultList);
+      }
+    }
+  }
+
   private CompletableFuture<CacheIncrementResponse> sendIncrement(
       String cacheName, ByteString field, long amount, Duration ttl) {
+    invalidateLocalState(cacheName, field);
 
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_IncrementResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .increment(buildIncrementRequest(field, amount, ttl));
+        executeRequest(
+            ScsGrpc.getIncrementMethod(), metadata, buildIncrementRequest(field, amount, ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheIncrementResponse> returnFuture =
@@ -1406,30 +2114,33 @@ final class ScsDataClient implements Closeable {
         new FutureCallback<_IncrementResponse>() {
           @Override
           public void onSuccess(_IncrementResponse rsp) {
+            invalidateLocalState(cacheName, field);
             returnFuture.complete(new CacheIncrementResponse.Success((int) rsp.getValue()));
           }
 
           @Override
           public void onFailure(@Nonnull Throwable e) {
+            invalidateLocalState(cacheName, field);
             returnFuture.complete(
                 new CacheIncrementResponse.Error(CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
 
   private CompletableFuture<CacheSetIfNotExistsResponse> sendSetIfNotExists(
       String cacheName, ByteString key, ByteString value, Duration ttl) {
+    invalidateLocalState(cacheName, key);
 
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetIfNotExistsResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .setIfNotExists(buildSetIfNotExistsRequest(key, value, ttl));
+        executeRequest(
+            ScsGrpc.getSetIfNotExistsMethod(),
+            metadata,
+            buildSetIfNotExistsRequest(key, value, ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSetIfNotExistsResponse> returnFuture =
@@ -1449,6 +2160,7 @@ final class ScsDataClient implements Closeable {
         new FutureCallback<_SetIfNotExistsResponse>() {
           @Override
           public void onSuccess(_SetIfNotExistsResponse rsp) {
+            invalidateLocalState(cacheName, key);
             if (rsp.getResultCase().equals(_SetIfNotExistsResponse.ResultCase.STORED)) {
               returnFuture.complete(new CacheSetIfNotExistsResponse.Stored(key, value));
             } else if (rsp.getResultCase().equals(_SetIfNotExistsResponse.ResultCase.NOT_STORED)) {
@@ -1458,14 +2170,13 @@ final class ScsDataClient implements Closeable {
 
           @Override
           public void onFailure(Throwable e) {
+            invalidateLocalState(cacheName, key);
             returnFuture.complete(
                 new CacheSetIfNotExistsResponse.Error(
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1476,8 +2187,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetUnionResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .setUnion(buildSetUnionRequest(setName, Collections.singleton(element), ttl));
+        executeRequest(
+            ScsGrpc.getSetUnionMethod(),
+            metadata,
+            buildSetUnionRequest(setName, Collections.singleton(element), ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSetAddElementResponse> returnFuture =
@@ -1507,8 +2220,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1519,8 +2231,8 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetUnionResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .setUnion(buildSetUnionRequest(setName, elements, ttl));
+        executeRequest(
+            ScsGrpc.getSetUnionMethod(), metadata, buildSetUnionRequest(setName, elements, ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSetAddElementsResponse> returnFuture =
@@ -1550,8 +2262,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1562,8 +2273,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetDifferenceResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .setDifference(buildSetDifferenceRequest(setName, Collections.singleton(element)));
+        executeRequest(
+            ScsGrpc.getSetDifferenceMethod(),
+            metadata,
+            buildSetDifferenceRequest(setName, Collections.singleton(element)));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSetRemoveElementResponse> returnFuture =
@@ -1593,8 +2306,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1605,8 +2317,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetDifferenceResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .setDifference(buildSetDifferenceRequest(setName, elements));
+        executeRequest(
+            ScsGrpc.getSetDifferenceMethod(),
+            metadata,
+            buildSetDifferenceRequest(setName, elements));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSetRemoveElementsResponse> returnFuture =
@@ -1636,8 +2350,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1649,8 +2362,7 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .setFetch(buildSetFetchRequest(setName));
+        executeRequest(ScsGrpc.getSetFetchMethod(), metadata, buildSetFetchRequest(setName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSetFetchResponse> returnFuture =
@@ -1684,8 +2396,7 @@ final class ScsDataClient implements Closeable {
                 new CacheSetFetchResponse.Error(CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1700,10 +2411,11 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetPutResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .sortedSetPut(
-                buildSortedSetPutRequest(
-                    sortedSetName, Collections.singletonMap(element, score), collectionTtl));
+        executeRequest(
+            ScsGrpc.getSortedSetPutMethod(),
+            metadata,
+            buildSortedSetPutRequest(
+                sortedSetName, Collections.singletonMap(element, score), collectionTtl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSortedSetPutElementResponse> returnFuture =
@@ -1733,8 +2445,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1748,8 +2459,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetPutResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .sortedSetPut(buildSortedSetPutRequest(sortedSetName, elements, collectionTtl));
+        executeRequest(
+            ScsGrpc.getSortedSetPutMethod(),
+            metadata,
+            buildSortedSetPutRequest(sortedSetName, elements, collectionTtl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSortedSetPutElementsResponse> returnFuture =
@@ -1779,8 +2492,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1795,9 +2507,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .sortedSetFetch(
-                buildSortedSetFetchRequestByRank(sortedSetName, startRank, endRank, order));
+        executeRequest(
+            ScsGrpc.getSortedSetFetchMethod(),
+            metadata,
+            buildSortedSetFetchRequestByRank(sortedSetName, startRank, endRank, order));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSortedSetFetchResponse> returnFuture =
@@ -1833,8 +2546,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1851,10 +2563,11 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .sortedSetFetch(
-                buildSortedSetFetchRequestByScore(
-                    sortedSetName, minScore, maxScore, order, offset, count));
+        executeRequest(
+            ScsGrpc.getSortedSetFetchMethod(),
+            metadata,
+            buildSortedSetFetchRequestByScore(
+                sortedSetName, minScore, maxScore, order, offset, count));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheSortedSetFetchResponse> returnFuture =
@@ -1890,8 +2603,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1906,9 +2618,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListConcatenateBackResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listConcatenateBack(
-                buildListConcatenateBackRequest(listName, values, ttl, truncateFrontToSize));
+        executeRequest(
+            ScsGrpc.getListConcatenateBackMethod(),
+            metadata,
+            buildListConcatenateBackRequest(listName, values, ttl, truncateFrontToSize));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListConcatenateBackResponse> returnFuture =
@@ -1939,9 +2652,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -1956,9 +2667,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListConcatenateFrontResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listConcatenateFront(
-                buildListConcatenateFrontRequest(listName, values, ttl, truncateBackToSize));
+        executeRequest(
+            ScsGrpc.getListConcatenateFrontMethod(),
+            metadata,
+            buildListConcatenateFrontRequest(listName, values, ttl, truncateBackToSize));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListConcatenateFrontResponse> returnFuture =
@@ -1989,9 +2701,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2002,8 +2712,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listFetch(buildListFetchRequest(listName, startIndex, endIndex));
+        executeRequest(
+            ScsGrpc.getListFetchMethod(),
+            metadata,
+            buildListFetchRequest(listName, startIndex, endIndex));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListFetchResponse> returnFuture =
@@ -2036,8 +2748,7 @@ final class ScsDataClient implements Closeable {
                 new CacheListFetchResponse.Error(CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2048,8 +2759,7 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListLengthResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listLength(buildListLengthRequest(listName));
+        executeRequest(ScsGrpc.getListLengthMethod(), metadata, buildListLengthRequest(listName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListLengthResponse> returnFuture =
@@ -2083,8 +2793,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2095,8 +2804,7 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPopBackResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listPopBack(buildListPopBackRequest(listName));
+        executeRequest(ScsGrpc.getListPopBackMethod(), metadata, buildListPopBackRequest(listName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListPopBackResponse> returnFuture =
@@ -2130,8 +2838,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2146,8 +2853,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPushBackResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listPushBack(buildListPushBackRequest(listName, value, ttl, truncateFrontToSize));
+        executeRequest(
+            ScsGrpc.getListPushBackMethod(),
+            metadata,
+            buildListPushBackRequest(listName, value, ttl, truncateFrontToSize));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListPushBackResponse> returnFuture =
@@ -2177,9 +2886,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2190,8 +2897,8 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPopFrontResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listPopFront(buildListPopFrontRequest(listName));
+        executeRequest(
+            ScsGrpc.getListPopFrontMethod(), metadata, buildListPopFrontRequest(listName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListPopFrontResponse> returnFuture =
@@ -2225,8 +2932,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        // Execute on same thread that called execute on CompletionStage
-        MoreExecutors.directExecutor());
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2241,8 +2947,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPushFrontResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listPushFront(buildListPushFrontRequest(listName, value, ttl, truncateBackToSize));
+        executeRequest(
+            ScsGrpc.getListPushFrontMethod(),
+            metadata,
+            buildListPushFrontRequest(listName, value, ttl, truncateBackToSize));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListPushFrontResponse> returnFuture =
@@ -2272,9 +2980,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2285,8 +2991,8 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListRemoveResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listRemove(buildListRemoveValueRequest(listName, value));
+        executeRequest(
+            ScsGrpc.getListRemoveMethod(), metadata, buildListRemoveValueRequest(listName, value));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListRemoveValueResponse> returnFuture =
@@ -2316,9 +3022,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2329,8 +3033,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListRetainResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listRetain(buildListRetainRequest(listName, startIndex, endIndex));
+        executeRequest(
+            ScsGrpc.getListRetainMethod(),
+            metadata,
+            buildListRetainRequest(listName, startIndex, endIndex));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheListRetainResponse> returnFuture =
@@ -2360,9 +3066,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2373,8 +3077,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionaryFetch(buildDictionaryFetchRequest(dictionaryName));
+        executeRequest(
+            ScsGrpc.getDictionaryFetchMethod(),
+            metadata,
+            buildDictionaryFetchRequest(dictionaryName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionaryFetchResponse> returnFuture =
@@ -2409,9 +3115,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2426,8 +3130,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionarySetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionarySet(buildDictionarySetFieldRequest(dictionaryName, field, value, ttl));
+        executeRequest(
+            ScsGrpc.getDictionarySetMethod(),
+            metadata,
+            buildDictionarySetFieldRequest(dictionaryName, field, value, ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionarySetFieldResponse> returnFuture =
@@ -2457,9 +3163,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2473,8 +3177,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionarySetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionarySet(buildDictionarySetFieldsRequest(dictionaryName, elements, ttl));
+        executeRequest(
+            ScsGrpc.getDictionarySetMethod(),
+            metadata,
+            buildDictionarySetFieldsRequest(dictionaryName, elements, ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionarySetFieldsResponse> returnFuture =
@@ -2504,9 +3210,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2517,8 +3221,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryGetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionaryGet(buildDictionaryGetFieldRequest(dictionaryName, field));
+        executeRequest(
+            ScsGrpc.getDictionaryGetMethod(),
+            metadata,
+            buildDictionaryGetFieldRequest(dictionaryName, field));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionaryGetFieldResponse> returnFuture =
@@ -2566,9 +3272,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata), field));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2579,8 +3283,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryGetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionaryGet(buildDictionaryGetFieldsRequest(dictionaryName, fields));
+        executeRequest(
+            ScsGrpc.getDictionaryGetMethod(),
+            metadata,
+            buildDictionaryGetFieldsRequest(dictionaryName, fields));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionaryGetFieldsResponse> returnFuture =
@@ -2615,9 +3321,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2632,9 +3336,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryIncrementResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionaryIncrement(
-                buildDictionaryIncrementRequest(dictionaryName, field, amount, ttl));
+        executeRequest(
+            ScsGrpc.getDictionaryIncrementMethod(),
+            metadata,
+            buildDictionaryIncrementRequest(dictionaryName, field, amount, ttl));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionaryIncrementResponse> returnFuture =
@@ -2665,9 +3370,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2678,8 +3381,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryDeleteResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionaryDelete(buildDictionaryRemoveFieldRequest(dictionaryName, field));
+        executeRequest(
+            ScsGrpc.getDictionaryDeleteMethod(),
+            metadata,
+            buildDictionaryRemoveFieldRequest(dictionaryName, field));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionaryRemoveFieldResponse> returnFuture =
@@ -2709,9 +3414,7 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
@@ -2722,8 +3425,10 @@ final class ScsDataClient implements Closeable {
     // Submit request to non-blocking stub
     final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryDeleteResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .dictionaryDelete(buildDictionaryRemoveFieldsRequest(dictionaryName, fields));
+        executeRequest(
+            ScsGrpc.getDictionaryDeleteMethod(),
+            metadata,
+            buildDictionaryRemoveFieldsRequest(dictionaryName, fields));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<CacheDictionaryRemoveFieldsResponse> returnFuture =
@@ -2753,23 +3458,199 @@ final class ScsDataClient implements Closeable {
                     CacheServiceExceptionMapper.convert(e, metadata)));
           }
         },
-        MoreExecutors
-            .directExecutor()); // Execute on same thread that called execute on CompletionStage
-    // returned
+        completionExecutor);
 
     return returnFuture;
   }
 
-  private static Metadata metadataWithCache(String cacheName) {
+  /**
+   * Returns the headers for requests to the given cache. They are built once per cache name and
+   * shared by every request, so they must not be modified.
+   */
+  private Metadata metadataWithCache(String cacheName) {
+    final Metadata cached = cacheMetadata.get(cacheName);
+    if (cached != null) {
+      return cached;
+    }
     final Metadata metadata = new Metadata();
     metadata.put(CACHE_NAME_KEY, cacheName);
-
+    // Bounded so that a client addressing an unbounded set of cache names does not leak.
+    if (cacheMetadata.size() < MAX_CACHED_METADATA) {
+      cacheMetadata.putIfAbsent(cacheName, metadata);
+    }
     return metadata;
   }
 
-  private static ScsGrpc.ScsFutureStub attachMetadata(
-      ScsGrpc.ScsFutureStub stub, Metadata metadata) {
-    return stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata));
+  /**
+   * Drops any near cache copy of the key, and stops later gets from joining a get that was sent
+   * before the write. Writes call this before the request is sent, so in-flight gets cannot store
+   * an older value, and again once it completes.
+   *
+   * @return the stamp to pass to {@link NearCache#putIfUnchanged}, or 0 if there is no near cache.
+   */
+  private long invalidateLocalState(String cacheName, ByteString key) {
+    if (inFlightGets != null) {
+      inFlightGets.remove(new CacheKey(cacheName, key));
+    }
+    return nearCache != null ? nearCache.invalidate(cacheName, key) : 0;
+  }
+
+  private <ReqT extends MessageLite, RespT extends MessageLite>
+      ListenableFuture<RespT> executeRequest(
+          MethodDescriptor<ReqT, RespT> method, Metadata metadata, ReqT request) {
+    return executeRequest(method, metadata, RequestOptions.defaults(), request);
+  }
+
+  /**
+   * Sends a request on a pooled channel, with the given metadata as its headers. Every data plane
+   * RPC goes through here, so that it is reported to the {@link MetricsRecorder} and to Java Flight
+   * Recorder, failed requests can be retried according to the configured {@link RetryStrategy},
+   * slow reads can be hedged, every gRPC request counts against the concurrency limit, and an open
+   * circuit breaker fails requests before they are sent. Retries and hedges go to the next channel
+   * in the pool and keep the first attempt's deadline.
+   */
+  private <ReqT extends MessageLite, RespT extends MessageLite>
+      ListenableFuture<RespT> executeRequest(
+          MethodDescriptor<ReqT, RespT> method,
+          Metadata metadata,
+          RequestOptions requestOptions,
+          ReqT request) {
+    final Deadline deadline =
+        Deadline.after(
+            requestOptions.getDeadline().orElse(scsDataGrpcStubsManager.getDeadline()).toNanos(),
+            TimeUnit.NANOSECONDS);
+    // Every attempt shares these options, so retries and hedges keep the first attempt's deadline.
+    final CallOptions callOptions =
+        CallOptions.DEFAULT
+            .withOption(CallHeadersInterceptor.HEADERS, metadata)
+            .withDeadline(deadline);
+    @Nullable final CacheOperationEvent event = FlightRecorderEvents.newCacheOperationEvent();
+    if (metricsRecorder == null && event == null) {
+      return sendRequest(
+          method,
+          deadline,
+          channel -> ClientCalls.futureUnaryCall(channel.newCall(method, callOptions), request));
+    }
+    final String operation = method.getBareMethodName();
+    final Function<Channel, ListenableFuture<RespT>> rpc;
+    if (event != null) {
+      event.start(operation, metadata.get(CACHE_NAME_KEY));
+      rpc =
+          channel -> {
+            event.markSent();
+            return ClientCalls.futureUnaryCall(channel.newCall(method, callOptions), request);
+          };
+    } else {
+      rpc = channel -> ClientCalls.futureUnaryCall(channel.newCall(method, callOptions), request);
+    }
+    final long startNanos = System.nanoTime();
+    if (metricsRecorder != null) {
+      metricsRecorder.onRequestStarted(operation);
+    }
+    final ListenableFuture<RespT> response;
+    try {
+      response = sendRequest(method, deadline, rpc);
+    } catch (RuntimeException e) {
+      recordFailure(operation, startNanos, event, request, e);
+      throw e;
+    }
+    Futures.addCallback(
+        response,
+        new FutureCallback<RespT>() {
+          @Override
+          public void onSuccess(RespT rsp) {
+            final RequestResult result = ResponseClassifier.classify(rsp);
+            recordCompletion(
+                operation,
+                startNanos,
+                event,
+                request,
+                rsp.getSerializedSize(),
+                result,
+                result == RequestResult.ERROR ? MomentoErrorCode.INTERNAL_SERVER_ERROR : null);
+          }
+
+          @Override
+          public void onFailure(@Nonnull Throwable e) {
+            recordFailure(operation, startNanos, event, request, e);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return response;
+  }
+
+  private void recordFailure(
+      String operation,
+      long startNanos,
+      @Nullable CacheOperationEvent event,
+      MessageLite request,
+      Throwable failure) {
+    recordCompletion(
+        operation,
+        startNanos,
+        event,
+        request,
+        0,
+        RequestResult.ERROR,
+        CacheServiceExceptionMapper.convert(failure).getErrorCode());
+  }
+
+  private void recordCompletion(
+      String operation,
+      long startNanos,
+      @Nullable CacheOperationEvent event,
+      MessageLite request,
+      int responseSize,
+      RequestResult result,
+      @Nullable MomentoErrorCode errorCode) {
+    final int requestSize = request.getSerializedSize();
+    if (metricsRecorder != null) {
+      metricsRecorder.onRequestCompleted(
+          operation, System.nanoTime() - startNanos, requestSize, responseSize, result, errorCode);
+    }
+    if (event != null) {
+      event.complete(requestSize, responseSize, result, errorCode);
+    }
+  }
+
+  private <RespT> ListenableFuture<RespT> sendRequest(
+      MethodDescriptor<?, RespT> method,
+      Deadline deadline,
+      Function<Channel, ListenableFuture<RespT>> call) {
+    if (circuitBreaker != null) {
+      return circuitBreaker.send(() -> sendAttempts(method, deadline, call));
+    }
+    return sendAttempts(method, deadline, call);
+  }
+
+  private <RespT> ListenableFuture<RespT> sendAttempts(
+      MethodDescriptor<?, RespT> method,
+      Deadline deadline,
+      Function<Channel, ListenableFuture<RespT>> unlimitedCall) {
+    final Function<Channel, ListenableFuture<RespT>> call =
+        concurrencyLimiter != null
+            ? channel -> concurrencyLimiter.send(() -> unlimitedCall.apply(channel))
+            : unlimitedCall;
+    if (retryStrategy == null && requestHedger == null) {
+      return call.apply(scsDataGrpcStubsManager.getChannel());
+    }
+    final IntFunction<ListenableFuture<RespT>> sendAttempt =
+        attemptNumber -> {
+          final Channel attemptChannel = scsDataGrpcStubsManager.getChannel();
+          if (requestHedger == null) {
+            return call.apply(attemptChannel);
+          }
+          return requestHedger.send(
+              method,
+              () -> call.apply(attemptChannel),
+              () -> call.apply(scsDataGrpcStubsManager.getChannel()));
+        };
+    if (retryStrategy == null) {
+      return sendAttempt.apply(1);
+    }
+    return new RetryingRequest<>(
+            method, sendAttempt, deadline, retryStrategy, retryThrottle, scheduler)
+        .start();
   }
 
   private _GetRequest buildGetRequest(ByteString key) {
@@ -2780,7 +3661,7 @@ final class ScsDataClient implements Closeable {
     return _DeleteRequest.newBuilder().setCacheKey(key).build();
   }
 
-  private _SetRequest buildSetRequest(ByteString key, ByteString value, Duration ttl) {
+  _SetRequest buildSetRequest(ByteString key, ByteString value, Duration ttl) {
     return _SetRequest.newBuilder()
         .setCacheKey(key)
         .setCacheBody(value)
@@ -3099,7 +3980,7 @@ final class ScsDataClient implements Closeable {
     return dictionaryFieldValuePair;
   }
 
-  private _DictionarySetRequest buildDictionarySetFieldsRequest(
+  _DictionarySetRequest buildDictionarySetFieldsRequest(
       ByteString dictionaryName, Map<ByteString, ByteString> elements, CollectionTtl ttl) {
     return _DictionarySetRequest.newBuilder()
         .setDictionaryName(dictionaryName)
@@ -3174,6 +4055,36 @@ final class ScsDataClient implements Closeable {
 
   @Override
   public void close() {
+    // Send what is still buffered before the timer that would have sent it stops, and let the
+    // combined writes finish, since a chunked write sends each chunk once the one before completes.
+    final List<CompletableFuture<Void>> combinedWrites = new ArrayList<>();
+    if (listPushCombiner != null) {
+      combinedWrites.add(listPushCombiner.flushAll());
+    }
+    if (setAddCombiner != null) {
+      combinedWrites.add(setAddCombiner.flushAll());
+    }
+    awaitCombinedWrites(combinedWrites);
+    if (scheduler != null) {
+      // Pending retries still run, so they fail against the closed channels instead of leaving
+      // their callers waiting. Scheduling anything new is rejected, which fails the request too.
+      scheduler.shutdown();
+    }
     scsDataGrpcStubsManager.close();
   }
+
+  /** Waits up to one request deadline for the writes, since the channels close after this. */
+  private void awaitCombinedWrites(List<CompletableFuture<Void>> combinedWrites) {
+    if (combinedWrites.isEmpty()) {
+      return;
+    }
+    try {
+      CompletableFuture.allOf(combinedWrites.toArray(new CompletableFuture<?>[0]))
+          .get(scsDataGrpcStubsManager.getDeadline().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      // The writes report their own failures, and any still running fail once the channels close.
+    }
+  }
 }
@@ -1,7 +1,8 @@
 package momento.sdk;
 
-import grpc.cache_client.ScsGrpc;
+import io.grpc.Channel;
 import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
 import io.grpc.ManagedChannel;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.io.Closeable;
@@ -9,9 +10,13 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.Configuration;
+import momento.sdk.config.transport.ChannelSelectionStrategy;
+import momento.sdk.config.transport.GrpcConfiguration;
 
 /**
  * Manager responsible for GRPC channels and stubs for the Data Plane.
@@ -19,48 +24,147 @@ import momento.sdk.config.Configuration;
  * <p>The business layer, will get request stubs from this layer. This keeps the two layers
  * independent and any future pooling of channels can happen exclusively in the manager without
  * impacting the API business logic.
+ *
+ * <p>The manager keeps a pool of {@link GrpcConfiguration#getNumChannels()} channels. Each channel
+ * is its own HTTP/2 connection, so a larger pool raises the number of concurrent streams the client
+ * can have in flight and spreads the connections across the Netty event loop threads.
+ *
+ * <p>Requests are sent directly on the pooled channels with per-call {@link io.grpc.CallOptions},
+ * rather than through a stub built for each request, so the headers a request needs are attached
+ * without allocating an interceptor or stub per call. See {@link CallHeadersInterceptor}.
  */
 final class ScsDataGrpcStubsManager implements Closeable {
 
-  private final ManagedChannel channel;
-  private final ScsGrpc.ScsFutureStub futureStub;
+  private static final Duration CHANNEL_TERMINATION_TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<ManagedChannel> channels;
+  private final List<Channel> interceptedChannels;
+  private final List<OutstandingRequestsInterceptor> outstandingRequestsInterceptors;
+  private final ChannelSelectionStrategy channelSelectionStrategy;
+  private final AtomicInteger nextStubIndex = new AtomicInteger();
   private final Duration deadline;
+  @Nullable private final SharedTransportResources ownedTransportResources;
 
   ScsDataGrpcStubsManager(
       @Nonnull CredentialProvider credentialProvider, @Nonnull Configuration configuration) {
-    this.deadline = configuration.getTransportStrategy().getGrpcConfiguration().getDeadline();
+    final GrpcConfiguration grpcConfiguration =
+        configuration.getTransportStrategy().getGrpcConfiguration();
+    this.deadline = grpcConfiguration.getDeadline();
+    this.channelSelectionStrategy = grpcConfiguration.getChannelSelectionStrategy();
 
-    this.channel = setupChannel(credentialProvider);
-    this.futureStub = ScsGrpc.newFutureStub(channel);
+    // Shared resources belong to the caller. Otherwise the client only needs its own event loops
+    // when it has to pick a transport other than the default.
+    final SharedTransportResources transportResources;
+    if (grpcConfiguration.getSharedTransportResources().isPresent()) {
+      transportResources = grpcConfiguration.getSharedTransportResources().get();
+      this.ownedTransportResources = null;
+    } else if (grpcConfiguration.isNativeTransportEnabled()) {
+      transportResources = SharedTransportResources.forSingleClient(true);
+      this.ownedTransportResources = transportResources;
+    } else {
+      transportResources = null;
+      this.ownedTransportResources = null;
+    }
+
+    final int numChannels = grpcConfiguration.getNumChannels();
+    this.channels = new ArrayList<>(numChannels);
+    this.interceptedChannels = new ArrayList<>(numChannels);
+    this.outstandingRequestsInterceptors = new ArrayList<>(numChannels);
+    for (int i = 0; i < numChannels; i++) {
+      final ManagedChannel channel =
+          setupChannel(
+              credentialProvider, transportResources, grpcConfiguration.getClientInterceptors());
+      final OutstandingRequestsInterceptor outstandingRequestsInterceptor =
+          new OutstandingRequestsInterceptor();
+      channels.add(channel);
+      FlightRecorderEvents.watchChannelState(i, channel);
+      outstandingRequestsInterceptors.add(outstandingRequestsInterceptor);
+      // The last interceptor runs first, so call headers are in place for every other interceptor.
+      interceptedChannels.add(
+          ClientInterceptors.intercept(
+              channel, outstandingRequestsInterceptor, new CallHeadersInterceptor()));
+    }
   }
 
-  private static ManagedChannel setupChannel(CredentialProvider credentialProvider) {
+  private static ManagedChannel setupChannel(
+      CredentialProvider credentialProvider,
+      @Nullable SharedTransportResources transportResources,
+      List<ClientInterceptor> configuredInterceptors) {
     final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getCacheEndpoint(), 443);
-    channelBuilder.useTransportSecurity();
+        NettyChannelBuilder.forAddress(
+            credentialProvider.getCacheEndpoint(), credentialProvider.getPort());
+    if (credentialProvider.isEndpointSecure()) {
+      channelBuilder.useTransportSecurity();
+    } else {
+      channelBuilder.usePlaintext();
+    }
     channelBuilder.disableRetry();
+    if (transportResources != null) {
+      transportResources.configure(channelBuilder);
+    }
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
     clientInterceptors.add(new UserHeaderInterceptor(credentialProvider.getAuthToken()));
+    clientInterceptors.addAll(configuredInterceptors);
     channelBuilder.intercept(clientInterceptors);
     return channelBuilder.build();
   }
 
   /**
-   * Returns a stub with appropriate deadlines.
-   *
-   * <p>Each stub is deliberately decorated with Deadline. Deadlines work differently than timeouts.
-   * When a deadline is set on a stub, it simply means that once the stub is created it must be used
-   * before the deadline expires. Hence, the stub returned from here should never be cached and the
-   * safest behavior is for clients to request a new stub each time.
-   *
-   * <p><a href="https://github.com/grpc/grpc-java/issues/1495">more information</a>
+   * Returns one of the pooled channels, picked according to the configured {@link
+   * ChannelSelectionStrategy}. Pick a channel for each request rather than keeping one.
    */
-  ScsGrpc.ScsFutureStub getStub() {
-    return futureStub.withDeadlineAfter(deadline.getSeconds(), TimeUnit.SECONDS);
+  Channel getChannel() {
+    return interceptedChannels.get(nextChannelIndex());
+  }
+
+  /** Returns the configured deadline for requests that do not set their own. */
+  Duration getDeadline() {
+    return deadline;
+  }
+
+  private int nextChannelIndex() {
+    final int numChannels = interceptedChannels.size();
+    if (numChannels == 1) {
+      return 0;
+    }
+    final int start = Math.floorMod(nextStubIndex.getAndIncrement(), numChannels);
+    if (channelSelectionStrategy == ChannelSelectionStrategy.ROUND_ROBIN) {
+      return start;
+    }
+
+    // Scan from the round-robin position so that ties are spread across the pool.
+    int leastLoadedIndex = start;
+    int leastOutstanding = Integer.MAX_VALUE;
+    for (int i = 0; i < numChannels; i++) {
+      final int index = (start + i) % numChannels;
+      final int outstanding = outstandingRequestsInterceptors.get(index).getOutstandingRequests();
+      if (outstanding < leastOutstanding) {
+        leastOutstanding = outstanding;
+        leastLoadedIndex = index;
+        if (outstanding == 0) {
+          break;
+        }
+      }
+    }
+    return leastLoadedIndex;
   }
 
   @Override
   public void close() {
-    channel.shutdown();
+    for (ManagedChannel channel : channels) {
+      channel.shutdown();
+    }
+    // The channels' transports run on the event loops, so they must end before the loops stop.
+    final long deadlineNanos = System.nanoTime() + CHANNEL_TERMINATION_TIMEOUT.toNanos();
+    try {
+      for (ManagedChannel channel : channels) {
+        channel.awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (ownedTransportResources != null) {
+      ownedTransportResources.close();
+    }
   }
 }
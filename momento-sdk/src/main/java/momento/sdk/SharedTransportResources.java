@@ -0,0 +1,121 @@
+package momento.sdk;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.Channel;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Network threads that several clients can share, so that a JVM running many {@link CacheClient}s
+ * does not pay for a set of event loop and executor threads per client.
+ *
+ * <p>Pass an instance to {@link
+ * momento.sdk.config.transport.GrpcConfiguration#withSharedTransportResources} for every client
+ * that should use it. The clients do not shut the resources down; close this object after closing
+ * all of them.
+ */
+public final class SharedTransportResources implements Closeable {
+
+  private final EventLoopGroup eventLoopGroup;
+  private final Class<? extends Channel> channelType;
+  @Nullable private final ExecutorService executor;
+  private final boolean nativeTransport;
+
+  /**
+   * Creates an event loop group and a channel executor for clients to share.
+   *
+   * @param eventLoopThreads the number of threads that perform network I/O.
+   * @param executorThreads the number of threads that run gRPC callbacks, which deliver responses.
+   *     Continuations chained on a client's futures run on these threads unless the client has a
+   *     completion executor, so they must not block.
+   * @param preferNativeTransport whether to use Netty's native epoll transport. It is only
+   *     available on Linux; elsewhere the NIO transport is used. See {@link #isNativeTransport()}.
+   */
+  public SharedTransportResources(
+      int eventLoopThreads, int executorThreads, boolean preferNativeTransport) {
+    this(eventLoopThreads, preferNativeTransport, newExecutor(executorThreads));
+  }
+
+  private SharedTransportResources(
+      int eventLoopThreads, boolean preferNativeTransport, @Nullable ExecutorService executor) {
+    if (eventLoopThreads < 1) {
+      throw new InvalidArgumentException("Event loop threads must be positive.");
+    }
+    final ThreadFactory threadFactory =
+        new ThreadFactoryBuilder().setNameFormat("momento-event-loop-%d").setDaemon(true).build();
+    if (preferNativeTransport && Epoll.isAvailable()) {
+      this.eventLoopGroup = new EpollEventLoopGroup(eventLoopThreads, threadFactory);
+      this.channelType = EpollSocketChannel.class;
+      this.nativeTransport = true;
+    } else {
+      this.eventLoopGroup = new NioEventLoopGroup(eventLoopThreads, threadFactory);
+      this.channelType = NioSocketChannel.class;
+      this.nativeTransport = false;
+    }
+    this.executor = executor;
+  }
+
+  /**
+   * Creates resources that only set the transport for a single client's channels. gRPC's default
+   * executor is kept, so callbacks behave as they do without shared resources.
+   */
+  static SharedTransportResources forSingleClient(boolean preferNativeTransport) {
+    return new SharedTransportResources(
+        Runtime.getRuntime().availableProcessors(), preferNativeTransport, null);
+  }
+
+  private static ExecutorService newExecutor(int executorThreads) {
+    if (executorThreads < 1) {
+      throw new InvalidArgumentException("Executor threads must be positive.");
+    }
+    final ThreadFactory threadFactory =
+        new ThreadFactoryBuilder()
+            .setNameFormat("momento-grpc-executor-%d")
+            .setDaemon(true)
+            .build();
+    return Executors.newFixedThreadPool(executorThreads, threadFactory);
+  }
+
+  /**
+   * Whether the native epoll transport is in use.
+   *
+   * @return true if the event loops use epoll, false if they use NIO.
+   */
+  public boolean isNativeTransport() {
+    return nativeTransport;
+  }
+
+  /** Makes the channel being built run on these resources. */
+  void configure(NettyChannelBuilder channelBuilder) {
+    channelBuilder.eventLoopGroup(eventLoopGroup);
+    channelBuilder.channelType(channelType);
+    if (executor != null) {
+      channelBuilder.executor(executor);
+    }
+  }
+
+  /**
+   * Shuts the event loops and the executor down, waiting for the event loops to terminate. Close
+   * every client using these resources first.
+   */
+  @Override
+  public void close() {
+    // The clients' channels have terminated, so there is no work to wait out a quiet period for.
+    eventLoopGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS).syncUninterruptibly();
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package momento.sdk;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
+import momento.sdk.messages.CacheSortedSetFetchResponse;
+import momento.sdk.messages.ScoredElement;
+
+/**
+ * Walks a sorted set by score one page at a time. Each page starts at the score the previous page
+ * ended on, rather than at an offset from the start of the range, so every page costs the server
+ * the same however deep into the set it is. The next page is requested as soon as the current one
+ * is returned, so it loads while the caller reads the current page.
+ *
+ * <p>Elements that share a score are split across pages correctly, by skipping the ones that were
+ * already returned. Pages are fetched independently, so a set that is modified while it is being
+ * read may have elements skipped or repeated.
+ *
+ * <p>{@link #hasNext()} blocks until the next page arrives. If a page fails, it throws the {@link
+ * CacheSortedSetFetchResponse.Error}. Close the iterator to cancel the prefetched page if the set
+ * is not read to the end.
+ *
+ * <p>Get an instance from {@link CacheClient#sortedSetFetchByScorePages}.
+ */
+public final class SortedSetPageIterator implements Iterator<List<ScoredElement>>, AutoCloseable {
+
+  /** Fetches the elements with scores in a range, in the iterator's order. */
+  interface PageFetcher {
+    CompletableFuture<CacheSortedSetFetchResponse> fetch(
+        @Nullable Double minScore, @Nullable Double maxScore, int offset, int count);
+  }
+
+  private final PageFetcher fetcher;
+  @Nullable private final Double minScore;
+  @Nullable private final Double maxScore;
+  private final boolean descending;
+  private final int pageSize;
+  // The score the last page ended on, and how many elements with that score have been returned.
+  @Nullable private Double cursorScore;
+  private int cursorOffset;
+  @Nullable private CompletableFuture<CacheSortedSetFetchResponse> pendingPage;
+  @Nullable private List<ScoredElement> nextPage;
+
+  SortedSetPageIterator(
+      PageFetcher fetcher,
+      @Nullable Double minScore,
+      @Nullable Double maxScore,
+      boolean descending,
+      int pageSize) {
+    this.fetcher = fetcher;
+    this.minScore = minScore;
+    this.maxScore = maxScore;
+    this.descending = descending;
+    this.pageSize = pageSize;
+    this.pendingPage = requestPage();
+  }
+
+  private CompletableFuture<CacheSortedSetFetchResponse> requestPage() {
+    if (cursorScore == null) {
+      return fetcher.fetch(minScore, maxScore, 0, pageSize);
+    }
+    return descending
+        ? fetcher.fetch(minScore, cursorScore, cursorOffset, pageSize)
+        : fetcher.fetch(cursorScore, maxScore, cursorOffset, pageSize);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextPage != null) {
+      return true;
+    }
+    if (pendingPage == null) {
+      return false;
+    }
+    final CacheSortedSetFetchResponse response = pendingPage.join();
+    pendingPage = null;
+    if (response instanceof CacheSortedSetFetchResponse.Error) {
+      throw (CacheSortedSetFetchResponse.Error) response;
+    }
+    if (!(response instanceof CacheSortedSetFetchResponse.Hit)) {
+      // The sorted set does not exist.
+      return false;
+    }
+    final List<ScoredElement> page = ((CacheSortedSetFetchResponse.Hit) response).elementsList();
+    if (page.isEmpty()) {
+      return false;
+    }
+    if (page.size() == pageSize) {
+      // A full page may not be the last, so fetch the next one while this one is read.
+      advanceCursor(page);
+      pendingPage = requestPage();
+    }
+    nextPage = page;
+    return true;
+  }
+
+  private void advanceCursor(List<ScoredElement> page) {
+    final double lastScore = page.get(page.size() - 1).getScore();
+    int elementsAtLastScore = 0;
+    for (int i = page.size() - 1; i >= 0 && page.get(i).getScore() == lastScore; i--) {
+      elementsAtLastScore++;
+    }
+    if (cursorScore != null && cursorScore == lastScore) {
+      // The whole page shared the cursor's score, after the elements skipped to reach it.
+      cursorOffset += elementsAtLastScore;
+    } else {
+      cursorScore = lastScore;
+      cursorOffset = elementsAtLastScore;
+    }
+  }
+
+  @Override
+  public List<ScoredElement> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final List<ScoredElement> page = nextPage;
+    nextPage = null;
+    return page;
+  }
+
+  /** Cancels the prefetched page, if any. The iterator has no further pages once it is closed. */
+  @Override
+  public void close() {
+    if (pendingPage != null) {
+      pendingPage.cancel(true);
+      pendingPage = null;
+    }
+  }
+}
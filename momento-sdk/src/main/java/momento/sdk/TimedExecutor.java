@@ -0,0 +1,54 @@
+package momento.sdk;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import momento.sdk.metrics.CallbackExecutionStats;
+
+/**
+ * Runs response callbacks on a delegate executor and records how long each one takes.
+ *
+ * <p>A callback includes completing the future returned to the caller, so with a direct executor
+ * the recorded time covers every continuation the caller chained without an executor of its own.
+ * That is the time the gRPC thread delivering the response was blocked. A callback the delegate
+ * rejects runs on the calling thread instead.
+ */
+final class TimedExecutor implements Executor {
+
+  private final Executor delegate;
+  private final LongAdder callbackCount = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  TimedExecutor(@Nonnull Executor delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    final Runnable timed =
+        () -> {
+          final long startNanos = System.nanoTime();
+          try {
+            command.run();
+          } finally {
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            callbackCount.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+          }
+        };
+    try {
+      delegate.execute(timed);
+    } catch (RejectedExecutionException e) {
+      // The caller's future would otherwise never complete, e.g. after its executor was shut down.
+      timed.run();
+    }
+  }
+
+  CallbackExecutionStats stats() {
+    return new CallbackExecutionStats(callbackCount.sum(), totalNanos.sum(), maxNanos.get());
+  }
+}
@@ -16,13 +16,16 @@ final class UserHeaderInterceptor implements ClientInterceptor {
       Metadata.Key.of("Authorization", ASCII_STRING_MARSHALLER);
   private static final Metadata.Key<String> SDK_AGENT_KEY =
       Metadata.Key.of("Agent", ASCII_STRING_MARSHALLER);
-  private final String tokenValue;
-  private final String sdkVersion =
-      String.format("java:%s", this.getClass().getPackage().getImplementationVersion());
+  // Built once so that each call copies the encoded headers rather than re-encoding them.
+  private final Metadata authHeaders = new Metadata();
+  private final Metadata agentHeaders = new Metadata();
   private static volatile boolean isUserAgentSent = false;
 
   UserHeaderInterceptor(String token) {
-    tokenValue = token;
+    authHeaders.put(AUTH_HEADER_KEY, token);
+    agentHeaders.put(
+        SDK_AGENT_KEY,
+        String.format("java:%s", this.getClass().getPackage().getImplementationVersion()));
   }
 
   @Override
@@ -32,9 +35,9 @@ final class UserHeaderInterceptor implements ClientInterceptor {
         channel.newCall(methodDescriptor, callOptions)) {
       @Override
       public void start(Listener<RespT> listener, Metadata metadata) {
-        metadata.put(AUTH_HEADER_KEY, tokenValue);
+        metadata.merge(authHeaders);
         if (!isUserAgentSent) {
-          metadata.put(SDK_AGENT_KEY, sdkVersion);
+          metadata.merge(agentHeaders);
           isUserAgentSent = true;
         }
         super.start(listener, metadata);
@@ -1,6 +1,7 @@
 package momento.sdk;
 
 import java.time.Duration;
+import javax.annotation.Nullable;
 import momento.sdk.exceptions.InvalidArgumentException;
 
 // Should rely on server for all validations. However, there are some that cannot be delegated and
@@ -17,9 +18,40 @@ public final class ValidationUtils {
   static final String LIST_NAME_CANNOT_BE_NULL = "List name cannot be null.";
   static final String INDEX_RANGE_INVALID =
       "endIndex (exclusive) must be larger than startIndex (inclusive).";
+  static final String LIST_PAGE_INDEX_RANGE_INVALID =
+      "List page indices must not be negative, and endIndex must be larger than startIndex.";
+  static final String LIST_PAGE_SIZE_INVALID =
+      "List page size must be positive and prefetch pages must not be negative.";
   static final String SCORE_RANGE_INVALID =
       "maxScore (inclusive) must be greater than or equal to minScore (inclusive).";
   static final String SIGNING_KEY_TTL_CANNOT_BE_NEGATIVE = "Signing key TTL cannot be negative.";
+  static final String NUM_CHANNELS_MUST_BE_POSITIVE = "Number of gRPC channels must be positive.";
+  static final String NEAR_CACHE_SIZE_MUST_BE_POSITIVE = "Near cache size must be positive.";
+  static final String NEAR_CACHE_TTL_MUST_BE_POSITIVE = "Near cache max TTL must be positive.";
+  static final String MAX_CONCURRENT_BULK_REQUESTS_MUST_BE_POSITIVE =
+      "Max concurrent bulk requests must be positive.";
+  static final String RETRY_MAX_ATTEMPTS_MUST_BE_POSITIVE = "Max retry attempts must be positive.";
+  static final String RETRY_BACKOFF_INVALID =
+      "Retry initial delay must be positive and no greater than the max delay.";
+  static final String RETRY_BUDGET_MUST_BE_POSITIVE =
+      "Retry budget tokens and token ratio must be positive.";
+  static final String HEDGING_DELAY_MUST_BE_POSITIVE = "Hedging delay must be positive.";
+  static final String HEDGING_PERCENTILE_INVALID =
+      "Hedging percentile must be between 0 and 100, exclusive.";
+  static final String CONCURRENCY_LIMITS_INVALID =
+      "Concurrency limits must be positive, with min <= initial <= max.";
+  static final String CONCURRENCY_LIMIT_BACKOFF_RATIO_INVALID =
+      "Concurrency limit backoff ratio must be between 0 and 1, exclusive.";
+  static final String CIRCUIT_BREAKER_FAILURE_RATE_INVALID =
+      "Circuit breaker failure rate threshold must be greater than 0 and at most 1.";
+  static final String CIRCUIT_BREAKER_REQUEST_COUNT_MUST_BE_POSITIVE =
+      "Circuit breaker request counts must be positive.";
+  static final String CIRCUIT_BREAKER_DURATION_MUST_BE_POSITIVE =
+      "Circuit breaker durations must be positive.";
+  static final String COLLECTION_CHUNK_BOUNDS_MUST_BE_POSITIVE =
+      "Collection chunk element and byte bounds must be positive.";
+  static final String WRITE_COMBINING_BOUNDS_MUST_BE_POSITIVE =
+      "Write combining delay and element bounds must be positive.";
 
   ValidationUtils() {}
 
@@ -29,6 +61,106 @@ public final class ValidationUtils {
     }
   }
 
+  public static void ensureValidNumChannels(int numChannels) {
+    if (numChannels < 1) {
+      throw new InvalidArgumentException(NUM_CHANNELS_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidNearCacheSize(long maxSizeBytes) {
+    if (maxSizeBytes < 1) {
+      throw new InvalidArgumentException(NEAR_CACHE_SIZE_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidNearCacheMaxTtl(Duration maxTtl) {
+    if (maxTtl == null || maxTtl.isNegative() || maxTtl.isZero()) {
+      throw new InvalidArgumentException(NEAR_CACHE_TTL_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidMaxConcurrentBulkRequests(int maxConcurrentBulkRequests) {
+    if (maxConcurrentBulkRequests < 1) {
+      throw new InvalidArgumentException(MAX_CONCURRENT_BULK_REQUESTS_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidRetryMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new InvalidArgumentException(RETRY_MAX_ATTEMPTS_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidRetryBackoff(Duration initialDelay, Duration maxDelay) {
+    if (initialDelay == null
+        || maxDelay == null
+        || initialDelay.isNegative()
+        || initialDelay.isZero()
+        || initialDelay.compareTo(maxDelay) > 0) {
+      throw new InvalidArgumentException(RETRY_BACKOFF_INVALID);
+    }
+  }
+
+  public static void ensureValidRetryBudget(int maxTokens, double tokenRatio) {
+    if (maxTokens < 1 || !(tokenRatio > 0)) {
+      throw new InvalidArgumentException(RETRY_BUDGET_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidHedgingDelay(Duration delay) {
+    if (delay == null || delay.isNegative() || delay.isZero()) {
+      throw new InvalidArgumentException(HEDGING_DELAY_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidHedgingPercentile(double percentile) {
+    if (!(percentile > 0 && percentile < 100)) {
+      throw new InvalidArgumentException(HEDGING_PERCENTILE_INVALID);
+    }
+  }
+
+  public static void ensureValidConcurrencyLimits(int initialLimit, int minLimit, int maxLimit) {
+    if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+      throw new InvalidArgumentException(CONCURRENCY_LIMITS_INVALID);
+    }
+  }
+
+  public static void ensureValidConcurrencyLimitBackoffRatio(double backoffRatio) {
+    if (!(backoffRatio > 0 && backoffRatio < 1)) {
+      throw new InvalidArgumentException(CONCURRENCY_LIMIT_BACKOFF_RATIO_INVALID);
+    }
+  }
+
+  public static void ensureValidCircuitBreakerFailureRate(double failureRateThreshold) {
+    if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+      throw new InvalidArgumentException(CIRCUIT_BREAKER_FAILURE_RATE_INVALID);
+    }
+  }
+
+  public static void ensureValidCircuitBreakerRequestCount(int requestCount) {
+    if (requestCount < 1) {
+      throw new InvalidArgumentException(CIRCUIT_BREAKER_REQUEST_COUNT_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidCircuitBreakerDuration(Duration duration) {
+    if (duration == null || duration.isNegative() || duration.isZero()) {
+      throw new InvalidArgumentException(CIRCUIT_BREAKER_DURATION_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidCollectionChunkBounds(int maxElements, long maxBytes) {
+    if (maxElements < 1 || maxBytes < 1) {
+      throw new InvalidArgumentException(COLLECTION_CHUNK_BOUNDS_MUST_BE_POSITIVE);
+    }
+  }
+
+  public static void ensureValidWriteCombiningBounds(Duration maxDelay, int maxElements) {
+    if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero() || maxElements < 1) {
+      throw new InvalidArgumentException(WRITE_COMBINING_BOUNDS_MUST_BE_POSITIVE);
+    }
+  }
+
   static void checkCacheNameValid(String cacheName) {
     if (cacheName == null) {
       throw new InvalidArgumentException(CACHE_NAME_IS_REQUIRED);
@@ -60,6 +192,16 @@ public final class ValidationUtils {
     }
   }
 
+  static void checkListPagingValid(
+      int startIndex, @Nullable Integer endIndex, int pageSize, int prefetchPages) {
+    if (startIndex < 0 || (endIndex != null && endIndex <= startIndex)) {
+      throw new InvalidArgumentException(LIST_PAGE_INDEX_RANGE_INVALID);
+    }
+    if (pageSize < 1 || prefetchPages < 0) {
+      throw new InvalidArgumentException(LIST_PAGE_SIZE_INVALID);
+    }
+  }
+
   static void checkScoreRangeValid(Double minScore, Double maxScore) {
     if (minScore == null || maxScore == null) {
       return;
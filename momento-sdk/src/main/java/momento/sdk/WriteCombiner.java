@@ -0,0 +1,152 @@
+package momento.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+import momento.sdk.config.WriteCombiningConfiguration;
+
+/**
+ * Buffers writes that share a key and sends each buffer as one request, once it is full or its
+ * delay has passed. Every write in a buffer completes with the response to that request.
+ *
+ * @param <K> identifies the writes that may share a request.
+ * @param <E> a buffered element.
+ * @param <R> the response the buffered writes complete with.
+ */
+final class WriteCombiner<K, E, R> {
+
+  private final long maxDelayNanos;
+  private final int maxElements;
+  private final ScheduledExecutorService scheduler;
+  private final BiFunction<K, List<E>, CompletableFuture<R>> send;
+  private final ConcurrentMap<K, Buffer> buffers = new ConcurrentHashMap<>();
+  private final Set<CompletableFuture<R>> inFlight = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates a write combiner.
+   *
+   * @param configuration the buffering limits.
+   * @param scheduler runs the delayed sends.
+   * @param send sends a buffer's elements, in the order they were added, as one request.
+   */
+  WriteCombiner(
+      WriteCombiningConfiguration configuration,
+      ScheduledExecutorService scheduler,
+      BiFunction<K, List<E>, CompletableFuture<R>> send) {
+    this.maxDelayNanos = configuration.getMaxDelay().toNanos();
+    this.maxElements = configuration.getMaxElements();
+    this.scheduler = scheduler;
+    this.send = send;
+  }
+
+  /**
+   * Adds an element to the key's buffer, starting a new buffer if there is none.
+   *
+   * @return a future that completes with the response to the request the element is sent in.
+   */
+  CompletableFuture<R> add(K key, E element) {
+    while (true) {
+      final Buffer buffer = buffers.computeIfAbsent(key, Buffer::new);
+      final CompletableFuture<R> future = buffer.add(element);
+      if (future != null) {
+        return future;
+      }
+      // The buffer was sent between the lookup and the add, so it has been removed from the map.
+    }
+  }
+
+  /**
+   * Sends every buffer now, without waiting for its delay.
+   *
+   * @return a future that completes once every request this combiner has sent has completed.
+   */
+  CompletableFuture<Void> flushAll() {
+    for (Buffer buffer : buffers.values()) {
+      buffer.flush();
+    }
+    return CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]));
+  }
+
+  private final class Buffer {
+    private final K key;
+    private final List<E> elements = new ArrayList<>();
+    private final List<CompletableFuture<R>> futures = new ArrayList<>();
+    private final ScheduledFuture<?> timer;
+    private boolean sent;
+
+    Buffer(K key) {
+      this.key = key;
+      this.timer = scheduler.schedule(this::flush, maxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adds an element, sending the buffer if that fills it.
+     *
+     * @return the element's future, or null if the buffer was already sent.
+     */
+    @Nullable
+    CompletableFuture<R> add(E element) {
+      final CompletableFuture<R> future = new CompletableFuture<>();
+      synchronized (this) {
+        if (sent) {
+          return null;
+        }
+        elements.add(element);
+        futures.add(future);
+        if (elements.size() < maxElements) {
+          return future;
+        }
+        sent = true;
+      }
+      send();
+      return future;
+    }
+
+    void flush() {
+      synchronized (this) {
+        if (sent) {
+          return;
+        }
+        sent = true;
+      }
+      send();
+    }
+
+    /** Sends the elements once no more can be added, and completes the futures. */
+    private void send() {
+      buffers.remove(key, this);
+      // Null only if the timer fired before the constructor stored it, and then it is done anyway.
+      if (timer != null) {
+        timer.cancel(false);
+      }
+      CompletableFuture<R> sending;
+      try {
+        sending = WriteCombiner.this.send.apply(key, elements);
+      } catch (RuntimeException e) {
+        sending = new CompletableFuture<>();
+        sending.completeExceptionally(e);
+      }
+      final CompletableFuture<R> response = sending;
+      inFlight.add(response);
+      response.whenComplete(
+          (result, error) -> {
+            inFlight.remove(response);
+            for (CompletableFuture<R> future : futures) {
+              if (error != null) {
+                future.completeExceptionally(error);
+              } else {
+                future.complete(result);
+              }
+            }
+          });
+    }
+  }
+}
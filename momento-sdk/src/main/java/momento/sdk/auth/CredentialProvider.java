@@ -26,4 +26,23 @@ public interface CredentialProvider {
    * @return the endpoint
    */
   String getCacheEndpoint();
+
+  /**
+   * The port on which both the control and data plane endpoints accept connections.
+   *
+   * @return the port
+   */
+  default int getPort() {
+    return 443;
+  }
+
+  /**
+   * Whether connections to the endpoints use TLS. Only a local server, such as one used for testing
+   * or benchmarking, should be reached without it.
+   *
+   * @return true if connections are secured with TLS
+   */
+  default boolean isEndpointSecure() {
+    return true;
+  }
 }
@@ -0,0 +1,51 @@
+package momento.sdk.auth;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Connects to a server that serves both the control and data planes on one plaintext port, such as
+ * the in-memory server in momento-sdk-local. The server is not sent a real auth token.
+ */
+public class LocalCredentialProvider implements CredentialProvider {
+
+  private static final String AUTH_TOKEN = "local";
+
+  private final String hostname;
+  private final int port;
+
+  /**
+   * Connects to a local server.
+   *
+   * @param hostname the host the server listens on.
+   * @param port the port the server listens on.
+   */
+  public LocalCredentialProvider(@Nonnull String hostname, int port) {
+    this.hostname = hostname;
+    this.port = port;
+  }
+
+  @Override
+  public String getAuthToken() {
+    return AUTH_TOKEN;
+  }
+
+  @Override
+  public String getControlEndpoint() {
+    return hostname;
+  }
+
+  @Override
+  public String getCacheEndpoint() {
+    return hostname;
+  }
+
+  @Override
+  public int getPort() {
+    return port;
+  }
+
+  @Override
+  public boolean isEndpointSecure() {
+    return false;
+  }
+}
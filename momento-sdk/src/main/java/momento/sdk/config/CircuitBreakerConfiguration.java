@@ -0,0 +1,124 @@
+package momento.sdk.config;
+
+import static momento.sdk.ValidationUtils.ensureValidCircuitBreakerDuration;
+import static momento.sdk.ValidationUtils.ensureValidCircuitBreakerFailureRate;
+import static momento.sdk.ValidationUtils.ensureValidCircuitBreakerRequestCount;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+
+/**
+ * Tunables for the client's circuit breaker, which fails requests immediately while the server is
+ * timing out or unavailable instead of letting each one wait for its deadline.
+ *
+ * <p>The breaker opens when, over the last {@link #getWindow()}, at least {@link
+ * #getMinimumRequests()} requests have completed and at least {@link #getFailureRateThreshold()}
+ * of them failed with a timeout or with the server unavailable. While it is open, data plane
+ * requests return an error response with the {@link
+ * momento.sdk.exceptions.CircuitBreakerOpenException} cause without being sent. After {@link
+ * #getOpenDuration()} it lets {@link #getTrialRequests()} requests through: if they all succeed it
+ * closes, and if any of them fails it opens again.
+ */
+public class CircuitBreakerConfiguration {
+
+  private static final int DEFAULT_TRIAL_REQUESTS = 3;
+
+  private final double failureRateThreshold;
+  private final int minimumRequests;
+  private final Duration window;
+  private final Duration openDuration;
+  private final int trialRequests;
+
+  /**
+   * Creates a circuit breaker configuration that lets 3 trial requests through once it has been
+   * open for the open duration.
+   *
+   * @param failureRateThreshold the fraction of requests that must fail for the breaker to open.
+   *     Must be greater than 0 and at most 1.
+   * @param minimumRequests the number of requests that must complete within the window before the
+   *     breaker can open. Must be positive.
+   * @param window how far back completed requests are counted.
+   * @param openDuration how long the breaker stays open before trial requests are sent.
+   */
+  public CircuitBreakerConfiguration(
+      double failureRateThreshold,
+      int minimumRequests,
+      @Nonnull Duration window,
+      @Nonnull Duration openDuration) {
+    this(failureRateThreshold, minimumRequests, window, openDuration, DEFAULT_TRIAL_REQUESTS);
+  }
+
+  private CircuitBreakerConfiguration(
+      double failureRateThreshold,
+      int minimumRequests,
+      Duration window,
+      Duration openDuration,
+      int trialRequests) {
+    ensureValidCircuitBreakerFailureRate(failureRateThreshold);
+    ensureValidCircuitBreakerRequestCount(minimumRequests);
+    ensureValidCircuitBreakerDuration(window);
+    ensureValidCircuitBreakerDuration(openDuration);
+    ensureValidCircuitBreakerRequestCount(trialRequests);
+    this.failureRateThreshold = failureRateThreshold;
+    this.minimumRequests = minimumRequests;
+    this.window = window;
+    this.openDuration = openDuration;
+    this.trialRequests = trialRequests;
+  }
+
+  /**
+   * The fraction of requests that must fail for the breaker to open.
+   *
+   * @return the failure rate threshold
+   */
+  public double getFailureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  /**
+   * The number of requests that must complete within the window before the breaker can open.
+   *
+   * @return the minimum number of requests
+   */
+  public int getMinimumRequests() {
+    return minimumRequests;
+  }
+
+  /**
+   * How far back completed requests are counted.
+   *
+   * @return the window
+   */
+  public Duration getWindow() {
+    return window;
+  }
+
+  /**
+   * How long the breaker stays open before trial requests are sent.
+   *
+   * @return the open duration
+   */
+  public Duration getOpenDuration() {
+    return openDuration;
+  }
+
+  /**
+   * The number of requests that must succeed for an open breaker to close.
+   *
+   * @return the number of trial requests
+   */
+  public int getTrialRequests() {
+    return trialRequests;
+  }
+
+  /**
+   * Copy constructor that updates the number of trial requests.
+   *
+   * @param trialRequests the new number of trial requests. Must be positive.
+   * @return a new CircuitBreakerConfiguration with the updated number of trial requests.
+   */
+  public CircuitBreakerConfiguration withTrialRequests(int trialRequests) {
+    return new CircuitBreakerConfiguration(
+        failureRateThreshold, minimumRequests, window, openDuration, trialRequests);
+  }
+}
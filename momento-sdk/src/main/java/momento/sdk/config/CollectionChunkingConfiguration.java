@@ -0,0 +1,51 @@
+package momento.sdk.config;
+
+import static momento.sdk.ValidationUtils.ensureValidCollectionChunkBounds;
+
+/**
+ * Bounds on the size of a single collection write. Writes of more elements than fit in one chunk
+ * are split into several requests.
+ *
+ * <p>Dictionary, set and sorted set writes are split into chunks that are sent concurrently, up to
+ * the configured {@link Configuration#getMaxConcurrentBulkRequests()}. List concatenations are
+ * sent one chunk at a time, in order, so the elements keep their order in the list. A chunked
+ * write is not atomic: if some chunks fail, the others have still been applied, and the error
+ * response's cause is a {@link momento.sdk.exceptions.ChunkedWriteException} that says how many
+ * were.
+ */
+public class CollectionChunkingConfiguration {
+
+  private final int maxElementsPerChunk;
+  private final long maxBytesPerChunk;
+
+  /**
+   * Creates a chunking configuration.
+   *
+   * @param maxElementsPerChunk the most elements to send in one request. Must be positive.
+   * @param maxBytesPerChunk the most bytes of elements, counting fields and values, to send in one
+   *     request. A single element larger than this is sent in a chunk of its own. Must be positive.
+   */
+  public CollectionChunkingConfiguration(int maxElementsPerChunk, long maxBytesPerChunk) {
+    ensureValidCollectionChunkBounds(maxElementsPerChunk, maxBytesPerChunk);
+    this.maxElementsPerChunk = maxElementsPerChunk;
+    this.maxBytesPerChunk = maxBytesPerChunk;
+  }
+
+  /**
+   * The most elements to send in one request.
+   *
+   * @return the maximum number of elements per chunk
+   */
+  public int getMaxElementsPerChunk() {
+    return maxElementsPerChunk;
+  }
+
+  /**
+   * The most bytes of elements to send in one request.
+   *
+   * @return the maximum number of bytes per chunk
+   */
+  public long getMaxBytesPerChunk() {
+    return maxBytesPerChunk;
+  }
+}
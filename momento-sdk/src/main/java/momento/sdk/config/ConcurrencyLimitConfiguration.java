@@ -0,0 +1,124 @@
+package momento.sdk.config;
+
+import static momento.sdk.ValidationUtils.ensureValidConcurrencyLimitBackoffRatio;
+import static momento.sdk.ValidationUtils.ensureValidConcurrencyLimits;
+
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * Tunables for the adaptive limit on the number of data plane requests a client keeps in flight.
+ *
+ * <p>The limit follows additive-increase, multiplicative-decrease: it grows by about one for each
+ * limit's worth of successful responses while the client is using most of it, and is multiplied by
+ * {@link #getBackoffRatio()} when the server throttles a request, a request times out, or a
+ * response takes longer than the latency threshold. It decreases at most once per round trip.
+ * Requests made while the limit is reached fail immediately with {@link
+ * momento.sdk.exceptions.ClientResourceExhaustedException} instead of queueing in the channel.
+ */
+public class ConcurrencyLimitConfiguration {
+
+  private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  @Nullable private final Duration latencyThreshold;
+
+  /**
+   * Creates a concurrency limit configuration.
+   *
+   * @param initialLimit the limit a new client starts with.
+   * @param minLimit the lowest the limit can shrink to. Must be positive.
+   * @param maxLimit the highest the limit can grow to. Must be at least the initial limit, which
+   *     must be at least the min limit.
+   */
+  public ConcurrencyLimitConfiguration(int initialLimit, int minLimit, int maxLimit) {
+    this(initialLimit, minLimit, maxLimit, DEFAULT_BACKOFF_RATIO, null);
+  }
+
+  private ConcurrencyLimitConfiguration(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double backoffRatio,
+      @Nullable Duration latencyThreshold) {
+    ensureValidConcurrencyLimits(initialLimit, minLimit, maxLimit);
+    ensureValidConcurrencyLimitBackoffRatio(backoffRatio);
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyThreshold = latencyThreshold;
+  }
+
+  /**
+   * The limit a new client starts with.
+   *
+   * @return the initial limit
+   */
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  /**
+   * The lowest the limit can shrink to.
+   *
+   * @return the min limit
+   */
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  /**
+   * The highest the limit can grow to.
+   *
+   * @return the max limit
+   */
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  /**
+   * The factor the limit is multiplied by when it shrinks.
+   *
+   * @return the backoff ratio
+   */
+  public double getBackoffRatio() {
+    return backoffRatio;
+  }
+
+  /**
+   * The response time above which the limit shrinks, if there is one.
+   *
+   * @return the latency threshold, or empty if the limit only shrinks on throttling and timeouts
+   */
+  public Optional<Duration> getLatencyThreshold() {
+    return Optional.ofNullable(latencyThreshold);
+  }
+
+  /**
+   * Copy constructor that updates the backoff ratio.
+   *
+   * @param backoffRatio the new backoff ratio. Must be between 0 and 1, exclusive.
+   * @return a new ConcurrencyLimitConfiguration with the updated backoff ratio.
+   */
+  public ConcurrencyLimitConfiguration withBackoffRatio(double backoffRatio) {
+    return new ConcurrencyLimitConfiguration(
+        initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold);
+  }
+
+  /**
+   * Copy constructor that updates the latency threshold.
+   *
+   * @param latencyThreshold the new latency threshold, or null to only shrink the limit on
+   *     throttling and timeouts.
+   * @return a new ConcurrencyLimitConfiguration with the updated latency threshold.
+   */
+  public ConcurrencyLimitConfiguration withLatencyThreshold(@Nullable Duration latencyThreshold) {
+    return new ConcurrencyLimitConfiguration(
+        initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold);
+  }
+}
@@ -1,11 +1,32 @@
 package momento.sdk.config;
 
+import static momento.sdk.ValidationUtils.ensureValidMaxConcurrentBulkRequests;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+import momento.sdk.config.retry.RetryStrategy;
 import momento.sdk.config.transport.TransportStrategy;
+import momento.sdk.metrics.MetricsRecorder;
 
 /** The contract for SDK configurables. A configuration must have a transport strategy. */
 public class Configuration {
 
+  private static final int DEFAULT_MAX_CONCURRENT_BULK_REQUESTS = 100;
+
   private final TransportStrategy transportStrategy;
+  private final NearCacheConfiguration nearCacheConfiguration;
+  private final int maxConcurrentBulkRequests;
+  private final boolean getCoalescingEnabled;
+  private final boolean zeroCopyWritesEnabled;
+  private final Executor completionExecutor;
+  private final RetryStrategy retryStrategy;
+  private final HedgingPolicy hedgingPolicy;
+  private final ConcurrencyLimitConfiguration concurrencyLimit;
+  private final CircuitBreakerConfiguration circuitBreaker;
+  private final MetricsRecorder metricsRecorder;
+  private final CollectionChunkingConfiguration collectionChunking;
+  private final WriteCombiningConfiguration writeCombining;
 
   /**
    * Creates a new configuration object.
@@ -13,7 +34,50 @@ public class Configuration {
    * @param transportStrategy Responsible for configuring network tunables.
    */
   public Configuration(TransportStrategy transportStrategy) {
+    this(
+        transportStrategy,
+        null,
+        DEFAULT_MAX_CONCURRENT_BULK_REQUESTS,
+        false,
+        false,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private Configuration(
+      TransportStrategy transportStrategy,
+      @Nullable NearCacheConfiguration nearCacheConfiguration,
+      int maxConcurrentBulkRequests,
+      boolean getCoalescingEnabled,
+      boolean zeroCopyWritesEnabled,
+      @Nullable Executor completionExecutor,
+      @Nullable RetryStrategy retryStrategy,
+      @Nullable HedgingPolicy hedgingPolicy,
+      @Nullable ConcurrencyLimitConfiguration concurrencyLimit,
+      @Nullable CircuitBreakerConfiguration circuitBreaker,
+      @Nullable MetricsRecorder metricsRecorder,
+      @Nullable CollectionChunkingConfiguration collectionChunking,
+      @Nullable WriteCombiningConfiguration writeCombining) {
+    ensureValidMaxConcurrentBulkRequests(maxConcurrentBulkRequests);
     this.transportStrategy = transportStrategy;
+    this.nearCacheConfiguration = nearCacheConfiguration;
+    this.maxConcurrentBulkRequests = maxConcurrentBulkRequests;
+    this.getCoalescingEnabled = getCoalescingEnabled;
+    this.zeroCopyWritesEnabled = zeroCopyWritesEnabled;
+    this.completionExecutor = completionExecutor;
+    this.retryStrategy = retryStrategy;
+    this.hedgingPolicy = hedgingPolicy;
+    this.concurrencyLimit = concurrencyLimit;
+    this.circuitBreaker = circuitBreaker;
+    this.metricsRecorder = metricsRecorder;
+    this.collectionChunking = collectionChunking;
+    this.writeCombining = writeCombining;
   }
 
   /**
@@ -25,6 +89,114 @@ public class Configuration {
     return transportStrategy;
   }
 
+  /**
+   * Configuration for the in-process near cache, if one is enabled.
+   *
+   * @return The near cache configuration, or empty if gets always go to the server
+   */
+  public Optional<NearCacheConfiguration> getNearCacheConfiguration() {
+    return Optional.ofNullable(nearCacheConfiguration);
+  }
+
+  /**
+   * The maximum number of requests a single bulk operation, such as getMany, keeps in flight.
+   *
+   * @return The maximum number of concurrent requests per bulk operation
+   */
+  public int getMaxConcurrentBulkRequests() {
+    return maxConcurrentBulkRequests;
+  }
+
+  /**
+   * Whether concurrent gets for the same key in the same cache share a single request.
+   *
+   * @return true if gets are coalesced
+   */
+  public boolean isGetCoalescingEnabled() {
+    return getCoalescingEnabled;
+  }
+
+  /**
+   * Whether byte array and {@link java.nio.ByteBuffer} values are sent without being copied.
+   *
+   * @return true if zero-copy writes are enabled
+   */
+  public boolean isZeroCopyWritesEnabled() {
+    return zeroCopyWritesEnabled;
+  }
+
+  /**
+   * The executor that completes the futures returned by data plane operations, if one is set.
+   *
+   * @return The completion executor, or empty if futures are completed directly on gRPC threads
+   */
+  public Optional<Executor> getCompletionExecutor() {
+    return Optional.ofNullable(completionExecutor);
+  }
+
+  /**
+   * The strategy that decides which failed data plane requests are retried, if one is set.
+   *
+   * @return The retry strategy, or empty if failed requests are never retried
+   */
+  public Optional<RetryStrategy> getRetryStrategy() {
+    return Optional.ofNullable(retryStrategy);
+  }
+
+  /**
+   * The policy for hedging reads, if hedging is enabled.
+   *
+   * @return The hedging policy, or empty if each read is sent once per attempt
+   */
+  public Optional<HedgingPolicy> getHedgingPolicy() {
+    return Optional.ofNullable(hedgingPolicy);
+  }
+
+  /**
+   * The adaptive limit on requests in flight, if one is set.
+   *
+   * @return The concurrency limit configuration, or empty if requests are never rejected
+   */
+  public Optional<ConcurrencyLimitConfiguration> getConcurrencyLimit() {
+    return Optional.ofNullable(concurrencyLimit);
+  }
+
+  /**
+   * The circuit breaker configuration, if the client has one.
+   *
+   * @return The circuit breaker configuration, or empty if requests are always sent
+   */
+  public Optional<CircuitBreakerConfiguration> getCircuitBreaker() {
+    return Optional.ofNullable(circuitBreaker);
+  }
+
+  /**
+   * The recorder that data plane requests are reported to, if one is set.
+   *
+   * @return The metrics recorder, or empty if requests are not measured
+   */
+  public Optional<MetricsRecorder> getMetricsRecorder() {
+    return Optional.ofNullable(metricsRecorder);
+  }
+
+  /**
+   * The bounds that large collection writes are split by, if they are split.
+   *
+   * @return The chunking configuration, or empty if every collection write is one request
+   */
+  public Optional<CollectionChunkingConfiguration> getCollectionChunking() {
+    return Optional.ofNullable(collectionChunking);
+  }
+
+  /**
+   * The limits that buffered list pushes and set adds are flushed at, if writes are combined.
+   *
+   * @return The write combining configuration, or empty if every push or add is one request
+   */
+  public Optional<WriteCombiningConfiguration> getWriteCombining() {
+    return Optional.ofNullable(writeCombining);
+  }
+
   /**
    * Creates a new instance of the configuration object updated to use the given transport strategy.
    *
@@ -32,6 +204,349 @@ public class Configuration {
    * @return A copy of this Configuration using the new transport strategy
    */
   public Configuration withTransportStrategy(TransportStrategy transportStrategy) {
-    return new Configuration(transportStrategy);
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object with an in-process near cache in front of
+   * cache gets.
+   *
+   * @param nearCacheConfiguration Tunables for the near cache, or null to disable it.
+   * @return A copy of this Configuration using the new near cache configuration
+   */
+  public Configuration withNearCacheConfiguration(
+      @Nullable NearCacheConfiguration nearCacheConfiguration) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object updated to use the given bulk concurrency.
+   *
+   * @param maxConcurrentBulkRequests The maximum number of requests a single bulk operation keeps
+   *     in flight. Must be positive.
+   * @return A copy of this Configuration using the new bulk concurrency
+   */
+  public Configuration withMaxConcurrentBulkRequests(int maxConcurrentBulkRequests) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object with get coalescing turned on or off.
+   *
+   * <p>When enabled, a get for a key that already has a get in flight waits for that request's
+   * response instead of sending its own, which bounds the load a burst of reads for one key can put
+   * on the server. Gets made with a per-request deadline are never coalesced.
+   *
+   * @param getCoalescingEnabled Whether concurrent gets for the same key share a single request.
+   * @return A copy of this Configuration using the new get coalescing setting
+   */
+  public Configuration withGetCoalescingEnabled(boolean getCoalescingEnabled) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object with zero-copy writes turned on or off.
+   *
+   * <p>When enabled, the byte array and {@link java.nio.ByteBuffer} values passed to set,
+   * setIfNotExists, listPushBack and dictionarySetField are wrapped instead of copied before they
+   * are serialized. The client then shares the caller's memory: the array or buffer contents must
+   * not be modified until the returned future completes, and responses that echo the value, such
+   * as {@link momento.sdk.messages.CacheSetResponse.Success}, read from it. A buffer's position is
+   * advanced to its limit, as it is when the value is copied. Wrapped values are not kept in the
+   * near cache, while String values are still copied and cached as usual.
+   *
+   * @param zeroCopyWritesEnabled Whether values are wrapped instead of copied.
+   * @return A copy of this Configuration using the new zero-copy setting
+   */
+  public Configuration withZeroCopyWritesEnabled(boolean zeroCopyWritesEnabled) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object that completes data plane futures on the
+   * given executor.
+   *
+   * <p>By default a response completes its future directly on the gRPC thread that delivered it,
+   * so continuations chained without an executor, such as {@code thenApply}, run on that thread and
+   * delay the delivery of other responses while they run. Setting an executor moves that work off
+   * gRPC's threads at the cost of a thread hop per response. The client does not shut the executor
+   * down. {@link momento.sdk.CacheClient#getCallbackExecutionStats()} shows how long callbacks
+   * take.
+   *
+   * @param completionExecutor The executor to complete futures on, or null to complete them
+   *     directly, which is cheapest when every continuation is short and non-blocking.
+   * @return A copy of this Configuration using the new completion executor
+   */
+  public Configuration withCompletionExecutor(@Nullable Executor completionExecutor) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object that retries failed data plane requests
+   * according to the given strategy.
+   *
+   * <p>Retries are sent by the client rather than by gRPC, so they are visible to the strategy and
+   * share the request's deadline. Only failures the strategy allows are retried; see {@link
+   * momento.sdk.config.retry.DefaultRetryEligibilityStrategy} for which requests are safe to send
+   * twice.
+   *
+   * @param retryStrategy The strategy to retry with, or null to return every failure.
+   * @return A copy of this Configuration using the new retry strategy
+   */
+  public Configuration withRetryStrategy(@Nullable RetryStrategy retryStrategy) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object that hedges slow reads.
+   *
+   * <p>Hedging applies to each attempt, so with a retry strategy a retried read is hedged again.
+   *
+   * @param hedgingPolicy When to send a second copy of a read, or null to disable hedging.
+   * @return A copy of this Configuration using the new hedging policy
+   */
+  public Configuration withHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object with an adaptive limit on the number of
+   * data plane requests in flight.
+   *
+   * <p>Without a limit, requests made while the server is throttling or slow queue in the channel
+   * without bound. With one, they fail fast with a {@link
+   * momento.sdk.exceptions.ClientResourceExhaustedException} error response once the limit is
+   * reached. Every gRPC request counts, including retries and hedges. {@link
+   * momento.sdk.CacheClient#getConcurrencyLimitStats()} shows the current limit.
+   *
+   * @param concurrencyLimit Tunables for the limit, or null to disable it.
+   * @return A copy of this Configuration using the new concurrency limit
+   */
+  public Configuration withConcurrencyLimit(
+      @Nullable ConcurrencyLimitConfiguration concurrencyLimit) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object with a circuit breaker in front of data
+   * plane requests.
+   *
+   * <p>While the server is timing out or unavailable, an open breaker makes requests return their
+   * error response immediately instead of waiting for the deadline, so callers that treat errors as
+   * misses degrade to fast misses. A request that is retried counts once, with its final outcome.
+   *
+   * @param circuitBreaker Tunables for the circuit breaker, or null to disable it.
+   * @return A copy of this Configuration using the new circuit breaker configuration
+   */
+  public Configuration withCircuitBreaker(@Nullable CircuitBreakerConfiguration circuitBreaker) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object that reports every data plane request's
+   * latency, payload sizes and result to the given recorder.
+   *
+   * @param metricsRecorder The recorder, such as a {@link
+   *     momento.sdk.metrics.HistogramMetricsRecorder}, or null to not measure requests.
+   * @return A copy of this Configuration using the new metrics recorder
+   */
+  public Configuration withMetricsRecorder(@Nullable MetricsRecorder metricsRecorder) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object that splits large dictionary, set, sorted
+   * set and list writes into several bounded requests, so that they stay under the server's
+   * message size limit and no single request takes long. See {@link
+   * CollectionChunkingConfiguration} for how the chunks are sent and how partial failures are
+   * reported.
+   *
+   * @param collectionChunking The chunk bounds, or null to send each write as one request.
+   * @return A copy of this Configuration using the new chunking configuration
+   */
+  public Configuration withCollectionChunking(
+      @Nullable CollectionChunkingConfiguration collectionChunking) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
+  }
+
+  /**
+   * Creates a new instance of the configuration object that buffers list pushes and set adds to the
+   * same collection and sends each buffer as one request. See {@link WriteCombiningConfiguration}
+   * for which writes are combined and what their responses report.
+   *
+   * @param writeCombining The buffering limits, or null to send each push or add as one request.
+   * @return A copy of this Configuration using the new write combining configuration
+   */
+  public Configuration withWriteCombining(@Nullable WriteCombiningConfiguration writeCombining) {
+    return new Configuration(
+        transportStrategy,
+        nearCacheConfiguration,
+        maxConcurrentBulkRequests,
+        getCoalescingEnabled,
+        zeroCopyWritesEnabled,
+        completionExecutor,
+        retryStrategy,
+        hedgingPolicy,
+        concurrencyLimit,
+        circuitBreaker,
+        metricsRecorder,
+        collectionChunking,
+        writeCombining);
   }
 }
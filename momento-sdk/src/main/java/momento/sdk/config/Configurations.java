@@ -1,6 +1,9 @@
 package momento.sdk.config;
 
 import java.time.Duration;
+import momento.sdk.config.retry.ExponentialBackoffRetryStrategy;
+import momento.sdk.config.retry.RetryBudget;
+import momento.sdk.config.retry.RetryStrategy;
 import momento.sdk.config.transport.GrpcConfiguration;
 import momento.sdk.config.transport.StaticTransportStrategy;
 import momento.sdk.config.transport.TransportStrategy;
@@ -29,7 +32,10 @@ public class Configurations {
     public static Configuration Latest() {
       final TransportStrategy transportStrategy =
           new StaticTransportStrategy(new GrpcConfiguration(Duration.ofMillis(15000)));
-      return new Laptop(transportStrategy);
+      final RetryStrategy retryStrategy =
+          new ExponentialBackoffRetryStrategy(3, Duration.ofMillis(100), Duration.ofSeconds(1))
+              .withRetryBudget(new RetryBudget(10, 0.1));
+      return new Laptop(transportStrategy).withRetryStrategy(retryStrategy);
     }
   }
 
@@ -55,14 +61,17 @@ public class Configurations {
     public static Configuration Latest() {
       final TransportStrategy transportStrategy =
           new StaticTransportStrategy(new GrpcConfiguration(Duration.ofMillis(1100)));
-      return new Laptop(transportStrategy);
+      final RetryStrategy retryStrategy =
+          new ExponentialBackoffRetryStrategy(3, Duration.ofMillis(20), Duration.ofMillis(200))
+              .withRetryBudget(new RetryBudget(10, 0.1));
+      return new Laptop(transportStrategy).withRetryStrategy(retryStrategy);
     }
   }
 
   /**
    * This config prioritizes keeping p99.9 latencies as low as possible, potentially sacrificing
    * some throughput to achieve this. Use this configuration if low latency is more important in
-   * your application than cache availability.
+   * your application than cache availability. Failed requests are not retried.
    */
   public static class LowLatency extends Configuration {
 
@@ -0,0 +1,75 @@
+package momento.sdk.config;
+
+import static momento.sdk.ValidationUtils.ensureValidHedgingDelay;
+import static momento.sdk.ValidationUtils.ensureValidHedgingPercentile;
+
+import java.time.Duration;
+import java.util.OptionalDouble;
+import javax.annotation.Nonnull;
+
+/**
+ * Tunables for hedged reads, which trade extra requests for lower tail latency.
+ *
+ * <p>When a get, dictionaryGetField, dictionaryGetFields, listFetch or sortedSetFetch request has
+ * not been answered after the hedging delay, the client sends the same request again on another
+ * channel and returns whichever response arrives first. A hedge that loses is cancelled, while a
+ * first request that loses is left to complete so that its latency is still tracked. Other
+ * operations are never hedged.
+ *
+ * <p>A delay at the p95 latency hedges about 5% of reads; a lower delay hedges more of them.
+ */
+public class HedgingPolicy {
+
+  private final Duration delay;
+  private final double percentile;
+
+  private HedgingPolicy(Duration delay, double percentile) {
+    ensureValidHedgingDelay(delay);
+    this.delay = delay;
+    this.percentile = percentile;
+  }
+
+  /**
+   * Creates a policy that hedges reads that take longer than a fixed delay.
+   *
+   * @param delay how long to wait for the first response before hedging. Must be positive.
+   * @return the hedging policy
+   */
+  public static HedgingPolicy fixedDelay(@Nonnull Duration delay) {
+    return new HedgingPolicy(delay, Double.NaN);
+  }
+
+  /**
+   * Creates a policy that hedges reads that take longer than a percentile of recent latencies.
+   * Latencies are tracked per operation over the client's most recent first requests, including
+   * those a hedge answered sooner, and no reads are hedged until enough have been seen.
+   *
+   * @param percentile the percentile of recent latencies to wait for, such as 95. Must be between
+   *     0 and 100, exclusive.
+   * @param minDelay the shortest delay to wait, however fast recent responses were. Must be
+   *     positive.
+   * @return the hedging policy
+   */
+  public static HedgingPolicy percentileDelay(double percentile, @Nonnull Duration minDelay) {
+    ensureValidHedgingPercentile(percentile);
+    return new HedgingPolicy(minDelay, percentile);
+  }
+
+  /**
+   * The fixed delay, or for a percentile-based policy the shortest delay.
+   *
+   * @return the delay
+   */
+  public Duration getDelay() {
+    return delay;
+  }
+
+  /**
+   * The percentile of recent latencies to wait for, if the delay is not fixed.
+   *
+   * @return the percentile, or empty if the delay is fixed
+   */
+  public OptionalDouble getPercentile() {
+    return Double.isNaN(percentile) ? OptionalDouble.empty() : OptionalDouble.of(percentile);
+  }
+}
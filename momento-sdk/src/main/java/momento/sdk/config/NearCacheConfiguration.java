@@ -0,0 +1,73 @@
+package momento.sdk.config;
+
+import static momento.sdk.ValidationUtils.ensureValidNearCacheMaxTtl;
+import static momento.sdk.ValidationUtils.ensureValidNearCacheSize;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+
+/**
+ * Tunables for the optional in-process near cache that sits in front of cache gets.
+ *
+ * <p>Values read or written through the client are kept locally until they expire, are evicted to
+ * stay within {@link #getMaxSizeBytes()}, or are invalidated by a write to the same key through the
+ * same client. Writes made by other clients are not observed, so {@link #getMaxTtl()} bounds how
+ * stale a locally cached value can become.
+ */
+public class NearCacheConfiguration {
+
+  private final long maxSizeBytes;
+  private final Duration maxTtl;
+
+  /**
+   * Creates a near cache configuration.
+   *
+   * @param maxSizeBytes the approximate number of bytes of keys and values the near cache may hold.
+   * @param maxTtl the longest time an item is kept locally. Items expire at the earlier of this and
+   *     the TTL they were written with.
+   */
+  public NearCacheConfiguration(long maxSizeBytes, @Nonnull Duration maxTtl) {
+    ensureValidNearCacheSize(maxSizeBytes);
+    ensureValidNearCacheMaxTtl(maxTtl);
+    this.maxSizeBytes = maxSizeBytes;
+    this.maxTtl = maxTtl;
+  }
+
+  /**
+   * The approximate number of bytes of keys and values the near cache may hold.
+   *
+   * @return the maximum size in bytes
+   */
+  public long getMaxSizeBytes() {
+    return maxSizeBytes;
+  }
+
+  /**
+   * The longest time an item is kept in the near cache.
+   *
+   * @return the maximum TTL
+   */
+  public Duration getMaxTtl() {
+    return maxTtl;
+  }
+
+  /**
+   * Copy constructor that updates the maximum size.
+   *
+   * @param maxSizeBytes the new maximum size in bytes.
+   * @return a new NearCacheConfiguration with the updated size.
+   */
+  public NearCacheConfiguration withMaxSizeBytes(long maxSizeBytes) {
+    return new NearCacheConfiguration(maxSizeBytes, maxTtl);
+  }
+
+  /**
+   * Copy constructor that updates the maximum TTL.
+   *
+   * @param maxTtl the new maximum TTL.
+   * @return a new NearCacheConfiguration with the updated TTL.
+   */
+  public NearCacheConfiguration withMaxTtl(@Nonnull Duration maxTtl) {
+    return new NearCacheConfiguration(maxSizeBytes, maxTtl);
+  }
+}
@@ -0,0 +1,63 @@
+package momento.sdk.config;
+
+import static momento.sdk.ValidationUtils.ensureValidWriteCombiningBounds;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+
+/**
+ * Limits on how long list pushes and set adds are buffered before they are sent.
+ *
+ * <p>Calls to {@code listPushBack} for the same list, and calls to {@code setAddElement} for the
+ * same set, with the same TTL and truncation are collected into one buffer. The buffer is sent as a
+ * single {@code listConcatenateBack} or {@code setAddElements} once it holds {@link
+ * #getMaxElements()} elements or {@link #getMaxDelay()} after its first element, whichever is
+ * first. The pushes in one buffer are appended in the order they were made, but each buffer is
+ * sent without waiting for the previous buffer of the same list, so two buffers may be applied in
+ * either order. Callers that need a strict order across buffers should wait for each push before
+ * making the next.
+ *
+ * <p>Each call's future completes when its buffer's request does, with that request's outcome: an
+ * error fails every call in the buffer, and a list push reports the list's length after the whole
+ * buffer was appended. If {@link CollectionChunkingConfiguration collection chunking} splits a
+ * buffer into several requests and only some of them succeed, every call in the buffer gets an
+ * error, even though the elements of the chunks that succeeded were written. The error's message
+ * says how many chunks were applied. Buffering adds up to {@link #getMaxDelay()} to each call's
+ * latency, and buffered writes are sent when the client is closed.
+ */
+public class WriteCombiningConfiguration {
+
+  private final Duration maxDelay;
+  private final int maxElements;
+
+  /**
+   * Creates a write combining configuration.
+   *
+   * @param maxDelay the longest time a push or add waits in a buffer before it is sent. Must be
+   *     positive.
+   * @param maxElements the most elements to send in one request. Must be positive.
+   */
+  public WriteCombiningConfiguration(@Nonnull Duration maxDelay, int maxElements) {
+    ensureValidWriteCombiningBounds(maxDelay, maxElements);
+    this.maxDelay = maxDelay;
+    this.maxElements = maxElements;
+  }
+
+  /**
+   * The longest time a push or add waits in a buffer before it is sent.
+   *
+   * @return the maximum buffering delay
+   */
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  /**
+   * The most elements to send in one request.
+   *
+   * @return the maximum number of elements per buffer
+   */
+  public int getMaxElements() {
+    return maxElements;
+  }
+}
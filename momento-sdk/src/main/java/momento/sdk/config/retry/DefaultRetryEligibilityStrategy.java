@@ -0,0 +1,49 @@
+package momento.sdk.config.retry;
+
+import grpc.cache_client.ScsGrpc;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Retries idempotent requests that failed with a status indicating the server or the connection
+ * had a transient problem.
+ *
+ * <p>Requests whose effect depends on how many times they are applied, such as increment,
+ * listPushBack or listPopFront, are never retried, since the first attempt may have been applied
+ * before it failed. setIfNotExists is not retried either, because a retry of a write that did
+ * happen would report that the key already existed.
+ */
+public class DefaultRetryEligibilityStrategy implements RetryEligibilityStrategy {
+
+  private static final Set<Status.Code> RETRYABLE_STATUS_CODES =
+      EnumSet.of(Status.Code.UNAVAILABLE, Status.Code.INTERNAL);
+
+  private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>();
+
+  static {
+    IDEMPOTENT_METHODS.add(ScsGrpc.getGetMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getSetMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getDeleteMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getDictionaryFetchMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getDictionaryGetMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getDictionarySetMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getDictionaryDeleteMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getSetFetchMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getSetUnionMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getSetDifferenceMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getListFetchMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getListLengthMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getListRemoveMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getSortedSetPutMethod().getFullMethodName());
+    IDEMPOTENT_METHODS.add(ScsGrpc.getSortedSetFetchMethod().getFullMethodName());
+  }
+
+  @Override
+  public boolean isEligibleForRetry(Status status, MethodDescriptor<?, ?> method) {
+    return RETRYABLE_STATUS_CODES.contains(status.getCode())
+        && IDEMPOTENT_METHODS.contains(method.getFullMethodName());
+  }
+}
@@ -0,0 +1,143 @@
+package momento.sdk.config.retry;
+
+import static momento.sdk.ValidationUtils.ensureValidRetryBackoff;
+import static momento.sdk.ValidationUtils.ensureValidRetryMaxAttempts;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Retries eligible requests after an exponentially growing, randomized delay.
+ *
+ * <p>The delay before retry {@code n} is picked uniformly between zero and {@code initialDelay *
+ * 2^(n - 1)}, capped at {@code maxDelay}. Spreading retries over the whole interval keeps clients
+ * that failed together from retrying together.
+ */
+public class ExponentialBackoffRetryStrategy implements RetryStrategy {
+
+  private final int maxAttempts;
+  private final Duration initialDelay;
+  private final Duration maxDelay;
+  private final RetryEligibilityStrategy eligibilityStrategy;
+  @Nullable private final RetryBudget retryBudget;
+
+  /**
+   * Creates a strategy that retries the requests {@link DefaultRetryEligibilityStrategy} allows,
+   * without a retry budget.
+   *
+   * @param maxAttempts the maximum number of attempts per request, including the first. Must be
+   *     positive; 1 disables retries.
+   * @param initialDelay the upper bound of the delay before the first retry.
+   * @param maxDelay the upper bound of the delay before any retry.
+   */
+  public ExponentialBackoffRetryStrategy(
+      int maxAttempts, @Nonnull Duration initialDelay, @Nonnull Duration maxDelay) {
+    this(maxAttempts, initialDelay, maxDelay, new DefaultRetryEligibilityStrategy(), null);
+  }
+
+  private ExponentialBackoffRetryStrategy(
+      int maxAttempts,
+      Duration initialDelay,
+      Duration maxDelay,
+      RetryEligibilityStrategy eligibilityStrategy,
+      @Nullable RetryBudget retryBudget) {
+    ensureValidRetryMaxAttempts(maxAttempts);
+    ensureValidRetryBackoff(initialDelay, maxDelay);
+    this.maxAttempts = maxAttempts;
+    this.initialDelay = initialDelay;
+    this.maxDelay = maxDelay;
+    this.eligibilityStrategy = eligibilityStrategy;
+    this.retryBudget = retryBudget;
+  }
+
+  /**
+   * The maximum number of attempts per request, including the first.
+   *
+   * @return the maximum number of attempts
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * The upper bound of the delay before the first retry.
+   *
+   * @return the initial delay
+   */
+  public Duration getInitialDelay() {
+    return initialDelay;
+  }
+
+  /**
+   * The upper bound of the delay before any retry.
+   *
+   * @return the maximum delay
+   */
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  /**
+   * Decides which failures may be retried.
+   *
+   * @return the eligibility strategy
+   */
+  public RetryEligibilityStrategy getEligibilityStrategy() {
+    return eligibilityStrategy;
+  }
+
+  @Override
+  public Optional<RetryBudget> getRetryBudget() {
+    return Optional.ofNullable(retryBudget);
+  }
+
+  /**
+   * Copy constructor that updates which failures may be retried.
+   *
+   * @param eligibilityStrategy the new eligibility strategy.
+   * @return a new ExponentialBackoffRetryStrategy with the updated eligibility strategy.
+   */
+  public ExponentialBackoffRetryStrategy withEligibilityStrategy(
+      @Nonnull RetryEligibilityStrategy eligibilityStrategy) {
+    return new ExponentialBackoffRetryStrategy(
+        maxAttempts, initialDelay, maxDelay, eligibilityStrategy, retryBudget);
+  }
+
+  /**
+   * Copy constructor that updates the retry budget.
+   *
+   * @param retryBudget the new retry budget, or null to only limit retries by attempt count.
+   * @return a new ExponentialBackoffRetryStrategy with the updated retry budget.
+   */
+  public ExponentialBackoffRetryStrategy withRetryBudget(@Nullable RetryBudget retryBudget) {
+    return new ExponentialBackoffRetryStrategy(
+        maxAttempts, initialDelay, maxDelay, eligibilityStrategy, retryBudget);
+  }
+
+  @Override
+  public Optional<Duration> determineWhenToRetry(
+      Status status, MethodDescriptor<?, ?> method, int attemptNumber) {
+    if (attemptNumber >= maxAttempts || !eligibilityStrategy.isEligibleForRetry(status, method)) {
+      return Optional.empty();
+    }
+    final long delayNanos = ThreadLocalRandom.current().nextLong(backoffNanos(attemptNumber) + 1);
+    return Optional.of(Duration.ofNanos(delayNanos));
+  }
+
+  /** The upper bound of the delay after the given number of attempts. */
+  long backoffNanos(int attemptNumber) {
+    final long maxNanos = maxDelay.toNanos();
+    // Past 62 doublings any positive delay has overflowed, so the cap applies.
+    final int doublings = Math.min(attemptNumber - 1, 62);
+    final long initialNanos = initialDelay.toNanos();
+    if (initialNanos > (maxNanos >> doublings)) {
+      return maxNanos;
+    }
+    return initialNanos << doublings;
+  }
+}
@@ -0,0 +1,48 @@
+package momento.sdk.config.retry;
+
+import static momento.sdk.ValidationUtils.ensureValidRetryBudget;
+
+/**
+ * A token bucket that stops a client from retrying while most of its requests are failing, so
+ * that retries cannot multiply the load on a server that is already struggling.
+ *
+ * <p>The bucket starts full. Every failed attempt that could be retried removes a token, and every
+ * successful request adds {@link #getTokenRatio()} tokens, up to {@link #getMaxTokens()}. Retries
+ * are only sent while the bucket is more than half full. This is the scheme used by gRPC's retry
+ * throttling.
+ */
+public class RetryBudget {
+
+  private final int maxTokens;
+  private final double tokenRatio;
+
+  /**
+   * Creates a retry budget.
+   *
+   * @param maxTokens the size of the bucket. Must be positive.
+   * @param tokenRatio the number of tokens a successful request adds back. Must be positive.
+   */
+  public RetryBudget(int maxTokens, double tokenRatio) {
+    ensureValidRetryBudget(maxTokens, tokenRatio);
+    this.maxTokens = maxTokens;
+    this.tokenRatio = tokenRatio;
+  }
+
+  /**
+   * The size of the bucket.
+   *
+   * @return the maximum number of tokens
+   */
+  public int getMaxTokens() {
+    return maxTokens;
+  }
+
+  /**
+   * The number of tokens a successful request adds back.
+   *
+   * @return the token ratio
+   */
+  public double getTokenRatio() {
+    return tokenRatio;
+  }
+}
@@ -0,0 +1,17 @@
+package momento.sdk.config.retry;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/** Decides which failures are safe to retry. */
+public interface RetryEligibilityStrategy {
+
+  /**
+   * Determines whether a request that failed with the given status may be sent again.
+   *
+   * @param status the status the request failed with.
+   * @param method the gRPC method that was called.
+   * @return true if the request may be retried
+   */
+  boolean isEligibleForRetry(Status status, MethodDescriptor<?, ?> method);
+}
@@ -0,0 +1,35 @@
+package momento.sdk.config.retry;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Decides whether a failed request is sent again, and after how long.
+ *
+ * <p>Retries happen within the request's deadline: a retry is only sent if its delay ends before
+ * the deadline, and every attempt shares the same deadline.
+ */
+public interface RetryStrategy {
+
+  /**
+   * Determines whether to retry a failed request.
+   *
+   * @param status the status the last attempt failed with.
+   * @param method the gRPC method that was called.
+   * @param attemptNumber the number of attempts made so far, starting at 1.
+   * @return the delay before the next attempt, or empty if the failure should be returned.
+   */
+  Optional<Duration> determineWhenToRetry(
+      Status status, MethodDescriptor<?, ?> method, int attemptNumber);
+
+  /**
+   * The budget that limits how many retries a client sends, if there is one.
+   *
+   * @return the retry budget, or empty if retries are only limited by this strategy
+   */
+  default Optional<RetryBudget> getRetryBudget() {
+    return Optional.empty();
+  }
+}
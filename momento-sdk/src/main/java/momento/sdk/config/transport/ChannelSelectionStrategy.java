@@ -0,0 +1,13 @@
+package momento.sdk.config.transport;
+
+/** How the client picks one of its pooled gRPC channels for each data plane request. */
+public enum ChannelSelectionStrategy {
+  /** Rotate through the channels in order, regardless of their current load. */
+  ROUND_ROBIN,
+
+  /**
+   * Send each request on the channel with the fewest requests currently awaiting a response. Ties
+   * are broken in round-robin order.
+   */
+  LEAST_OUTSTANDING_REQUESTS
+}
@@ -1,18 +1,64 @@
 package momento.sdk.config.transport;
 
 import static momento.sdk.ValidationUtils.ensureRequestDeadlineValid;
+import static momento.sdk.ValidationUtils.ensureValidNumChannels;
 
+import io.grpc.ClientInterceptor;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.SharedTransportResources;
 
 /** Abstracts away the gRPC configuration tunables. */
 public class GrpcConfiguration {
 
+  private static final int DEFAULT_NUM_CHANNELS = 1;
+
   private final Duration deadline;
+  private final int numChannels;
+  private final ChannelSelectionStrategy channelSelectionStrategy;
+  private final boolean nativeTransportEnabled;
+  private final SharedTransportResources sharedTransportResources;
+  private final List<ClientInterceptor> clientInterceptors;
 
   public GrpcConfiguration(@Nonnull Duration deadline) {
+    this(deadline, DEFAULT_NUM_CHANNELS, ChannelSelectionStrategy.ROUND_ROBIN);
+  }
+
+  /**
+   * Creates a gRPC configuration with a pool of data plane channels.
+   *
+   * @param deadline the per-request deadline.
+   * @param numChannels the number of gRPC channels, and therefore HTTP/2 connections, the client
+   *     opens to the data plane.
+   * @param channelSelectionStrategy how a channel is picked from the pool for each request.
+   */
+  public GrpcConfiguration(
+      @Nonnull Duration deadline,
+      int numChannels,
+      @Nonnull ChannelSelectionStrategy channelSelectionStrategy) {
+    this(deadline, numChannels, channelSelectionStrategy, false, null, Collections.emptyList());
+  }
+
+  private GrpcConfiguration(
+      @Nonnull Duration deadline,
+      int numChannels,
+      @Nonnull ChannelSelectionStrategy channelSelectionStrategy,
+      boolean nativeTransportEnabled,
+      @Nullable SharedTransportResources sharedTransportResources,
+      @Nonnull List<ClientInterceptor> clientInterceptors) {
     ensureRequestDeadlineValid(deadline);
+    ensureValidNumChannels(numChannels);
     this.deadline = deadline;
+    this.numChannels = numChannels;
+    this.channelSelectionStrategy = channelSelectionStrategy;
+    this.nativeTransportEnabled = nativeTransportEnabled;
+    this.sharedTransportResources = sharedTransportResources;
+    this.clientInterceptors = clientInterceptors;
   }
 
   /**
@@ -25,7 +71,150 @@ public class GrpcConfiguration {
     return deadline;
   }
 
+  /**
+   * The number of gRPC channels the client keeps open to the data plane. Each channel is a separate
+   * HTTP/2 connection with its own concurrent stream limit.
+   *
+   * @return the number of channels
+   */
+  public int getNumChannels() {
+    return numChannels;
+  }
+
+  /**
+   * How the client picks a channel from the pool for each data plane request.
+   *
+   * @return the channel selection strategy
+   */
+  public ChannelSelectionStrategy getChannelSelectionStrategy() {
+    return channelSelectionStrategy;
+  }
+
+  /**
+   * Whether the client uses Netty's native epoll transport, when it is available, for its own event
+   * loops. Ignored when the client uses {@link #getSharedTransportResources() shared resources}.
+   *
+   * @return true if the native transport is preferred
+   */
+  public boolean isNativeTransportEnabled() {
+    return nativeTransportEnabled;
+  }
+
+  /**
+   * The event loop group and channel executor shared with other clients, if any.
+   *
+   * @return the shared transport resources, or empty if the client creates its own
+   */
+  public Optional<SharedTransportResources> getSharedTransportResources() {
+    return Optional.ofNullable(sharedTransportResources);
+  }
+
+  /**
+   * The interceptors installed on the client's data plane and control plane channels, in addition
+   * to the SDK's own.
+   *
+   * @return the client interceptors
+   */
+  public List<ClientInterceptor> getClientInterceptors() {
+    return clientInterceptors;
+  }
+
   public GrpcConfiguration withDeadline(Duration deadline) {
-    return new GrpcConfiguration(deadline);
+    return new GrpcConfiguration(
+        deadline,
+        numChannels,
+        channelSelectionStrategy,
+        nativeTransportEnabled,
+        sharedTransportResources,
+        clientInterceptors);
+  }
+
+  /**
+   * Copy constructor that updates the number of data plane channels.
+   *
+   * @param numChannels the new number of channels.
+   * @return a new GrpcConfiguration with the updated number of channels.
+   */
+  public GrpcConfiguration withNumChannels(int numChannels) {
+    return new GrpcConfiguration(
+        deadline,
+        numChannels,
+        channelSelectionStrategy,
+        nativeTransportEnabled,
+        sharedTransportResources,
+        clientInterceptors);
+  }
+
+  /**
+   * Copy constructor that updates the channel selection strategy.
+   *
+   * @param channelSelectionStrategy the new channel selection strategy.
+   * @return a new GrpcConfiguration with the updated channel selection strategy.
+   */
+  public GrpcConfiguration withChannelSelectionStrategy(
+      @Nonnull ChannelSelectionStrategy channelSelectionStrategy) {
+    return new GrpcConfiguration(
+        deadline,
+        numChannels,
+        channelSelectionStrategy,
+        nativeTransportEnabled,
+        sharedTransportResources,
+        clientInterceptors);
+  }
+
+  /**
+   * Copy constructor that turns the native epoll transport on or off. It is only available on
+   * Linux; elsewhere the NIO transport is used.
+   *
+   * @param nativeTransportEnabled whether the client's event loops should use epoll.
+   * @return a new GrpcConfiguration with the updated transport setting.
+   */
+  public GrpcConfiguration withNativeTransportEnabled(boolean nativeTransportEnabled) {
+    return new GrpcConfiguration(
+        deadline,
+        numChannels,
+        channelSelectionStrategy,
+        nativeTransportEnabled,
+        sharedTransportResources,
+        clientInterceptors);
+  }
+
+  /**
+   * Copy constructor that makes the client run its channels on shared event loops and a shared
+   * channel executor instead of creating its own.
+   *
+   * @param sharedTransportResources the resources to share, or null for the client to create its
+   *     own.
+   * @return a new GrpcConfiguration with the updated transport resources.
+   */
+  public GrpcConfiguration withSharedTransportResources(
+      @Nullable SharedTransportResources sharedTransportResources) {
+    return new GrpcConfiguration(
+        deadline,
+        numChannels,
+        channelSelectionStrategy,
+        nativeTransportEnabled,
+        sharedTransportResources,
+        clientInterceptors);
+  }
+
+  /**
+   * Copy constructor that updates the interceptors installed on the client's channels, such as an
+   * {@link momento.sdk.OpenTelemetryTracingInterceptor}. They see every gRPC request, including
+   * retries and hedges, with the cache name header already attached. No interceptors are installed
+   * by default.
+   *
+   * @param clientInterceptors the interceptors to install. The last one is called first.
+   * @return a new GrpcConfiguration with the updated interceptors.
+   */
+  public GrpcConfiguration withClientInterceptors(
+      @Nonnull List<ClientInterceptor> clientInterceptors) {
+    return new GrpcConfiguration(
+        deadline,
+        numChannels,
+        channelSelectionStrategy,
+        nativeTransportEnabled,
+        sharedTransportResources,
+        Collections.unmodifiableList(new ArrayList<>(clientInterceptors)));
   }
 }
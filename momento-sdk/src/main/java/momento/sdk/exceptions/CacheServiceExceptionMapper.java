@@ -41,9 +41,15 @@ public final class CacheServiceExceptionMapper {
       final StatusRuntimeException grpcException = (StatusRuntimeException) e;
       final Status.Code statusCode = grpcException.getStatus().getCode();
 
+      // The error gets its own copy, since the client shares request metadata between calls.
+      Metadata errorMetadata = null;
+      if (metadata != null) {
+        errorMetadata = new Metadata();
+        errorMetadata.merge(metadata);
+      }
       final MomentoTransportErrorDetails errorDetails =
           new MomentoTransportErrorDetails(
-              new MomentoGrpcErrorDetails(statusCode, grpcException.getMessage(), metadata));
+              new MomentoGrpcErrorDetails(statusCode, grpcException.getMessage(), errorMetadata));
 
       switch (statusCode) {
         case INVALID_ARGUMENT:
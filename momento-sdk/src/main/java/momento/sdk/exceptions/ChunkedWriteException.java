@@ -0,0 +1,65 @@
+package momento.sdk.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A collection write that was split into chunks was only partly applied. It has the error code of
+ * the first chunk that failed, which is also its cause.
+ *
+ * <p>See {@link momento.sdk.config.CollectionChunkingConfiguration}.
+ */
+public class ChunkedWriteException extends SdkException {
+
+  private final int chunkCount;
+  private final int appliedChunkCount;
+  private final List<SdkException> chunkErrors;
+
+  /**
+   * Constructs a ChunkedWriteException.
+   *
+   * @param chunkCount the number of chunks the write was split into.
+   * @param appliedChunkCount the number of chunks that were written.
+   * @param chunkErrors the errors of the chunks that failed. Must not be empty.
+   */
+  public ChunkedWriteException(
+      int chunkCount, int appliedChunkCount, List<SdkException> chunkErrors) {
+    super(
+        chunkErrors.get(0).getErrorCode(),
+        String.format(
+            "%d of %d chunks of the write were applied. The first failure was: %s",
+            appliedChunkCount, chunkCount, chunkErrors.get(0).getMessage()),
+        chunkErrors.get(0));
+    this.chunkCount = chunkCount;
+    this.appliedChunkCount = appliedChunkCount;
+    this.chunkErrors = Collections.unmodifiableList(chunkErrors);
+  }
+
+  /**
+   * The number of chunks the write was split into.
+   *
+   * @return the number of chunks
+   */
+  public int getChunkCount() {
+    return chunkCount;
+  }
+
+  /**
+   * The number of chunks that were written. The remaining chunks failed or, for list writes, were
+   * not sent because an earlier chunk failed.
+   *
+   * @return the number of applied chunks
+   */
+  public int getAppliedChunkCount() {
+    return appliedChunkCount;
+  }
+
+  /**
+   * The errors of the chunks that failed, in chunk order.
+   *
+   * @return the chunk errors
+   */
+  public List<SdkException> getChunkErrors() {
+    return chunkErrors;
+  }
+}
@@ -0,0 +1,18 @@
+package momento.sdk.exceptions;
+
+/**
+ * The request was not sent because recent requests to the server have mostly timed out or found
+ * it unavailable. It has the {@link MomentoErrorCode#SERVER_UNAVAILABLE} error code.
+ */
+public class CircuitBreakerOpenException extends ClientSdkException {
+
+  private static final String MESSAGE =
+      "Recent requests to the server timed out or found it unavailable, so the client's circuit"
+          + " breaker is open and the request was not sent. Requests will be sent again once the"
+          + " breaker's open duration has passed.";
+
+  /** Constructs a CircuitBreakerOpenException. */
+  public CircuitBreakerOpenException() {
+    super(MomentoErrorCode.SERVER_UNAVAILABLE, MESSAGE);
+  }
+}
@@ -0,0 +1,15 @@
+package momento.sdk.exceptions;
+
+/** The request was not sent because the client had reached its limit of requests in flight. */
+public class ClientResourceExhaustedException extends ClientSdkException {
+
+  private static final String MESSAGE =
+      "The client's concurrency limit was reached, so the request was not sent. The limit shrinks"
+          + " while the server is slow or throttling requests; reduce the request rate or retry"
+          + " later.";
+
+  /** Constructs a ClientResourceExhaustedException. */
+  public ClientResourceExhaustedException() {
+    super(MomentoErrorCode.CLIENT_RESOURCE_EXHAUSTED, MESSAGE);
+  }
+}
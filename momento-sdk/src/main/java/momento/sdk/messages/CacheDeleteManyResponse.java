@@ -0,0 +1,97 @@
+package momento.sdk.messages;
+
+import com.google.protobuf.ByteString;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import momento.sdk.exceptions.SdkException;
+
+/** Response for a cache delete many operation */
+public interface CacheDeleteManyResponse {
+
+  /**
+   * A delete many operation that sent every delete. Each key has its own {@link
+   * CacheDeleteResponse}, which may be a success or an error.
+   */
+  class Success implements CacheDeleteManyResponse {
+    private final List<ByteString> keys;
+    private final List<CacheDeleteResponse> results;
+
+    /**
+     * Constructs a cache delete many success.
+     *
+     * @param keys the keys that were deleted.
+     * @param results the response for each key, in the same order as the keys.
+     */
+    public Success(List<ByteString> keys, List<CacheDeleteResponse> results) {
+      this.keys = keys;
+      this.results = results;
+    }
+
+    /**
+     * Gets the response for each key, in the order the keys were given.
+     *
+     * @return the responses.
+     */
+    public List<CacheDeleteResponse> results() {
+      return results;
+    }
+
+    /**
+     * Gets the response for each key, keyed by the UTF-8 decoded key.
+     *
+     * @return the responses.
+     */
+    public Map<String, CacheDeleteResponse> resultsByKey() {
+      final Map<String, CacheDeleteResponse> resultsByKey = new LinkedHashMap<>();
+      for (int i = 0; i < keys.size(); i++) {
+        resultsByKey.put(keys.get(i).toString(StandardCharsets.UTF_8), results.get(i));
+      }
+      return resultsByKey;
+    }
+
+    /**
+     * Whether every delete succeeded.
+     *
+     * @return true if none of the responses is an error.
+     */
+    public boolean allSucceeded() {
+      for (CacheDeleteResponse result : results) {
+        if (result instanceof CacheDeleteResponse.Error) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      int errors = 0;
+      for (CacheDeleteResponse result : results) {
+        if (result instanceof CacheDeleteResponse.Error) {
+          errors++;
+        }
+      }
+      return super.toString() + ": successes: " + (results.size() - errors) + " errors: " + errors;
+    }
+  }
+
+  /**
+   * A failed delete many operation, for example because the request was invalid and no deletes
+   * were sent. The response itself is an exception, so it can be directly thrown, or the cause of
+   * the error can be retrieved with {@link #getCause()}. The message is a copy of the message of
+   * the cause.
+   */
+  class Error extends SdkException implements CacheDeleteManyResponse {
+
+    /**
+     * Constructs a cache delete many error with a cause.
+     *
+     * @param cause the cause.
+     */
+    public Error(SdkException cause) {
+      super(cause);
+    }
+  }
+}
@@ -2,19 +2,38 @@ package momento.sdk.messages;
 
 import com.google.protobuf.ByteString;
 import grpc.cache_client._DictionaryFieldValuePair;
+import java.util.AbstractMap;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import momento.sdk.exceptions.SdkException;
 import momento.sdk.internal.StringHelpers;
 
 /** Response for a dictionary fetch operation */
 public interface CacheDictionaryFetchResponse {
 
-  /** A successful dictionary fetch operation that found elements. */
+  /**
+   * A successful dictionary fetch operation that found elements.
+   *
+   * <p>The fields and values are kept as they were received and only decoded when they are read.
+   * Each {@code valueDictionary} call builds a new map that the caller may modify. To read the
+   * dictionary as strings more than once, {@link #valueDictionaryStringStringView} builds a
+   * read-only map on first use and then reuses it. To read a few fields, or to visit every field
+   * once, use {@link #valueString}, {@link #valueByteArray} or the {@code forEach} methods, which
+   * do not build a map at all.
+   */
   class Hit implements CacheDictionaryFetchResponse {
-    private final Map<ByteString, ByteString> byteStringKeysValues;
+    private static final int TO_STRING_ELEMENTS = 5;
+
+    private final List<_DictionaryFieldValuePair> items;
+    private volatile Map<String, String> stringStringView;
 
     /**
      * Constructs a dictionary fetch hit with a list of encoded keys and values.
@@ -22,11 +41,98 @@ public interface CacheDictionaryFetchResponse {
      * @param byteStringKeysValues the retrieved dictionary.
      */
     public Hit(List<_DictionaryFieldValuePair> byteStringKeysValues) {
-      this.byteStringKeysValues =
-          byteStringKeysValues.stream()
-              .collect(
-                  Collectors.toMap(
-                      _DictionaryFieldValuePair::getField, _DictionaryFieldValuePair::getValue));
+      this.items = byteStringKeysValues;
+    }
+
+    /**
+     * Gets the number of fields in the dictionary.
+     *
+     * @return the number of fields.
+     */
+    public int size() {
+      return items.size();
+    }
+
+    /**
+     * Gets the value of a single field, without building a map of the dictionary.
+     *
+     * @param field the UTF-8 field to look up.
+     * @return the field's value as a UTF-8 string, or empty if the dictionary does not have the
+     *     field.
+     */
+    public Optional<String> valueString(String field) {
+      final Map<String, String> view = stringStringView;
+      if (view != null) {
+        return Optional.ofNullable(view.get(field));
+      }
+      return find(ByteString.copyFromUtf8(field)).map(ByteString::toStringUtf8);
+    }
+
+    /**
+     * Gets the value of a single field, without building a map of the dictionary.
+     *
+     * @param field the field to look up.
+     * @return the field's value as a byte array, or empty if the dictionary does not have the
+     *     field.
+     */
+    public Optional<byte[]> valueByteArray(byte[] field) {
+      return find(ByteString.copyFrom(field)).map(ByteString::toByteArray);
+    }
+
+    private Optional<ByteString> find(ByteString field) {
+      // Scans from the end so that a repeated field resolves to its last value, as in the maps.
+      for (int i = items.size() - 1; i >= 0; i--) {
+        final _DictionaryFieldValuePair item = items.get(i);
+        if (item.getField().equals(field)) {
+          return Optional.of(item.getValue());
+        }
+      }
+      return Optional.empty();
+    }
+
+    /**
+     * Passes each field and value to the action as UTF-8 strings, in the order they were received.
+     *
+     * @param action the action to perform on each field and value.
+     */
+    public void forEachStringString(BiConsumer<String, String> action) {
+      for (_DictionaryFieldValuePair item : items) {
+        action.accept(item.getField().toStringUtf8(), item.getValue().toStringUtf8());
+      }
+    }
+
+    /**
+     * Passes each field and value to the action as byte arrays, in the order they were received.
+     *
+     * @param action the action to perform on each field and value.
+     */
+    public void forEachBytesBytes(BiConsumer<byte[], byte[]> action) {
+      for (_DictionaryFieldValuePair item : items) {
+        action.accept(item.getField().toByteArray(), item.getValue().toByteArray());
+      }
+    }
+
+    /**
+     * Gets an iterator over the fields and values as UTF-8 strings, in the order they were
+     * received. Each entry is decoded as the iterator reaches it.
+     *
+     * @return the iterator.
+     */
+    public Iterator<Map.Entry<String, String>> iteratorStringString() {
+      final Iterator<_DictionaryFieldValuePair> iterator = items.iterator();
+      return new Iterator<Map.Entry<String, String>>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+          final _DictionaryFieldValuePair item = iterator.next();
+          return new AbstractMap.SimpleImmutableEntry<>(
+              item.getField().toStringUtf8(), item.getValue().toStringUtf8());
+        }
+      };
     }
 
     /**
@@ -35,10 +141,9 @@ public interface CacheDictionaryFetchResponse {
      * @return the dictionary.
      */
     public Map<byte[], byte[]> valueDictionaryBytesBytes() {
-      return byteStringKeysValues.entrySet().stream()
-          .collect(
-              Collectors.toMap(
-                  entry -> entry.getKey().toByteArray(), entry -> entry.getValue().toByteArray()));
+      final Map<byte[], byte[]> dictionary = new HashMap<>(capacityFor(items.size()));
+      forEachBytesBytes(dictionary::put);
+      return dictionary;
     }
 
     /**
@@ -47,11 +152,31 @@ public interface CacheDictionaryFetchResponse {
      * @return the dictionary.
      */
     public Map<String, String> valueDictionaryStringString() {
-      return byteStringKeysValues.entrySet().stream()
-          .collect(
-              Collectors.toMap(
-                  entry -> entry.getKey().toStringUtf8(),
-                  entry -> entry.getValue().toStringUtf8()));
+      final Map<String, String> view = stringStringView;
+      if (view != null) {
+        return new HashMap<>(view);
+      }
+      final Map<String, String> dictionary = new HashMap<>(capacityFor(items.size()));
+      forEachStringString(dictionary::put);
+      return dictionary;
+    }
+
+    /**
+     * Gets the retrieved values as a read-only dictionary of UTF-8 string keys and values. The map
+     * is built on the first call and returned by later calls, so repeated reads decode the
+     * dictionary only once.
+     *
+     * @return the dictionary, which cannot be modified.
+     */
+    public Map<String, String> valueDictionaryStringStringView() {
+      Map<String, String> view = stringStringView;
+      if (view == null) {
+        final Map<String, String> dictionary = new HashMap<>(capacityFor(items.size()));
+        forEachStringString(dictionary::put);
+        view = Collections.unmodifiableMap(dictionary);
+        stringStringView = view;
+      }
+      return view;
     }
 
     /**
@@ -64,15 +189,16 @@ public interface CacheDictionaryFetchResponse {
     }
 
     /**
-     * Gets the retrieved value as a dictionary of UTF-8 String keys and byte array values
+     * Gets the retrieved value as a dictionary of UTF-8 String keys and byte array values.
      *
      * @return the dictionary.
      */
     public Map<String, byte[]> valueDictionaryStringBytes() {
-      return byteStringKeysValues.entrySet().stream()
-          .collect(
-              Collectors.toMap(
-                  entry -> entry.getKey().toStringUtf8(), entry -> entry.getValue().toByteArray()));
+      final Map<String, byte[]> dictionary = new HashMap<>(capacityFor(items.size()));
+      for (_DictionaryFieldValuePair item : items) {
+        dictionary.put(item.getField().toStringUtf8(), item.getValue().toByteArray());
+      }
+      return dictionary;
     }
 
     /**
@@ -81,60 +207,56 @@ public interface CacheDictionaryFetchResponse {
      * @return the dictionary.
      */
     public Map<byte[], String> valueDictionaryBytesString() {
-      return byteStringKeysValues.entrySet().stream()
-          .collect(
-              Collectors.toMap(
-                  entry -> entry.getKey().toByteArray(), entry -> entry.getValue().toStringUtf8()));
+      final Map<byte[], String> dictionary = new HashMap<>(capacityFor(items.size()));
+      for (_DictionaryFieldValuePair item : items) {
+        dictionary.put(item.getField().toByteArray(), item.getValue().toStringUtf8());
+      }
+      return dictionary;
+    }
+
+    private static int capacityFor(int size) {
+      return (int) (size / 0.75f) + 1;
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Truncates the internal fields to 20 characters to bound the size of the string.
+     * <p>Truncates the internal fields to 20 characters to bound the size of the string. Only the
+     * first few fields are decoded.
      */
     @Override
     public String toString() {
-      final String stringStringRepresentation =
-          valueDictionaryStringString().entrySet().stream()
-              .map(e -> e.getKey() + ":" + e.getValue())
-              .limit(5)
-              .map(StringHelpers::truncate)
-              .collect(Collectors.joining(", ", "\"", "\"..."));
-
-      final String bytesBytesRepresentation =
-          valueDictionaryBytesBytes().entrySet().stream()
-              .map(
-                  e ->
-                      Base64.getEncoder().encodeToString(e.getKey())
-                          + ":"
-                          + Base64.getEncoder().encodeToString(e.getValue()))
-              .limit(5)
-              .map(StringHelpers::truncate)
-              .collect(Collectors.joining(", ", "\"", "\"..."));
-
-      final String stringBytesRepresentation =
-          valueDictionaryStringBytes().entrySet().stream()
-              .map(e -> e.getKey() + ":" + Base64.getEncoder().encodeToString(e.getValue()))
-              .limit(5)
-              .map(StringHelpers::truncate)
-              .collect(Collectors.joining(", ", "\"", "\"..."));
-
-      final String bytesStringRepresentation =
-          valueDictionaryBytesString().entrySet().stream()
-              .map(e -> Base64.getEncoder().encodeToString(e.getKey()) + ":" + e.getValue())
-              .limit(5)
-              .map(StringHelpers::truncate)
-              .collect(Collectors.joining(", ", "\"", "\"..."));
-
+      final Base64.Encoder encoder = Base64.getEncoder();
       return super.toString()
           + ": valueStringString: "
-          + stringStringRepresentation
+          + preview(item -> item.getField().toStringUtf8() + ":" + item.getValue().toStringUtf8())
           + " valueByteBytes: "
-          + bytesBytesRepresentation
+          + preview(
+              item ->
+                  encoder.encodeToString(item.getField().toByteArray())
+                      + ":"
+                      + encoder.encodeToString(item.getValue().toByteArray()))
           + " valueStringBytes: "
-          + stringBytesRepresentation
+          + preview(
+              item ->
+                  item.getField().toStringUtf8()
+                      + ":"
+                      + encoder.encodeToString(item.getValue().toByteArray()))
           + " valueBytesString: "
-          + bytesStringRepresentation;
+          + preview(
+              item ->
+                  encoder.encodeToString(item.getField().toByteArray())
+                      + ":"
+                      + item.getValue().toStringUtf8());
+    }
+
+    private String preview(Function<_DictionaryFieldValuePair, String> format) {
+      final StringJoiner joiner = new StringJoiner(", ", "\"", "\"...");
+      final int count = Math.min(items.size(), TO_STRING_ELEMENTS);
+      for (int i = 0; i < count; i++) {
+        joiner.add(StringHelpers.truncate(format.apply(items.get(i))));
+      }
+      return joiner.toString();
     }
   }
 
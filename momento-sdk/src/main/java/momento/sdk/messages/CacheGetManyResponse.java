@@ -0,0 +1,127 @@
+package momento.sdk.messages;
+
+import com.google.protobuf.ByteString;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import momento.sdk.exceptions.SdkException;
+
+/** Response for a cache get many operation */
+public interface CacheGetManyResponse {
+
+  /**
+   * A get many operation that sent every get. Each key has its own {@link CacheGetResponse}, which
+   * may be a hit, a miss, or an error.
+   */
+  class Success implements CacheGetManyResponse {
+    private final List<ByteString> keys;
+    private final List<CacheGetResponse> results;
+
+    /**
+     * Constructs a cache get many success.
+     *
+     * @param keys the requested keys.
+     * @param results the response for each key, in the same order as the keys.
+     */
+    public Success(List<ByteString> keys, List<CacheGetResponse> results) {
+      this.keys = keys;
+      this.results = results;
+    }
+
+    /**
+     * Gets the response for each key, in the order the keys were given.
+     *
+     * @return the responses.
+     */
+    public List<CacheGetResponse> results() {
+      return results;
+    }
+
+    /**
+     * Gets the response for each key, keyed by the UTF-8 decoded key.
+     *
+     * @return the responses.
+     */
+    public Map<String, CacheGetResponse> resultsByKey() {
+      final Map<String, CacheGetResponse> resultsByKey = new LinkedHashMap<>();
+      for (int i = 0; i < keys.size(); i++) {
+        resultsByKey.put(keys.get(i).toString(StandardCharsets.UTF_8), results.get(i));
+      }
+      return resultsByKey;
+    }
+
+    /**
+     * Gets the values of the keys that were found, as UTF-8 {@link String}s keyed by the UTF-8
+     * decoded key.
+     *
+     * @return the values.
+     */
+    public Map<String, String> valueMapStringString() {
+      final Map<String, String> values = new LinkedHashMap<>();
+      for (int i = 0; i < keys.size(); i++) {
+        if (results.get(i) instanceof CacheGetResponse.Hit) {
+          values.put(
+              keys.get(i).toString(StandardCharsets.UTF_8),
+              ((CacheGetResponse.Hit) results.get(i)).valueString());
+        }
+      }
+      return values;
+    }
+
+    /**
+     * Gets the values of the keys that were found, as byte arrays keyed by the UTF-8 decoded key.
+     *
+     * @return the values.
+     */
+    public Map<String, byte[]> valueMapStringByteArray() {
+      final Map<String, byte[]> values = new LinkedHashMap<>();
+      for (int i = 0; i < keys.size(); i++) {
+        if (results.get(i) instanceof CacheGetResponse.Hit) {
+          values.put(
+              keys.get(i).toString(StandardCharsets.UTF_8),
+              ((CacheGetResponse.Hit) results.get(i)).valueByteArray());
+        }
+      }
+      return values;
+    }
+
+    @Override
+    public String toString() {
+      int hits = 0;
+      int misses = 0;
+      for (CacheGetResponse result : results) {
+        if (result instanceof CacheGetResponse.Hit) {
+          hits++;
+        } else if (result instanceof CacheGetResponse.Miss) {
+          misses++;
+        }
+      }
+      return super.toString()
+          + ": hits: "
+          + hits
+          + " misses: "
+          + misses
+          + " errors: "
+          + (results.size() - hits - misses);
+    }
+  }
+
+  /**
+   * A failed get many operation, for example because the request was invalid and no gets were
+   * sent. The response itself is an exception, so it can be directly thrown, or the cause of the
+   * error can be retrieved with {@link #getCause()}. The message is a copy of the message of the
+   * cause.
+   */
+  class Error extends SdkException implements CacheGetManyResponse {
+
+    /**
+     * Constructs a cache get many error with a cause.
+     *
+     * @param cause the cause.
+     */
+    public Error(SdkException cause) {
+      super(cause);
+    }
+  }
+}
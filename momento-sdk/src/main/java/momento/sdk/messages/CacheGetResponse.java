@@ -1,8 +1,15 @@
 package momento.sdk.messages;
 
 import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import momento.sdk.exceptions.InvalidArgumentException;
 import momento.sdk.exceptions.SdkException;
 import momento.sdk.internal.StringHelpers;
 
@@ -49,6 +56,64 @@ public interface CacheGetResponse {
       return valueString();
     }
 
+    /**
+     * Gets the retrieved value as a read-only {@link ByteBuffer} that shares memory with the
+     * response, so no copy is made.
+     *
+     * @return the value.
+     */
+    public ByteBuffer valueByteBuffer() {
+      return value.asReadOnlyByteBuffer();
+    }
+
+    /**
+     * Gets an {@link InputStream} that reads the retrieved value without copying it first.
+     *
+     * @return a stream over the value.
+     */
+    public InputStream valueInputStream() {
+      return value.newInput();
+    }
+
+    /**
+     * Gets the size of the retrieved value in bytes.
+     *
+     * @return the length of the value.
+     */
+    public int valueLength() {
+      return value.size();
+    }
+
+    /**
+     * Writes the retrieved value to the stream without making an intermediate copy.
+     *
+     * @param outputStream the stream to write to.
+     * @throws IOException if the stream fails to write.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+      value.writeTo(outputStream);
+    }
+
+    /**
+     * Writes the retrieved value to the channel without making an intermediate copy. Returns once
+     * every byte has been written. The channel must be in blocking mode: a non-blocking channel
+     * could accept only part of the value, and there is no way to resume the write later.
+     *
+     * @param channel the channel to write to.
+     * @throws InvalidArgumentException if the channel is in non-blocking mode.
+     * @throws IOException if the channel fails to write.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+      if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+        throw new InvalidArgumentException("The channel must be in blocking mode.");
+      }
+      for (ByteBuffer buffer : value.asReadOnlyByteBufferList()) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -23,6 +23,15 @@ public interface CacheListFetchResponse {
       this.byteStringValues = values;
     }
 
+    /**
+     * Gets the number of values retrieved.
+     *
+     * @return the number of values.
+     */
+    public int size() {
+      return byteStringValues.size();
+    }
+
     /**
      * Gets the retrieved values as a list of byte arrays.
      *
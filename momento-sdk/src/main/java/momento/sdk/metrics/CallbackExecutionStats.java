@@ -0,0 +1,71 @@
+package momento.sdk.metrics;
+
+import java.time.Duration;
+
+/**
+ * A point-in-time snapshot of how long the client's response callbacks have taken to run.
+ *
+ * <p>When responses are completed directly on gRPC threads, which is the default, this time
+ * includes every continuation chained on the returned futures without an executor, and a large
+ * maximum points at a continuation that is holding up response delivery for other requests. See
+ * {@link momento.sdk.config.Configuration#withCompletionExecutor}.
+ */
+public class CallbackExecutionStats {
+
+  private final long callbackCount;
+  private final long totalNanos;
+  private final long maxNanos;
+
+  public CallbackExecutionStats(long callbackCount, long totalNanos, long maxNanos) {
+    this.callbackCount = callbackCount;
+    this.totalNanos = totalNanos;
+    this.maxNanos = maxNanos;
+  }
+
+  /**
+   * The number of callbacks that have run.
+   *
+   * @return the callback count
+   */
+  public long getCallbackCount() {
+    return callbackCount;
+  }
+
+  /**
+   * The time spent running all callbacks.
+   *
+   * @return the total time
+   */
+  public Duration getTotalTime() {
+    return Duration.ofNanos(totalNanos);
+  }
+
+  /**
+   * The mean time spent running a callback, or zero if none have run.
+   *
+   * @return the mean time
+   */
+  public Duration getMeanTime() {
+    return callbackCount == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / callbackCount);
+  }
+
+  /**
+   * The longest time spent running a single callback.
+   *
+   * @return the maximum time
+   */
+  public Duration getMaxTime() {
+    return Duration.ofNanos(maxNanos);
+  }
+
+  @Override
+  public String toString() {
+    return super.toString()
+        + ": callbackCount: "
+        + callbackCount
+        + " totalTime: "
+        + getTotalTime()
+        + " maxTime: "
+        + getMaxTime();
+  }
+}
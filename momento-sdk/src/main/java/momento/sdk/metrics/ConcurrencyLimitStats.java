@@ -0,0 +1,56 @@
+package momento.sdk.metrics;
+
+/**
+ * A point-in-time snapshot of the client's adaptive concurrency limit. See {@link
+ * momento.sdk.config.Configuration#withConcurrencyLimit}.
+ */
+public class ConcurrencyLimitStats {
+
+  private final int limit;
+  private final int inFlightCount;
+  private final long rejectedCount;
+
+  public ConcurrencyLimitStats(int limit, int inFlightCount, long rejectedCount) {
+    this.limit = limit;
+    this.inFlightCount = inFlightCount;
+    this.rejectedCount = rejectedCount;
+  }
+
+  /**
+   * The number of requests the client currently allows in flight.
+   *
+   * @return the current limit
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * The number of requests in flight.
+   *
+   * @return the in-flight count
+   */
+  public int getInFlightCount() {
+    return inFlightCount;
+  }
+
+  /**
+   * The number of requests that were rejected because the limit had been reached.
+   *
+   * @return the rejected count
+   */
+  public long getRejectedCount() {
+    return rejectedCount;
+  }
+
+  @Override
+  public String toString() {
+    return super.toString()
+        + ": limit: "
+        + limit
+        + " inFlightCount: "
+        + inFlightCount
+        + " rejectedCount: "
+        + rejectedCount;
+  }
+}
@@ -0,0 +1,101 @@
+package momento.sdk.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.MomentoErrorCode;
+
+/**
+ * A {@link MetricsRecorder} that keeps a latency histogram and counters for each operation in
+ * memory. Recording takes a few atomic increments and does not allocate; {@link #snapshot()}
+ * copies the current values for reporting.
+ */
+public class HistogramMetricsRecorder implements MetricsRecorder {
+
+  private final ConcurrentHashMap<String, OperationRecorder> operations = new ConcurrentHashMap<>();
+
+  @Override
+  public void onRequestStarted(String operation) {
+    recorderFor(operation).inFlight.incrementAndGet();
+  }
+
+  @Override
+  public void onRequestCompleted(
+      String operation,
+      long latencyNanos,
+      int requestBytes,
+      int responseBytes,
+      RequestResult result,
+      @Nullable MomentoErrorCode errorCode) {
+    final OperationRecorder recorder = recorderFor(operation);
+    recorder.inFlight.decrementAndGet();
+    recorder.latencyNanos.record(latencyNanos);
+    recorder.requestBytes.add(requestBytes);
+    recorder.responseBytes.add(responseBytes);
+    recorder.results.get(result).increment();
+    if (errorCode != null) {
+      recorder.errors.get(errorCode).increment();
+    }
+  }
+
+  /**
+   * Copies the current metrics of every operation that has been recorded.
+   *
+   * @return the metrics, keyed by operation name
+   */
+  public Map<String, OperationMetrics> snapshot() {
+    final Map<String, OperationMetrics> snapshot = new HashMap<>();
+    operations.forEach((operation, recorder) -> snapshot.put(operation, recorder.snapshot()));
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  private OperationRecorder recorderFor(String operation) {
+    final OperationRecorder recorder = operations.get(operation);
+    return recorder != null
+        ? recorder
+        : operations.computeIfAbsent(operation, o -> new OperationRecorder());
+  }
+
+  private static final class OperationRecorder {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LatencyHistogram latencyNanos = new LatencyHistogram();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final Map<RequestResult, LongAdder> results = new EnumMap<>(RequestResult.class);
+    private final Map<MomentoErrorCode, LongAdder> errors = new EnumMap<>(MomentoErrorCode.class);
+
+    private OperationRecorder() {
+      for (RequestResult result : RequestResult.values()) {
+        results.put(result, new LongAdder());
+      }
+      for (MomentoErrorCode errorCode : MomentoErrorCode.values()) {
+        errors.put(errorCode, new LongAdder());
+      }
+    }
+
+    private OperationMetrics snapshot() {
+      final Map<RequestResult, Long> resultCounts = new EnumMap<>(RequestResult.class);
+      results.forEach((result, count) -> resultCounts.put(result, count.sum()));
+      final Map<MomentoErrorCode, Long> errorCounts = new EnumMap<>(MomentoErrorCode.class);
+      errors.forEach(
+          (errorCode, count) -> {
+            final long sum = count.sum();
+            if (sum > 0) {
+              errorCounts.put(errorCode, sum);
+            }
+          });
+      return new OperationMetrics(
+          latencyNanos.snapshot(),
+          inFlight.get(),
+          requestBytes.sum(),
+          responseBytes.sum(),
+          resultCounts,
+          errorCounts);
+    }
+  }
+}
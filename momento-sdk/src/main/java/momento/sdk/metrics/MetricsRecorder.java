@@ -0,0 +1,43 @@
+package momento.sdk.metrics;
+
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.MomentoErrorCode;
+
+/**
+ * Receives a measurement for every data plane request a client makes. Set one with {@link
+ * momento.sdk.config.Configuration#withMetricsRecorder}.
+ *
+ * <p>Operations are named after the gRPC method that serves them, such as {@code "Get"} or {@code
+ * "DictionaryGet"}, so dictionaryGetField and dictionaryGetFields share a name. A request is
+ * reported once, however many times it was retried or hedged. Methods are called on the threads
+ * that send requests and deliver responses, before the returned future completes, so
+ * implementations must be thread-safe and must not block. {@link HistogramMetricsRecorder} keeps
+ * latency histograms in memory at low overhead.
+ */
+public interface MetricsRecorder {
+
+  /**
+   * Called when a request is made, before it is sent.
+   *
+   * @param operation the name of the operation.
+   */
+  void onRequestStarted(String operation);
+
+  /**
+   * Called when a request completes.
+   *
+   * @param operation the name of the operation.
+   * @param latencyNanos the time from the request being made to its response arriving.
+   * @param requestBytes the serialized size of the request.
+   * @param responseBytes the serialized size of the response, or 0 if the request failed.
+   * @param result how the request completed.
+   * @param errorCode the error code if the request failed, otherwise null.
+   */
+  void onRequestCompleted(
+      String operation,
+      long latencyNanos,
+      int requestBytes,
+      int responseBytes,
+      RequestResult result,
+      @Nullable MomentoErrorCode errorCode);
+}
@@ -0,0 +1,91 @@
+package momento.sdk.metrics;
+
+/** A point-in-time snapshot of the near cache's counters. */
+public class NearCacheStats {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long entryCount;
+  private final long sizeBytes;
+
+  public NearCacheStats(
+      long hitCount, long missCount, long evictionCount, long entryCount, long sizeBytes) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.entryCount = entryCount;
+    this.sizeBytes = sizeBytes;
+  }
+
+  /**
+   * The number of gets that were answered from the near cache.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * The number of gets that had to go to the server.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * The fraction of gets that were answered from the near cache, or 0 if there have been none.
+   *
+   * @return the hit rate
+   */
+  public double getHitRate() {
+    final long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+  }
+
+  /**
+   * The number of items that were removed, or not admitted, to keep the near cache within its size
+   * bound. Expirations and invalidations are not counted.
+   *
+   * @return the eviction count
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * The number of items currently held.
+   *
+   * @return the entry count
+   */
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * The approximate number of bytes currently held.
+   *
+   * @return the size in bytes
+   */
+  public long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  @Override
+  public String toString() {
+    return super.toString()
+        + ": hitCount: "
+        + hitCount
+        + " missCount: "
+        + missCount
+        + " evictionCount: "
+        + evictionCount
+        + " entryCount: "
+        + entryCount
+        + " sizeBytes: "
+        + sizeBytes;
+  }
+}
@@ -0,0 +1,148 @@
+package momento.sdk.metrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import momento.sdk.exceptions.MomentoErrorCode;
+
+/** A point-in-time snapshot of one operation's metrics, from {@link HistogramMetricsRecorder}. */
+public class OperationMetrics {
+
+  private final long[] latencyCounts;
+  private final long requestCount;
+  private final int inFlightCount;
+  private final long requestBytes;
+  private final long responseBytes;
+  private final Map<RequestResult, Long> resultCounts;
+  private final Map<MomentoErrorCode, Long> errorCounts;
+
+  OperationMetrics(
+      long[] latencyCounts,
+      int inFlightCount,
+      long requestBytes,
+      long responseBytes,
+      Map<RequestResult, Long> resultCounts,
+      Map<MomentoErrorCode, Long> errorCounts) {
+    this.latencyCounts = latencyCounts;
+    long requestCount = 0;
+    for (long count : latencyCounts) {
+      requestCount += count;
+    }
+    this.requestCount = requestCount;
+    this.inFlightCount = inFlightCount;
+    this.requestBytes = requestBytes;
+    this.responseBytes = responseBytes;
+    this.resultCounts = Collections.unmodifiableMap(resultCounts);
+    this.errorCounts = Collections.unmodifiableMap(errorCounts);
+  }
+
+  /**
+   * The number of requests that have completed.
+   *
+   * @return the request count
+   */
+  public long getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * The number of requests that had been made but had not completed.
+   *
+   * @return the in-flight count
+   */
+  public int getInFlightCount() {
+    return inFlightCount;
+  }
+
+  /**
+   * The total serialized size of the requests that have completed.
+   *
+   * @return the request bytes
+   */
+  public long getRequestBytes() {
+    return requestBytes;
+  }
+
+  /**
+   * The total serialized size of the responses received.
+   *
+   * @return the response bytes
+   */
+  public long getResponseBytes() {
+    return responseBytes;
+  }
+
+  /**
+   * The latency at the given percentile, to within about 3%, or zero if no requests have
+   * completed.
+   *
+   * @param percentile the percentile, such as 99.9. Must be between 0 and 100.
+   * @return the latency
+   */
+  public Duration getLatencyPercentile(double percentile) {
+    if (requestCount == 0) {
+      return Duration.ZERO;
+    }
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * requestCount));
+    long seen = 0;
+    for (int i = 0; i < latencyCounts.length; i++) {
+      seen += latencyCounts[i];
+      if (seen >= rank) {
+        return Duration.ofNanos(LatencyHistogram.highestValueAt(i));
+      }
+    }
+    return getMaxLatency();
+  }
+
+  /**
+   * The highest latency recorded, to within about 3%, or zero if no requests have completed.
+   *
+   * @return the maximum latency
+   */
+  public Duration getMaxLatency() {
+    for (int i = latencyCounts.length - 1; i >= 0; i--) {
+      if (latencyCounts[i] > 0) {
+        return Duration.ofNanos(LatencyHistogram.highestValueAt(i));
+      }
+    }
+    return Duration.ZERO;
+  }
+
+  /**
+   * The number of requests that completed with the given result.
+   *
+   * @param result the result.
+   * @return the count
+   */
+  public long getResultCount(RequestResult result) {
+    return resultCounts.getOrDefault(result, 0L);
+  }
+
+  /**
+   * The number of failed requests, by error code. Error codes that have not occurred are absent.
+   *
+   * @return the error counts
+   */
+  public Map<MomentoErrorCode, Long> getErrorCounts() {
+    return errorCounts;
+  }
+
+  @Override
+  public String toString() {
+    return super.toString()
+        + ": requestCount: "
+        + requestCount
+        + " inFlightCount: "
+        + inFlightCount
+        + " p50: "
+        + getLatencyPercentile(50)
+        + " p99: "
+        + getLatencyPercentile(99)
+        + " max: "
+        + getMaxLatency()
+        + " results: "
+        + resultCounts
+        + " errors: "
+        + errorCounts;
+  }
+}
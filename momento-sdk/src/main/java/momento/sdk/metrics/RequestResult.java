@@ -0,0 +1,16 @@
+package momento.sdk.metrics;
+
+/** How a data plane request completed, as reported to a {@link MetricsRecorder}. */
+public enum RequestResult {
+  /** A read found the item or collection. */
+  HIT,
+
+  /** A read did not find the item or collection. */
+  MISS,
+
+  /** A request that is not a read succeeded. */
+  SUCCESS,
+
+  /** The request failed. */
+  ERROR,
+}
@@ -0,0 +1,52 @@
+package momento.sdk.requests;
+
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.ValidationUtils;
+
+/**
+ * Per-call options that override the client's {@link momento.sdk.config.Configuration} for a single
+ * request. For example, a latency-critical get can use a short deadline so it fails fast, while
+ * bulk writes made through the same client keep the configured deadline.
+ */
+public class RequestOptions {
+  private static final RequestOptions DEFAULTS = new RequestOptions(null);
+
+  private final Duration deadline;
+
+  private RequestOptions(@Nullable Duration deadline) {
+    this.deadline = deadline;
+  }
+
+  /**
+   * Options that do not override anything; the request uses the client's configuration.
+   *
+   * @return RequestOptions
+   */
+  public static RequestOptions defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Copies the RequestOptions, but the request will use the given deadline instead of the one from
+   * the client's {@link momento.sdk.config.transport.GrpcConfiguration}.
+   *
+   * @param deadline how long to wait for the request to complete. Must be positive.
+   * @return RequestOptions
+   */
+  public RequestOptions withDeadline(@Nonnull Duration deadline) {
+    ValidationUtils.ensureRequestDeadlineValid(deadline);
+    return new RequestOptions(deadline);
+  }
+
+  /**
+   * The deadline override, if one was set.
+   *
+   * @return the deadline, or empty if the configured deadline should be used.
+   */
+  public Optional<Duration> getDeadline() {
+    return Optional.ofNullable(deadline);
+  }
+}
@@ -0,0 +1,94 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import momento.sdk.config.CircuitBreakerConfiguration;
+import momento.sdk.exceptions.CircuitBreakerOpenException;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final CircuitBreaker circuitBreaker =
+      new CircuitBreaker(
+          new CircuitBreakerConfiguration(0.5, 4, Duration.ofMinutes(1), Duration.ofMillis(100))
+              .withTrialRequests(1));
+
+  @Test
+  public void opensOnOutagesAndClosesAfterASuccessfulTrial() throws InterruptedException {
+    complete(null);
+    complete(null);
+    complete(Status.NOT_FOUND);
+    assertThat(isRejected()).isFalse();
+    complete(Status.UNAVAILABLE);
+    complete(Status.DEADLINE_EXCEEDED);
+    assertThat(isRejected()).isFalse();
+    complete(Status.UNAVAILABLE);
+    assertThat(isRejected()).isTrue();
+
+    Thread.sleep(150);
+    final SettableFuture<String> trial = SettableFuture.create();
+    circuitBreaker.send(() -> trial);
+    assertThat(isRejected()).isTrue();
+    trial.set("done");
+    assertThat(isRejected()).isFalse();
+  }
+
+  @Test
+  public void reopensWhenATrialFails() throws InterruptedException {
+    for (int i = 0; i < 4; i++) {
+      complete(Status.UNAVAILABLE);
+    }
+    Thread.sleep(150);
+    complete(Status.UNAVAILABLE);
+    assertThat(isRejected()).isTrue();
+  }
+
+  @Test
+  public void releasesTheTrialWhenSendingItThrows() throws InterruptedException {
+    for (int i = 0; i < 4; i++) {
+      complete(Status.UNAVAILABLE);
+    }
+    Thread.sleep(150);
+
+    final ListenableFuture<String> trial =
+        circuitBreaker.send(
+            () -> {
+              throw new IllegalStateException("The channel is shut down");
+            });
+
+    assertThat(trial)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(IllegalStateException.class);
+    assertThat(isRejected()).isFalse();
+  }
+
+  private void complete(Status status) {
+    final SettableFuture<String> request = SettableFuture.create();
+    circuitBreaker.send(() -> request);
+    if (status == null) {
+      request.set("done");
+    } else {
+      request.setException(status.asRuntimeException());
+    }
+  }
+
+  private boolean isRejected() {
+    final ListenableFuture<String> request = circuitBreaker.send(SettableFuture::create);
+    if (!request.isDone()) {
+      request.cancel(false);
+      return false;
+    }
+    try {
+      request.get();
+      return false;
+    } catch (ExecutionException | InterruptedException e) {
+      return e.getCause() instanceof CircuitBreakerOpenException;
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import momento.sdk.config.CollectionChunkingConfiguration;
+import momento.sdk.exceptions.ChunkedWriteException;
+import momento.sdk.exceptions.InvalidArgumentException;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.exceptions.ServerUnavailableException;
+import org.junit.jupiter.api.Test;
+
+class CollectionChunkerTest {
+
+  @Test
+  public void keepsAWriteWithinBoundsWhole() {
+    final List<String> elements = Arrays.asList("a", "b", "c");
+    final CollectionChunker chunker =
+        new CollectionChunker(new CollectionChunkingConfiguration(3, 100));
+
+    final List<List<String>> chunks = chunker.split(elements, String::length);
+
+    assertThat(chunks).hasSize(1);
+    assertThat(chunks.get(0)).isSameAs(elements);
+  }
+
+  @Test
+  public void splitsByElementCount() {
+    final CollectionChunker chunker =
+        new CollectionChunker(new CollectionChunkingConfiguration(2, 100));
+
+    assertThat(chunker.split(Arrays.asList("a", "b", "c", "d", "e"), String::length))
+        .containsExactly(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Arrays.asList("e"));
+  }
+
+  @Test
+  public void splitsByBytesAndIsolatesOversizedElements() {
+    final CollectionChunker chunker =
+        new CollectionChunker(new CollectionChunkingConfiguration(100, 4));
+
+    assertThat(chunker.split(Arrays.asList("ab", "cd", "e", "fghijk", "l"), String::length))
+        .containsExactly(
+            Arrays.asList("ab", "cd"),
+            Arrays.asList("e"),
+            Arrays.asList("fghijk"),
+            Arrays.asList("l"));
+  }
+
+  @Test
+  public void rejectsNonPositiveBounds() {
+    assertThatThrownBy(() -> new CollectionChunkingConfiguration(0, 100))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThatThrownBy(() -> new CollectionChunkingConfiguration(100, 0))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @Test
+  public void reportsHowMuchOfAChunkedWriteWasApplied() {
+    final ServerUnavailableException failure =
+        new ServerUnavailableException(new RuntimeException("unavailable"), null);
+
+    final ChunkedWriteException exception =
+        new ChunkedWriteException(4, 3, Collections.singletonList(failure));
+
+    assertThat(exception.getErrorCode()).isEqualTo(MomentoErrorCode.SERVER_UNAVAILABLE);
+    assertThat(exception.getChunkCount()).isEqualTo(4);
+    assertThat(exception.getAppliedChunkCount()).isEqualTo(3);
+    assertThat(exception.getChunkErrors()).containsExactly(failure);
+    assertThat(exception.getMessage()).startsWith("3 of 4 chunks of the write were applied.");
+  }
+}
@@ -0,0 +1,57 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import momento.sdk.config.ConcurrencyLimitConfiguration;
+import momento.sdk.exceptions.ClientResourceExhaustedException;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+
+  @Test
+  public void rejectsRequestsOverTheLimit() {
+    final ConcurrencyLimiter limiter =
+        new ConcurrencyLimiter(new ConcurrencyLimitConfiguration(2, 1, 10));
+    final SettableFuture<String> first = SettableFuture.create();
+    limiter.send(() -> first);
+    limiter.send(SettableFuture::create);
+
+    final ListenableFuture<String> rejected = limiter.send(SettableFuture::create);
+    assertThat(rejected)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(ClientResourceExhaustedException.class);
+    assertThat(limiter.stats().getRejectedCount()).isEqualTo(1);
+
+    first.set("done");
+    assertThat(limiter.stats().getInFlightCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shrinksWhenThrottledAndGrowsWhenBusy() {
+    final ConcurrencyLimiter limiter =
+        new ConcurrencyLimiter(new ConcurrencyLimitConfiguration(10, 1, 20).withBackoffRatio(0.5));
+    final SettableFuture<String> throttled = SettableFuture.create();
+    limiter.send(() -> throttled);
+    throttled.setException(Status.RESOURCE_EXHAUSTED.asRuntimeException());
+    assertThat(limiter.stats().getLimit()).isEqualTo(5);
+
+    for (int i = 0; i < 20; i++) {
+      final SettableFuture<String> first = SettableFuture.create();
+      final SettableFuture<String> second = SettableFuture.create();
+      final SettableFuture<String> third = SettableFuture.create();
+      limiter.send(() -> first);
+      limiter.send(() -> second);
+      limiter.send(() -> third);
+      first.set("done");
+      second.set("done");
+      third.set("done");
+    }
+    assertThat(limiter.stats().getLimit()).isGreaterThan(5);
+  }
+}
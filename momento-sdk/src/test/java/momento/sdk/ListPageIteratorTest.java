@@ -0,0 +1,108 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.exceptions.ServerUnavailableException;
+import momento.sdk.messages.CacheListFetchResponse;
+import org.junit.jupiter.api.Test;
+
+class ListPageIteratorTest {
+
+  private final List<ByteString> list = new ArrayList<>();
+  private final List<int[]> requestedWindows = new ArrayList<>();
+
+  private final BiFunction<Integer, Integer, CompletableFuture<CacheListFetchResponse>> fetchPage =
+      (start, end) -> {
+        requestedWindows.add(new int[] {start, end});
+        final List<ByteString> page =
+            new ArrayList<>(list.subList(Math.min(start, list.size()), Math.min(end, list.size())));
+        return CompletableFuture.completedFuture(new CacheListFetchResponse.Hit(page));
+      };
+
+  @Test
+  public void readsTheWholeListInPages() {
+    addElements(10);
+
+    final List<String> values = new ArrayList<>();
+    final ListPageIterator pages = new ListPageIterator(fetchPage, 0, null, 4, 1);
+    pages.forEachRemaining(page -> values.addAll(page.valueListString()));
+
+    assertThat(values).hasSize(10).startsWith("0", "1").endsWith("9");
+    // Two full pages, the short page that ends the list, and one page prefetched past it.
+    assertThat(requestedWindows).hasSize(4);
+  }
+
+  @Test
+  public void keepsAtMostThePrefetchedPagesInFlight() {
+    addElements(20);
+
+    final ListPageIterator pages = new ListPageIterator(fetchPage, 0, null, 4, 1);
+    assertThat(requestedWindows).hasSize(2);
+
+    // While the caller reads a page, only the one after it has been requested.
+    pages.next();
+    assertThat(requestedWindows).hasSize(2);
+    pages.next();
+    assertThat(requestedWindows).hasSize(3);
+    assertThat(requestedWindows.get(2)).containsExactly(8, 12);
+  }
+
+  @Test
+  public void stopsAtTheEndIndex() {
+    addElements(10);
+
+    final List<String> values = new ArrayList<>();
+    new ListPageIterator(fetchPage, 2, 7, 2, 5)
+        .forEachRemaining(page -> values.addAll(page.valueListString()));
+
+    assertThat(values).containsExactly("2", "3", "4", "5", "6");
+    assertThat(requestedWindows).hasSize(3);
+    assertThat(requestedWindows.get(2)).containsExactly(6, 7);
+  }
+
+  @Test
+  public void hasNoPagesForAMissingList() {
+    final ListPageIterator pages =
+        new ListPageIterator(
+            (start, end) -> CompletableFuture.completedFuture(new CacheListFetchResponse.Miss()),
+            0,
+            null,
+            10,
+            2);
+
+    assertThat(pages.hasNext()).isFalse();
+  }
+
+  @Test
+  public void throwsTheErrorOfAFailedPage() {
+    final ListPageIterator pages =
+        new ListPageIterator(
+            (start, end) ->
+                CompletableFuture.completedFuture(
+                    new CacheListFetchResponse.Error(
+                        new ServerUnavailableException(new RuntimeException(), null))),
+            0,
+            null,
+            10,
+            0);
+
+    assertThatThrownBy(pages::hasNext)
+        .isInstanceOf(CacheListFetchResponse.Error.class)
+        .extracting("errorCode")
+        .isEqualTo(MomentoErrorCode.SERVER_UNAVAILABLE);
+    assertThat(pages.hasNext()).isFalse();
+  }
+
+  private void addElements(int count) {
+    for (int i = 0; i < count; i++) {
+      list.add(ByteString.copyFromUtf8(Integer.toString(i)));
+    }
+  }
+}
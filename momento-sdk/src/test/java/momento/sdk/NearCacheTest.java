@@ -0,0 +1,147 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import momento.sdk.config.NearCacheConfiguration;
+import org.junit.jupiter.api.Test;
+
+class NearCacheTest {
+
+  private static final String CACHE_NAME = "cache";
+  private static final ByteString KEY = ByteString.copyFromUtf8("key");
+  private static final ByteString VALUE = ByteString.copyFromUtf8("value");
+
+  @Test
+  public void storesAndReturnsValue() {
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(1024 * 1024, Duration.ofMinutes(1)));
+
+    assertThat(nearCache.get(CACHE_NAME, KEY)).isNull();
+    nearCache.putIfUnchanged(
+        CACHE_NAME, KEY, VALUE, Duration.ofMinutes(1), nearCache.readStamp(CACHE_NAME, KEY));
+
+    assertThat(nearCache.get(CACHE_NAME, KEY)).isEqualTo(VALUE);
+    assertThat(nearCache.get("other-cache", KEY)).isNull();
+    assertThat(nearCache.stats().getHitCount()).isEqualTo(1);
+    assertThat(nearCache.stats().getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void invalidationRejectsValuesFetchedBeforeIt() {
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(1024 * 1024, Duration.ofMinutes(1)));
+
+    final long staleStamp = nearCache.readStamp(CACHE_NAME, KEY);
+    final long writeStamp = nearCache.invalidate(CACHE_NAME, KEY);
+    nearCache.putIfUnchanged(CACHE_NAME, KEY, VALUE, Duration.ofMinutes(1), staleStamp);
+    assertThat(nearCache.get(CACHE_NAME, KEY)).isNull();
+
+    nearCache.putIfUnchanged(CACHE_NAME, KEY, VALUE, Duration.ofMinutes(1), writeStamp);
+    assertThat(nearCache.get(CACHE_NAME, KEY)).isEqualTo(VALUE);
+
+    nearCache.invalidate(CACHE_NAME, KEY);
+    assertThat(nearCache.get(CACHE_NAME, KEY)).isNull();
+  }
+
+  @Test
+  public void expiresAtConfiguredMaxTtl() throws InterruptedException {
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(1024 * 1024, Duration.ofMillis(10)));
+
+    nearCache.putIfUnchanged(
+        CACHE_NAME, KEY, VALUE, Duration.ofMinutes(1), nearCache.readStamp(CACHE_NAME, KEY));
+    Thread.sleep(50);
+
+    assertThat(nearCache.get(CACHE_NAME, KEY)).isNull();
+    assertThat(nearCache.stats().getEntryCount()).isZero();
+  }
+
+  @Test
+  public void frequentlyReadValuesAreNotDisplacedByOneOffWrites() {
+    // Holds 8 items of about 1 KB in the main region.
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(10_000, Duration.ofMinutes(1)));
+    final ByteString largeValue = ByteString.copyFrom(new byte[1000]);
+
+    for (int i = 0; i < 8; i++) {
+      final ByteString key = ByteString.copyFromUtf8("hot-" + i);
+      for (int read = 0; read < 5; read++) {
+        nearCache.get(CACHE_NAME, key);
+      }
+      nearCache.putIfUnchanged(
+          CACHE_NAME, key, largeValue, Duration.ofMinutes(1), nearCache.readStamp(CACHE_NAME, key));
+    }
+
+    final ByteString coldKey = ByteString.copyFromUtf8("cold");
+    nearCache.putIfUnchanged(
+        CACHE_NAME,
+        coldKey,
+        largeValue,
+        Duration.ofMinutes(1),
+        nearCache.readStamp(CACHE_NAME, coldKey));
+
+    assertThat(nearCache.stats().getEvictionCount()).isEqualTo(1);
+    assertThat(nearCache.stats().getSizeBytes()).isLessThanOrEqualTo(10_000);
+    for (int i = 0; i < 8; i++) {
+      assertThat(nearCache.get(CACHE_NAME, ByteString.copyFromUtf8("hot-" + i))).isNotNull();
+    }
+    assertThat(nearCache.get(CACHE_NAME, coldKey)).isNull();
+  }
+
+  @Test
+  public void rejectedCandidatesDoNotEvictLessPopularItems() {
+    // A single segment whose main region holds the two 4 KB items, but not a 6 KB item as well.
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(10_000, Duration.ofMinutes(1)));
+    final ByteString cold = ByteString.copyFromUtf8("cold");
+    final ByteString hot = ByteString.copyFromUtf8("hot");
+    final ByteString candidate = ByteString.copyFromUtf8("candidate");
+    put(nearCache, cold, 3900);
+    put(nearCache, hot, 3900);
+    for (int read = 0; read < 5; read++) {
+      nearCache.get(CACHE_NAME, hot);
+    }
+    for (int read = 0; read < 3; read++) {
+      nearCache.get(CACHE_NAME, candidate);
+    }
+
+    // Making room means evicting both items, and the candidate is less popular than the hot one.
+    put(nearCache, candidate, 6000);
+
+    assertThat(nearCache.get(CACHE_NAME, candidate)).isNull();
+    assertThat(nearCache.get(CACHE_NAME, cold)).isNotNull();
+    assertThat(nearCache.get(CACHE_NAME, hot)).isNotNull();
+    assertThat(nearCache.stats().getEvictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void spreadsKeysAcrossSegmentsWithinTheSizeBound() {
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(1024 * 1024, Duration.ofMinutes(1)));
+
+    for (int i = 0; i < 1000; i++) {
+      put(nearCache, ByteString.copyFromUtf8("key-" + i), 100);
+    }
+
+    assertThat(nearCache.stats().getEntryCount()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(nearCache.get(CACHE_NAME, ByteString.copyFromUtf8("key-" + i))).isNotNull();
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      put(nearCache, ByteString.copyFromUtf8("more-" + i), 1000);
+    }
+    assertThat(nearCache.stats().getSizeBytes()).isLessThanOrEqualTo(1024 * 1024);
+  }
+
+  private static void put(NearCache nearCache, ByteString key, int valueSize) {
+    nearCache.putIfUnchanged(
+        CACHE_NAME,
+        key,
+        ByteString.copyFrom(new byte[valueSize]),
+        Duration.ofMinutes(1),
+        nearCache.readStamp(CACHE_NAME, key));
+  }
+}
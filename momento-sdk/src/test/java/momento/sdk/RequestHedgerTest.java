@@ -0,0 +1,165 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.protobuf.ByteString;
+import grpc.cache_client.ScsGrpc;
+import grpc.cache_client._GetResponse;
+import grpc.cache_client._SetResponse;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import momento.sdk.config.HedgingPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest {
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  private final SettableFuture<_GetResponse> primary = SettableFuture.create();
+  private final SettableFuture<_GetResponse> hedge = SettableFuture.create();
+  private final CountDownLatch hedgeSent = new CountDownLatch(1);
+  private final AtomicInteger hedgesSent = new AtomicInteger();
+
+  @AfterEach
+  void teardown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void sendsAHedgeOnceTheDelayHasPassed() throws InterruptedException {
+    final ListenableFuture<_GetResponse> request = sendGet(Duration.ofMillis(50));
+    assertThat(hedgesSent.get()).isZero();
+
+    assertThat(hedgeSent.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(hedgesSent.get()).isEqualTo(1);
+    assertThat(request.isDone()).isFalse();
+  }
+
+  @Test
+  public void completesWithTheHedgeAndLeavesThePrimaryToComplete() throws Exception {
+    final ListenableFuture<_GetResponse> request = sendGet(Duration.ofMillis(10));
+    assertThat(hedgeSent.await(5, TimeUnit.SECONDS)).isTrue();
+    // The scheduler has one thread, so this waits for the hedge to finish being sent.
+    scheduler.submit(() -> {}).get();
+
+    final _GetResponse hedgeResponse =
+        _GetResponse.newBuilder().setCacheBody(ByteString.copyFromUtf8("hedge")).build();
+    hedge.set(hedgeResponse);
+
+    assertThat(request.get()).isSameAs(hedgeResponse);
+    // The primary's latency is still needed for the percentile.
+    assertThat(primary.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void cancelsTheHedgeWhenThePrimaryWins() throws Exception {
+    final ListenableFuture<_GetResponse> request = sendGet(Duration.ofMillis(10));
+    assertThat(hedgeSent.await(5, TimeUnit.SECONDS)).isTrue();
+    scheduler.submit(() -> {}).get();
+
+    final _GetResponse primaryResponse = _GetResponse.getDefaultInstance();
+    primary.set(primaryResponse);
+
+    assertThat(request.get()).isSameAs(primaryResponse);
+    assertThat(hedge.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void failsAsSoonAsThePrimaryFailsBeforeTheDelay() {
+    final ListenableFuture<_GetResponse> request = sendGet(Duration.ofMinutes(1));
+
+    primary.setException(Status.UNAVAILABLE.asRuntimeException());
+
+    assertThat(request.isDone()).isTrue();
+    assertThatThrownBy(request::get).isInstanceOf(ExecutionException.class);
+    assertThat(hedgesSent.get()).isZero();
+  }
+
+  @Test
+  public void neverHedgesWrites() {
+    final RequestHedger hedger =
+        new RequestHedger(HedgingPolicy.fixedDelay(Duration.ofMillis(1)), scheduler);
+    final SettableFuture<_SetResponse> set = SettableFuture.create();
+
+    final ListenableFuture<_SetResponse> request =
+        hedger.send(
+            ScsGrpc.getSetMethod(),
+            () -> set,
+            () -> {
+              hedgesSent.incrementAndGet();
+              return SettableFuture.create();
+            });
+
+    // A write is sent as it is, with no timer that could send a second copy.
+    assertThat(request).isSameAs(set);
+  }
+
+  @Test
+  public void tracksPercentilesOnceEnoughLatenciesAreRecorded() {
+    final RequestHedger.LatencyTracker tracker = new RequestHedger.LatencyTracker();
+    for (long latency = 1; latency < 100; latency++) {
+      tracker.record(latency);
+    }
+    assertThat(tracker.percentileNanos(95)).isEqualTo(-1);
+
+    tracker.record(100);
+    assertThat(tracker.percentileNanos(95)).isEqualTo(95);
+    assertThat(tracker.percentileNanos(50)).isEqualTo(50);
+  }
+
+  @Test
+  public void recordsThePrimaryLatencyWhenTheHedgeWins() throws Exception {
+    final RequestHedger hedger =
+        new RequestHedger(HedgingPolicy.percentileDelay(90, Duration.ofMillis(1)), scheduler);
+    final RequestHedger.LatencyTracker tracker = hedger.tracker(ScsGrpc.getGetMethod());
+    for (int i = 0; i < 100; i++) {
+      tracker.record(Duration.ofMillis(10).toNanos());
+    }
+
+    // Every hedge answers at once, while the primaries take at least 100ms.
+    final List<SettableFuture<_GetResponse>> primaries = new ArrayList<>();
+    final List<ListenableFuture<_GetResponse>> requests = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      final SettableFuture<_GetResponse> slowPrimary = SettableFuture.create();
+      primaries.add(slowPrimary);
+      requests.add(
+          hedger.send(
+              ScsGrpc.getGetMethod(),
+              () -> slowPrimary,
+              () -> Futures.immediateFuture(_GetResponse.getDefaultInstance())));
+    }
+    Futures.allAsList(requests).get(5, TimeUnit.SECONDS);
+    Thread.sleep(100);
+    for (SettableFuture<_GetResponse> slowPrimary : primaries) {
+      slowPrimary.set(_GetResponse.getDefaultInstance());
+    }
+
+    // Recording the hedges' latencies would have kept the percentile near the 10ms delay.
+    assertThat(tracker.percentileNanos(90))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(100).toNanos());
+  }
+
+  private ListenableFuture<_GetResponse> sendGet(Duration delay) {
+    final RequestHedger hedger = new RequestHedger(HedgingPolicy.fixedDelay(delay), scheduler);
+    return hedger.send(
+        ScsGrpc.getGetMethod(),
+        () -> primary,
+        () -> {
+          hedgesSent.incrementAndGet();
+          hedgeSent.countDown();
+          return hedge;
+        });
+  }
+}
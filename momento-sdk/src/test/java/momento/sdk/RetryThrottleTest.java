@@ -0,0 +1,27 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import momento.sdk.config.retry.RetryBudget;
+import org.junit.jupiter.api.Test;
+
+class RetryThrottleTest {
+
+  @Test
+  public void stopsRetryingOnceHalfTheBudgetIsSpentAndRefillsOnSuccess() {
+    final RetryThrottle throttle = new RetryThrottle(new RetryBudget(4, 0.5));
+
+    assertThat(throttle.tryRetry()).isTrue();
+    assertThat(throttle.tryRetry()).isFalse();
+    assertThat(throttle.tryRetry()).isFalse();
+
+    for (int i = 0; i < 4; i++) {
+      throttle.onSuccess();
+    }
+    assertThat(throttle.tryRetry()).isFalse();
+    for (int i = 0; i < 5; i++) {
+      throttle.onSuccess();
+    }
+    assertThat(throttle.tryRetry()).isTrue();
+  }
+}
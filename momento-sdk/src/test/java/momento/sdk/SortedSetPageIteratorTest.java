@@ -0,0 +1,85 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import grpc.cache_client._SortedSetElement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import momento.sdk.messages.CacheSortedSetFetchResponse;
+import momento.sdk.messages.ScoredElement;
+import org.junit.jupiter.api.Test;
+
+class SortedSetPageIteratorTest {
+
+  // Several elements share scores, so that ties fall across page boundaries.
+  private static final double[] SCORES = {1, 2, 2, 2, 2, 2, 3, 4, 4, 5};
+
+  private final List<_SortedSetElement> ascending = new ArrayList<>();
+  private int requests;
+
+  SortedSetPageIteratorTest() {
+    for (int i = 0; i < SCORES.length; i++) {
+      ascending.add(
+          _SortedSetElement.newBuilder()
+              .setValue(ByteString.copyFromUtf8("element-" + i))
+              .setScore(SCORES[i])
+              .build());
+    }
+  }
+
+  @Test
+  public void walksAscendingScoresAcrossTies() {
+    assertThat(readAll(false, null, null, 2)).isEqualTo(expected(false, 1, 5));
+    assertThat(requests).isEqualTo(6);
+  }
+
+  @Test
+  public void walksDescendingScoresAcrossTies() {
+    assertThat(readAll(true, null, null, 3)).isEqualTo(expected(true, 1, 5));
+  }
+
+  @Test
+  public void staysWithinTheScoreRange() {
+    assertThat(readAll(false, 2.0, 4.0, 4)).isEqualTo(expected(false, 2, 4));
+    assertThat(readAll(true, 2.0, 4.0, 1)).isEqualTo(expected(true, 2, 4));
+  }
+
+  private List<String> readAll(boolean descending, Double minScore, Double maxScore, int pageSize) {
+    final SortedSetPageIterator.PageFetcher fetcher =
+        (min, max, offset, count) -> {
+          requests++;
+          final List<_SortedSetElement> page =
+              ordered(descending).stream()
+                  .filter(e -> min == null || e.getScore() >= min)
+                  .filter(e -> max == null || e.getScore() <= max)
+                  .skip(offset)
+                  .limit(count)
+                  .collect(Collectors.toList());
+          return CompletableFuture.completedFuture(new CacheSortedSetFetchResponse.Hit(page));
+        };
+    final List<String> elements = new ArrayList<>();
+    new SortedSetPageIterator(fetcher, minScore, maxScore, descending, pageSize)
+        .forEachRemaining(
+            page -> page.stream().map(ScoredElement::getElement).forEach(elements::add));
+    return elements;
+  }
+
+  private List<String> expected(boolean descending, double minScore, double maxScore) {
+    return ordered(descending).stream()
+        .filter(e -> e.getScore() >= minScore && e.getScore() <= maxScore)
+        .map(e -> e.getValue().toStringUtf8())
+        .collect(Collectors.toList());
+  }
+
+  private List<_SortedSetElement> ordered(boolean descending) {
+    final Comparator<_SortedSetElement> byScore =
+        Comparator.comparingDouble(_SortedSetElement::getScore);
+    final List<_SortedSetElement> elements = new ArrayList<>(ascending);
+    elements.sort(descending ? byScore.reversed() : byScore);
+    return elements;
+  }
+}
@@ -0,0 +1,24 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class TimedExecutorTest {
+
+  @Test
+  public void runsARejectedCallbackOnTheCallingThread() {
+    final ExecutorService delegate = Executors.newSingleThreadExecutor();
+    delegate.shutdown();
+    final TimedExecutor executor = new TimedExecutor(delegate);
+    final AtomicBoolean ran = new AtomicBoolean();
+
+    executor.execute(() -> ran.set(true));
+
+    assertThat(ran).isTrue();
+    assertThat(executor.stats().getCallbackCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,138 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import momento.sdk.config.WriteCombiningConfiguration;
+import momento.sdk.exceptions.InvalidArgumentException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class WriteCombinerTest {
+
+  private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+  private final List<List<String>> sentBatches = new ArrayList<>();
+
+  @AfterEach
+  void teardown() {
+    scheduler.shutdownNow();
+  }
+
+  private WriteCombiner<String, String, Integer> combiner(Duration maxDelay, int maxElements) {
+    return new WriteCombiner<>(
+        new WriteCombiningConfiguration(maxDelay, maxElements),
+        scheduler,
+        (key, elements) -> {
+          synchronized (sentBatches) {
+            sentBatches.add(new ArrayList<>(elements));
+          }
+          return CompletableFuture.completedFuture(elements.size());
+        });
+  }
+
+  @Test
+  public void sendsABufferOnceItIsFull() {
+    final WriteCombiner<String, String, Integer> combiner = combiner(Duration.ofMinutes(1), 3);
+
+    final CompletableFuture<Integer> first = combiner.add("list", "a");
+    final CompletableFuture<Integer> second = combiner.add("list", "b");
+    assertThat(first).isNotDone();
+
+    final CompletableFuture<Integer> third = combiner.add("list", "c");
+    final CompletableFuture<Integer> fourth = combiner.add("list", "d");
+
+    assertThat(sentBatches).containsExactly(Arrays.asList("a", "b", "c"));
+    assertThat(first.join()).isEqualTo(3);
+    assertThat(second.join()).isEqualTo(3);
+    assertThat(third.join()).isEqualTo(3);
+    assertThat(fourth).isNotDone();
+  }
+
+  @Test
+  public void sendsABufferAfterItsDelay() {
+    final WriteCombiner<String, String, Integer> combiner = combiner(Duration.ofMillis(20), 100);
+
+    final CompletableFuture<Integer> first = combiner.add("list", "a");
+    final CompletableFuture<Integer> second = combiner.add("list", "b");
+
+    assertThat(second.join()).isEqualTo(2);
+    assertThat(first.join()).isEqualTo(2);
+    assertThat(sentBatches).containsExactly(Arrays.asList("a", "b"));
+  }
+
+  @Test
+  public void keepsSeparateBuffersPerKey() {
+    final WriteCombiner<String, String, Integer> combiner = combiner(Duration.ofMinutes(1), 100);
+
+    combiner.add("first", "a");
+    combiner.add("second", "b");
+    combiner.add("first", "c");
+    combiner.flushAll();
+
+    assertThat(sentBatches).containsExactlyInAnyOrder(Arrays.asList("a", "c"), Arrays.asList("b"));
+  }
+
+  @Test
+  public void cancelsTheTimerOfASentBuffer() {
+    scheduler.setRemoveOnCancelPolicy(true);
+    final WriteCombiner<String, String, Integer> combiner = combiner(Duration.ofMinutes(1), 2);
+
+    combiner.add("full", "a");
+    combiner.add("full", "b");
+    combiner.add("flushed", "c");
+    assertThat(scheduler.getQueue()).hasSize(1);
+    combiner.flushAll();
+
+    assertThat(scheduler.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void flushAllCompletesOnceTheSentWritesHave() {
+    final CompletableFuture<Integer> response = new CompletableFuture<>();
+    final WriteCombiner<String, String, Integer> combiner =
+        new WriteCombiner<>(
+            new WriteCombiningConfiguration(Duration.ofMinutes(1), 2),
+            scheduler,
+            (key, elements) -> response);
+
+    combiner.add("full", "a");
+    combiner.add("full", "b");
+    combiner.add("flushed", "c");
+    final CompletableFuture<Void> flushed = combiner.flushAll();
+    assertThat(flushed).isNotDone();
+
+    response.complete(1);
+    assertThat(flushed).isDone();
+  }
+
+  @Test
+  public void failsEveryWriteInAFailedBuffer() {
+    final WriteCombiner<String, String, Integer> combiner =
+        new WriteCombiner<>(
+            new WriteCombiningConfiguration(Duration.ofMinutes(1), 2),
+            scheduler,
+            (key, elements) -> {
+              throw new IllegalStateException("send failed");
+            });
+
+    final CompletableFuture<Integer> first = combiner.add("list", "a");
+    final CompletableFuture<Integer> second = combiner.add("list", "b");
+
+    assertThat(first).isCompletedExceptionally();
+    assertThat(second).isCompletedExceptionally();
+  }
+
+  @Test
+  public void rejectsNonPositiveBounds() {
+    assertThatThrownBy(() -> new WriteCombiningConfiguration(Duration.ZERO, 10))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThatThrownBy(() -> new WriteCombiningConfiguration(Duration.ofMillis(5), 0))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+}
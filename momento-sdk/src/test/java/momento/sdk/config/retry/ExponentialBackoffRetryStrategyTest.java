@@ -0,0 +1,43 @@
+package momento.sdk.config.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import grpc.cache_client.ScsGrpc;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ExponentialBackoffRetryStrategyTest {
+
+  private final ExponentialBackoffRetryStrategy strategy =
+      new ExponentialBackoffRetryStrategy(4, Duration.ofMillis(10), Duration.ofMillis(25));
+
+  @Test
+  public void backsOffExponentiallyUpToTheMaxDelay() {
+    assertThat(strategy.backoffNanos(1)).isEqualTo(Duration.ofMillis(10).toNanos());
+    assertThat(strategy.backoffNanos(2)).isEqualTo(Duration.ofMillis(20).toNanos());
+    assertThat(strategy.backoffNanos(3)).isEqualTo(Duration.ofMillis(25).toNanos());
+    assertThat(strategy.backoffNanos(100)).isEqualTo(Duration.ofMillis(25).toNanos());
+
+    final Optional<Duration> delay =
+        strategy.determineWhenToRetry(Status.UNAVAILABLE, ScsGrpc.getGetMethod(), 2);
+    assertThat(delay)
+        .hasValueSatisfying(d -> assertThat(d).isBetween(Duration.ZERO, Duration.ofMillis(20)));
+  }
+
+  @Test
+  public void onlyRetriesIdempotentRequestsWithTransientFailures() {
+    assertThat(strategy.determineWhenToRetry(Status.UNAVAILABLE, ScsGrpc.getSetMethod(), 1))
+        .isPresent();
+    assertThat(strategy.determineWhenToRetry(Status.UNAVAILABLE, ScsGrpc.getIncrementMethod(), 1))
+        .isEmpty();
+    assertThat(
+            strategy.determineWhenToRetry(Status.UNAVAILABLE, ScsGrpc.getListPushBackMethod(), 1))
+        .isEmpty();
+    assertThat(strategy.determineWhenToRetry(Status.NOT_FOUND, ScsGrpc.getGetMethod(), 1))
+        .isEmpty();
+    assertThat(strategy.determineWhenToRetry(Status.UNAVAILABLE, ScsGrpc.getGetMethod(), 4))
+        .isEmpty();
+  }
+}
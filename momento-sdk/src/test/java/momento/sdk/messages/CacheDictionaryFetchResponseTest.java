@@ -0,0 +1,73 @@
+package momento.sdk.messages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import grpc.cache_client._DictionaryFieldValuePair;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CacheDictionaryFetchResponseTest {
+
+  private final CacheDictionaryFetchResponse.Hit hit =
+      new CacheDictionaryFetchResponse.Hit(
+          Arrays.asList(pair("a", "1"), pair("b", "2"), pair("c", "3")));
+
+  @Test
+  public void looksUpFieldsWithoutAMap() {
+    assertThat(hit.size()).isEqualTo(3);
+    assertThat(hit.valueString("b")).contains("2");
+    assertThat(hit.valueString("missing")).isEmpty();
+    assertThat(hit.valueByteArray("c".getBytes(StandardCharsets.UTF_8)))
+        .hasValueSatisfying(
+            value -> assertThat(value).isEqualTo("3".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void visitsEntriesInOrder() {
+    final Map<String, String> visited = new LinkedHashMap<>();
+    hit.forEachStringString(visited::put);
+    assertThat(visited).containsExactly(entry("a", "1"), entry("b", "2"), entry("c", "3"));
+    assertThat(hit.iteratorStringString())
+        .toIterable()
+        .containsExactly(entry("a", "1"), entry("b", "2"), entry("c", "3"));
+  }
+
+  @Test
+  public void returnsANewMapOnEveryCall() {
+    final Map<String, String> dictionary = hit.valueDictionaryStringString();
+    assertThat(dictionary).hasSize(3).containsEntry("a", "1");
+    dictionary.put("d", "4");
+    assertThat(hit.valueDictionary()).isNotSameAs(dictionary).hasSize(3);
+
+    final Map<String, byte[]> bytes = hit.valueDictionaryStringBytes();
+    bytes.get("a")[0] = 'x';
+    assertThat(hit.valueDictionaryStringBytes().get("a"))
+        .isEqualTo("1".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void reusesTheReadOnlyView() {
+    final Map<String, String> view = hit.valueDictionaryStringStringView();
+    assertThat(view).hasSize(3).containsEntry("a", "1");
+    assertThat(hit.valueDictionaryStringStringView()).isSameAs(view);
+    assertThatThrownBy(() -> view.put("d", "4")).isInstanceOf(UnsupportedOperationException.class);
+    assertThat(hit.valueDictionaryStringString()).isNotSameAs(view).isEqualTo(view);
+  }
+
+  private static _DictionaryFieldValuePair pair(String field, String value) {
+    return _DictionaryFieldValuePair.newBuilder()
+        .setField(ByteString.copyFromUtf8(field))
+        .setValue(ByteString.copyFromUtf8(value))
+        .build();
+  }
+
+  private static Map.Entry<String, String> entry(String field, String value) {
+    return new AbstractMap.SimpleImmutableEntry<>(field, value);
+  }
+}
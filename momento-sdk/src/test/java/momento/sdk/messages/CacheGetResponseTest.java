@@ -0,0 +1,99 @@
+package momento.sdk.messages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import momento.sdk.exceptions.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+class CacheGetResponseTest {
+
+  private static final String VALUE = "a value that is split across two buffers";
+
+  // A rope of two pieces, so the channel write has more than one buffer to send.
+  private final CacheGetResponse.Hit hit =
+      new CacheGetResponse.Hit(
+          ByteString.copyFromUtf8(VALUE.substring(0, 10))
+              .concat(ByteString.copyFromUtf8(VALUE.substring(10))));
+
+  @Test
+  public void readsTheValueAsAReadOnlyBuffer() {
+    final ByteBuffer buffer = hit.valueByteBuffer();
+    assertThat(buffer.isReadOnly()).isTrue();
+    assertThat(buffer.remaining()).isEqualTo(hit.valueLength());
+    assertThat(StandardCharsets.UTF_8.decode(buffer).toString()).isEqualTo(VALUE);
+  }
+
+  @Test
+  public void readsTheValueAsAStream() throws IOException {
+    try (InputStream stream = hit.valueInputStream()) {
+      final ByteArrayOutputStream read = new ByteArrayOutputStream();
+      final byte[] chunk = new byte[7];
+      int length;
+      while ((length = stream.read(chunk)) != -1) {
+        read.write(chunk, 0, length);
+      }
+      assertThat(read.toString("UTF-8")).isEqualTo(VALUE);
+    }
+  }
+
+  @Test
+  public void writesTheValueToAStream() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    hit.writeTo(output);
+    assertThat(output.toString("UTF-8")).isEqualTo(VALUE);
+  }
+
+  @Test
+  public void writesTheWholeValueToAChannelThatAcceptsPartialWrites() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final WritableByteChannel delegate = Channels.newChannel(output);
+    final WritableByteChannel channel =
+        new WritableByteChannel() {
+          @Override
+          public int write(ByteBuffer src) throws IOException {
+            final ByteBuffer slice = src.duplicate();
+            slice.limit(slice.position() + Math.min(3, slice.remaining()));
+            final int written = delegate.write(slice);
+            src.position(src.position() + written);
+            return written;
+          }
+
+          @Override
+          public boolean isOpen() {
+            return delegate.isOpen();
+          }
+
+          @Override
+          public void close() throws IOException {
+            delegate.close();
+          }
+        };
+
+    hit.writeTo(channel);
+
+    assertThat(output.toString("UTF-8")).isEqualTo(VALUE);
+  }
+
+  @Test
+  public void rejectsANonBlockingChannel() throws IOException {
+    final Pipe pipe = Pipe.open();
+    try {
+      pipe.sink().configureBlocking(false);
+      assertThatThrownBy(() -> hit.writeTo(pipe.sink()))
+          .isInstanceOf(InvalidArgumentException.class);
+    } finally {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package momento.sdk.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import momento.sdk.exceptions.MomentoErrorCode;
+import org.junit.jupiter.api.Test;
+
+class HistogramMetricsRecorderTest {
+
+  @Test
+  public void bucketsValuesWithinThreePercent() {
+    for (long value = 0; value < 1_000_000; value += 997) {
+      final long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+      assertThat(highest).isBetween(value, value + value / 32 + 1);
+    }
+    assertThat(LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(Long.MAX_VALUE)))
+        .isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void recordsLatenciesSizesAndResults() {
+    final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+    for (int i = 1; i <= 100; i++) {
+      recorder.onRequestStarted("Get");
+      recorder.onRequestCompleted(
+          "Get", Duration.ofMillis(i).toNanos(), 10, 20, RequestResult.HIT, null);
+    }
+    recorder.onRequestStarted("Get");
+    recorder.onRequestStarted("Get");
+    recorder.onRequestCompleted(
+        "Get", 1, 10, 0, RequestResult.ERROR, MomentoErrorCode.SERVER_UNAVAILABLE);
+
+    final OperationMetrics metrics = recorder.snapshot().get("Get");
+    assertThat(metrics.getRequestCount()).isEqualTo(101);
+    assertThat(metrics.getInFlightCount()).isEqualTo(1);
+    assertThat(metrics.getRequestBytes()).isEqualTo(1010);
+    assertThat(metrics.getResponseBytes()).isEqualTo(2000);
+    assertThat(metrics.getResultCount(RequestResult.HIT)).isEqualTo(100);
+    assertThat(metrics.getErrorCounts()).containsEntry(MomentoErrorCode.SERVER_UNAVAILABLE, 1L);
+    assertThat(metrics.getLatencyPercentile(99))
+        .isBetween(Duration.ofMillis(98), Duration.ofMillis(102));
+    assertThat(metrics.getMaxLatency()).isBetween(Duration.ofMillis(100), Duration.ofMillis(104));
+  }
+}
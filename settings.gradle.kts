@@ -1,2 +1,4 @@
 rootProject.name = "client-sdk-java"
 include("momento-sdk")
+include("momento-sdk-local")
+include("momento-sdk-jmh")